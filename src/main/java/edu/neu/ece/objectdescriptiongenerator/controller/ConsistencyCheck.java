@@ -0,0 +1,68 @@
+package edu.neu.ece.objectdescriptiongenerator.controller;
+
+/**
+ * When the consistency of the input ontology is checked by the reasoner.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public enum ConsistencyCheck {
+
+	/**
+	 * Classify and check the input ontology before extraction, which fails if it
+	 * is inconsistent.
+	 */
+	EAGER("eager"),
+
+	/**
+	 * Classify the input ontology on the first reasoner query and check it once
+	 * object descriptions are generated, so that the check does not delay them.
+	 */
+	DEFERRED("deferred"),
+
+	/**
+	 * Classify the input ontology on the first reasoner query and never check it.
+	 */
+	SKIP("skip");
+
+	/**
+	 * Mode name on console.
+	 */
+	private final String name;
+
+	/**
+	 * Constructor
+	 *
+	 * @param name
+	 *            Mode name on console.
+	 */
+	private ConsistencyCheck(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Get mode name on console.
+	 *
+	 * @return Mode name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the mode with the given name on console.
+	 *
+	 * @param name
+	 *            Mode name on console.
+	 * @return Consistency check mode.
+	 * @throws IllegalArgumentException
+	 *             If no mode has the given name.
+	 */
+	public static ConsistencyCheck fromName(String name) {
+		for (ConsistencyCheck check : values())
+			if (check.name.equalsIgnoreCase(name))
+				return check;
+		throw new IllegalArgumentException("Unknown consistency check: " + name);
+	}
+}
@@ -1,30 +1,63 @@
 package edu.neu.ece.objectdescriptiongenerator.controller;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FilenameUtils;
 import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.semanticweb.owlapi.model.parameters.OntologyCopy;
 import org.semanticweb.owlapi.reasoner.ConsoleProgressMonitor;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+import org.semanticweb.owlapi.reasoner.NullReasonerProgressMonitor;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.semanticweb.owlapi.reasoner.OWLReasonerConfiguration;
 import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
+import org.semanticweb.owlapi.reasoner.ReasonerProgressMonitor;
 import org.semanticweb.owlapi.reasoner.SimpleConfiguration;
-import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import edu.neu.ece.objectdescriptiongenerator.evaluator.SpaceCoverageEvaluator;
+import edu.neu.ece.objectdescriptiongenerator.extractor.ExtractionSnapshot;
+import edu.neu.ece.objectdescriptiongenerator.extractor.ModuleExtractor;
 import edu.neu.ece.objectdescriptiongenerator.extractor.OntologyExtractor;
+import edu.neu.ece.objectdescriptiongenerator.generator.AssertionIndex;
 import edu.neu.ece.objectdescriptiongenerator.generator.ObjectDescriptionGenerator;
-import edu.neu.ece.objectdescriptiongenerator.utility.FileUtil;
+import edu.neu.ece.objectdescriptiongenerator.generator.PoolPolicy;
+import edu.neu.ece.objectdescriptiongenerator.generator.ProgressListener;
+import edu.neu.ece.objectdescriptiongenerator.writer.AxiomSink;
+import edu.neu.ece.objectdescriptiongenerator.writer.CountingAxiomSink;
+import edu.neu.ece.objectdescriptiongenerator.writer.OntologyAxiomSink;
+import edu.neu.ece.objectdescriptiongenerator.writer.OutputFormat;
+import edu.neu.ece.objectdescriptiongenerator.writer.RDFTripleWriter;
+import edu.neu.ece.objectdescriptiongenerator.writer.StandardOutputChannel;
+import edu.neu.ece.objectdescriptiongenerator.writer.TeeAxiomSink;
 import uk.ac.manchester.cs.owl.owlapi.OWLOntologyIRIMapperImpl;
 
 /**
@@ -58,6 +91,54 @@ public class Controller {
 	 */
 	private OWLOntologyIRIMapperImpl IRIMapper;
 
+	/**
+	 * Directory of extraction snapshots, null (no snapshot) by default.
+	 */
+	private File snapshotDirectory;
+
+	/**
+	 * The number of threads that parse the documents of the imports closure of
+	 * the input ontology; 0 (parsed one after another) by default.
+	 */
+	private int loadingThreads;
+
+	/**
+	 * The number of threads that query the input ontology and the reasoner ahead
+	 * of extraction; 0 (queried while extracting) by default.
+	 */
+	private int extractionThreads;
+
+	/**
+	 * Detect whether the axioms of the input ontology are indexed in one pass
+	 * instead of being queried entity by entity; false by default.
+	 */
+	private boolean singlePassExtraction;
+
+	/**
+	 * Detect whether the class and property hierarchies are computed by a
+	 * transitive closure instead of being queried from the reasoner; false by
+	 * default.
+	 */
+	private boolean hierarchyClosure;
+
+	/**
+	 * Detect whether only the module reachable from the root classes is
+	 * extracted; false by default.
+	 */
+	private boolean moduleExtraction;
+
+	/**
+	 * Reasoner that reasons over the input ontology; the structural reasoner by
+	 * default.
+	 */
+	private ReasonerType reasonerType;
+
+	/**
+	 * When the consistency of the input ontology is checked; before extraction
+	 * by default.
+	 */
+	private ConsistencyCheck consistencyCheck;
+
 	/**
 	 * The number of object descriptions; 1 by default.
 	 */
@@ -69,10 +150,60 @@ public class Controller {
 	private long seed;
 
 	/**
-	 * The generated object descriptions as file.
+	 * The number of threads generating object descriptions in parallel; 0 by
+	 * default.
+	 */
+	private int threads;
+
+	/**
+	 * The maximum number of created OWL named individuals kept for reuse per OWL
+	 * class; 0 (unbounded) by default.
+	 */
+	private int maxPoolSize;
+
+	/**
+	 * Policy that decides which OWL named individuals a full individual pool
+	 * keeps; reservoir sampling by default.
+	 */
+	private PoolPolicy poolPolicy;
+
+	/**
+	 * Shard tag of this run inserted into the IRIs of all created OWL named
+	 * individuals; empty by default.
+	 */
+	private String shardTag;
+
+	/**
+	 * The number of generated axioms added to the RDF/XML output ontology in one
+	 * bulk change; 0 (once per object description) by default.
+	 */
+	private int axiomBatchSize;
+
+	/**
+	 * Ascending numbers of object descriptions at which snapshots of the datasets
+	 * and their evaluation results are emitted; empty by default.
+	 */
+	private int[] checkpoints;
+
+	/**
+	 * The generated object descriptions as file, null if they are written to the
+	 * standard output.
 	 */
 	private File outputFile;
 
+	/**
+	 * Serialization format of the generated object descriptions; RDF/XML by
+	 * default.
+	 */
+	private OutputFormat outputFormat;
+
+	/**
+	 * Extra serialization formats that the generated object descriptions are
+	 * written in during the same run, each to a file next to the output file;
+	 * none by default.
+	 */
+	private OutputFormat[] teeFormats;
+
 	/**
 	 * The probability of selecting an OWL class constraint (anonymous super class
 	 * expression) of an OWL class; 0.9 by default.
@@ -207,6 +338,57 @@ public class Controller {
 		 */
 		private OWLOntologyIRIMapperImpl IRIMapper = null;
 
+		/**
+		 * Directory of extraction snapshots; null by default, which means the input
+		 * ontology is extracted in every run.
+		 */
+		private File snapshotDirectory = null;
+
+		/**
+		 * The number of threads that parse the documents of the imports closure of
+		 * the input ontology; 0 by default, which means they are parsed one after
+		 * another by the ontology manager.
+		 */
+		private int loadingThreads = 0;
+
+		/**
+		 * The number of threads that query the input ontology and the reasoner ahead
+		 * of extraction; 0 by default, which means they are queried while
+		 * extracting.
+		 */
+		private int extractionThreads = 0;
+
+		/**
+		 * Detect whether the axioms of the input ontology are indexed in one pass
+		 * instead of being queried entity by entity; false by default.
+		 */
+		private boolean singlePassExtraction = false;
+
+		/**
+		 * Detect whether the class and property hierarchies are computed by a
+		 * transitive closure instead of being queried from the reasoner; false by
+		 * default.
+		 */
+		private boolean hierarchyClosure = false;
+
+		/**
+		 * Detect whether only the module reachable from the root classes is
+		 * extracted; false by default.
+		 */
+		private boolean moduleExtraction = false;
+
+		/**
+		 * Reasoner that reasons over the input ontology; the structural reasoner by
+		 * default.
+		 */
+		private ReasonerType reasonerType = ReasonerType.STRUCTURAL;
+
+		/**
+		 * When the consistency of the input ontology is checked; before extraction
+		 * by default.
+		 */
+		private ConsistencyCheck consistencyCheck = ConsistencyCheck.EAGER;
+
 		/**
 		 * The number of object descriptions; 1 by default.
 		 */
@@ -218,10 +400,66 @@ public class Controller {
 		private long seed = objNumber;
 
 		/**
-		 * The generated object descriptions as file.
+		 * The number of threads generating object descriptions in parallel; 0 by
+		 * default, which means object descriptions are generated sequentially.
+		 */
+		private int threads = 0;
+
+		/**
+		 * The maximum number of created OWL named individuals kept for reuse per OWL
+		 * class; 0 by default, which means individual pools are unbounded.
+		 */
+		private int maxPoolSize = 0;
+
+		/**
+		 * Policy that decides which OWL named individuals a full individual pool
+		 * keeps; reservoir sampling by default.
+		 */
+		private PoolPolicy poolPolicy = PoolPolicy.RESERVOIR;
+
+		/**
+		 * Shard tag of this run inserted into the IRIs of all created OWL named
+		 * individuals; empty by default.
+		 */
+		private String shardTag = "";
+
+		/**
+		 * The number of generated axioms added to the RDF/XML output ontology in
+		 * one bulk change; 0 by default, which means axioms are added once per
+		 * object description.
+		 */
+		private int axiomBatchSize = 0;
+
+		/**
+		 * Ascending numbers of object descriptions at which snapshots of the datasets
+		 * and their evaluation results are emitted; empty by default.
+		 */
+		private int[] checkpoints = new int[0];
+
+		/**
+		 * Serialization format of the generated object descriptions; RDF/XML by
+		 * default.
+		 */
+		private OutputFormat outputFormat = OutputFormat.RDF_XML;
+
+		/**
+		 * Extra serialization formats that the generated object descriptions are
+		 * written in during the same run; none by default.
+		 */
+		private OutputFormat[] teeFormats = new OutputFormat[0];
+
+		/**
+		 * The generated object descriptions as file, null if they are written to the
+		 * standard output or if the default output file is used.
+		 */
+		private File outputFile;
+
+		/**
+		 * True if the output file is derived from the number of object descriptions
+		 * and the output format once the controller is built, false if it is set
+		 * explicitly.
 		 */
-		private File outputFile = FileUtil
-				.createFile("instancedata" + File.separator + "ObjectDescription" + objNumber + ".rdf");
+		private boolean isDefaultOutputFile = true;
 
 		/**
 		 * The probability of selecting an OWL class constraint (anonymous super class
@@ -350,6 +588,123 @@ public class Controller {
 			return this;
 		}
 
+		/**
+		 * Set the directory of extraction snapshots. The extracted ontology model is
+		 * saved there after a full extraction, and restored from there by later runs
+		 * against unchanged ontology documents, which skip reasoning and extraction.
+		 * 
+		 * @param snapshotDirectory
+		 *            Directory of extraction snapshots.
+		 * @return Current Builder object.
+		 */
+		public Builder setSnapshotDirectory(File snapshotDirectory) {
+			this.snapshotDirectory = snapshotDirectory;
+			return this;
+		}
+
+		/**
+		 * Set the number of threads that parse the documents of the imports closure
+		 * of the input ontology, e.g. the local documents of an IRI mapping. Each
+		 * document is parsed as soon as an importing document is parsed, so that
+		 * the imports closure loads in roughly the time of its largest document.
+		 * 
+		 * @param loadingThreads
+		 *            The number of loading threads; 0 to parse the documents one
+		 *            after another.
+		 * @return Current Builder object.
+		 */
+		public Builder setLoadingThreads(int loadingThreads) {
+			this.loadingThreads = loadingThreads;
+			return this;
+		}
+
+		/**
+		 * Set the number of threads that query the input ontology and the reasoner
+		 * ahead of extraction. The extracted ontology model is the same for any
+		 * number of threads.
+		 * 
+		 * @param extractionThreads
+		 *            The number of extraction threads, 0 to query while extracting.
+		 * @return Current Builder object.
+		 */
+		public Builder setExtractionThreads(int extractionThreads) {
+			this.extractionThreads = extractionThreads;
+			return this;
+		}
+
+		/**
+		 * Set whether the axioms of the input ontology are indexed by entity in one
+		 * pass instead of being queried entity by entity. The extracted ontology
+		 * model holds the same relations, but generated datasets may differ from the
+		 * ones of per-entity extraction for the same random seed.
+		 * 
+		 * @param singlePassExtraction
+		 *            true to index the axioms in one pass.
+		 * @return Current Builder object.
+		 */
+		public Builder setSinglePassExtraction(boolean singlePassExtraction) {
+			this.singlePassExtraction = singlePassExtraction;
+			return this;
+		}
+
+		/**
+		 * Set whether the class and property hierarchies are computed by a bitset
+		 * transitive closure of the told hierarchy instead of being queried from the
+		 * reasoner entity by entity. The extracted ontology model holds the same
+		 * relations, but generated datasets may differ from the ones of reasoner
+		 * queries for the same random seed.
+		 * 
+		 * @param hierarchyClosure
+		 *            true to compute the hierarchies by a transitive closure.
+		 * @return Current Builder object.
+		 */
+		public Builder setHierarchyClosure(boolean hierarchyClosure) {
+			this.hierarchyClosure = hierarchyClosure;
+			return this;
+		}
+
+		/**
+		 * Set whether only the classes, properties and named individuals reachable
+		 * from the root classes are extracted, i.e. the root class of a single run
+		 * or the root classes of all jobs, and the reasoner reasons over their
+		 * locality-based module only. Generated datasets are the same as the ones
+		 * from the whole ontology.
+		 * 
+		 * @param moduleExtraction
+		 *            true to extract the module of the root classes.
+		 * @return Current Builder object.
+		 */
+		public Builder setModuleExtraction(boolean moduleExtraction) {
+			this.moduleExtraction = moduleExtraction;
+			return this;
+		}
+
+		/**
+		 * Set the reasoner that reasons over the input ontology. Extraction
+		 * snapshots are keyed by reasoner too, so that a costly classification is
+		 * paid only once per version of the ontology documents.
+		 * 
+		 * @param reasonerType
+		 *            Reasoner type.
+		 * @return Current Builder object.
+		 */
+		public Builder setReasonerType(ReasonerType reasonerType) {
+			this.reasonerType = reasonerType;
+			return this;
+		}
+
+		/**
+		 * Set when the consistency of the input ontology is checked.
+		 * 
+		 * @param consistencyCheck
+		 *            Consistency check mode.
+		 * @return Current Builder object.
+		 */
+		public Builder setConsistencyCheck(ConsistencyCheck consistencyCheck) {
+			this.consistencyCheck = consistencyCheck;
+			return this;
+		}
+
 		/**
 		 * Set the number of object descriptions.
 		 * 
@@ -359,12 +714,109 @@ public class Controller {
 		 */
 		public Builder setObjNumber(int objNumber) {
 			this.objNumber = objNumber;
-			outputFile = FileUtil
-					.createFile("instancedata" + File.separator + "ObjectDescription" + this.objNumber + ".rdf");
 			this.seed = this.objNumber;
 			return this;
 		}
 
+		/**
+		 * Set the number of threads generating object descriptions in parallel. In
+		 * parallel mode, each object description is generated with a random seed
+		 * derived from the base seed and the object index from fresh individual
+		 * pools, so the output is the same for any positive number of threads but
+		 * differs from sequential generation, which shares individual pools. Any
+		 * positive number, 1 included, changes the distribution of the dataset:
+		 * object descriptions never reuse the OWL named individuals of other object
+		 * descriptions, so they aren't linked to each other and create more
+		 * individuals than sequential generation does.
+		 * 
+		 * @param threads
+		 *            The number of threads, 0 for sequential generation.
+		 * @return Current Builder object.
+		 */
+		public Builder setThreads(int threads) {
+			this.threads = threads;
+			return this;
+		}
+
+		/**
+		 * Set the maximum number of created OWL named individuals kept for reuse per
+		 * OWL class. Assertions of the individuals no pool keeps are dropped from the
+		 * assertion index of sequential generation as well, but the output ontology
+		 * of RDF/XML and the evaluation of streamed object descriptions at
+		 * checkpoints, which keeps each distinct axiom, still grow with the number
+		 * of object descriptions.
+		 * 
+		 * @param maxPoolSize
+		 *            The maximum pool size, 0 for unbounded individual pools.
+		 * @return Current Builder object.
+		 */
+		public Builder setMaxPoolSize(int maxPoolSize) {
+			this.maxPoolSize = maxPoolSize;
+			return this;
+		}
+
+		/**
+		 * Set the policy that decides which OWL named individuals a full individual
+		 * pool keeps.
+		 * 
+		 * @param poolPolicy
+		 *            Pool policy.
+		 * @return Current Builder object.
+		 */
+		public Builder setPoolPolicy(PoolPolicy poolPolicy) {
+			this.poolPolicy = poolPolicy;
+			return this;
+		}
+
+		/**
+		 * Set the shard tag of this run, which is inserted into the IRIs of all
+		 * created OWL named individuals, so that runs in separate processes or on
+		 * separate machines produce globally unique IRIs.
+		 * 
+		 * @param shardTag
+		 *            Shard tag, empty for none.
+		 * @return Current Builder object.
+		 */
+		public Builder setShardTag(String shardTag) {
+			this.shardTag = shardTag;
+			return this;
+		}
+
+		/**
+		 * Set the number of generated axioms buffered by the RDF/XML sink before
+		 * they are added to the output ontology in one bulk change. Axioms are
+		 * received once per object description, so a batch holds whole object
+		 * descriptions; larger batches save OWL API change dispatch.
+		 * 
+		 * @param axiomBatchSize
+		 *            The axiom batch size, 0 to add axioms once per object
+		 *            description.
+		 * @return Current Builder object.
+		 */
+		public Builder setAxiomBatchSize(int axiomBatchSize) {
+			this.axiomBatchSize = axiomBatchSize;
+			return this;
+		}
+
+		/**
+		 * Set the numbers of object descriptions at which snapshots of the datasets
+		 * and their evaluation results are emitted, so that a series of datasets of
+		 * growing sizes is generated in one run. An RDF/XML snapshot holds the
+		 * first object descriptions of the run and saves the whole output ontology
+		 * each time, whereas a streamed snapshot holds the object descriptions
+		 * since the previous checkpoint, so that the snapshots up to a checkpoint
+		 * concatenated in order give its dataset.
+		 * 
+		 * @param checkpoints
+		 *            Numbers of object descriptions, each less than the number of
+		 *            object descriptions of the run.
+		 * @return Current Builder object.
+		 */
+		public Builder setCheckpoints(int[] checkpoints) {
+			this.checkpoints = Arrays.stream(checkpoints).sorted().distinct().toArray();
+			return this;
+		}
+
 		/**
 		 * Set the random seed for generating randomized object descriptions.
 		 * 
@@ -387,6 +839,49 @@ public class Controller {
 		 */
 		public Builder setOutputFile(File outputFile) {
 			this.outputFile = outputFile;
+			isDefaultOutputFile = false;
+			return this;
+		}
+
+		/**
+		 * Write the generated object descriptions to the standard output instead of
+		 * a file.
+		 * 
+		 * @return Current Builder object.
+		 */
+		public Builder setStandardOutput() {
+			outputFile = null;
+			isDefaultOutputFile = false;
+			return this;
+		}
+
+		/**
+		 * Set serialization format of the generated object descriptions. N-Triples
+		 * and Turtle are streamed as each object description completes, instead of
+		 * being held in the output ontology.
+		 * 
+		 * @param outputFormat
+		 *            Output format.
+		 * @return Current Builder object.
+		 */
+		public Builder setOutputFormat(OutputFormat outputFormat) {
+			this.outputFormat = outputFormat;
+			return this;
+		}
+
+		/**
+		 * Set extra serialization formats that the generated object descriptions
+		 * are written in during the same run, e.g. RDF/XML and N-Triples at once.
+		 * Each tee format writes to a file next to the output file, with the
+		 * extension of the format; NONE counts the object descriptions, their
+		 * axioms and individuals instead.
+		 * 
+		 * @param teeFormats
+		 *            Tee formats, each different from the output format.
+		 * @return Current Builder object.
+		 */
+		public Builder setTeeFormats(OutputFormat... teeFormats) {
+			this.teeFormats = teeFormats;
 			return this;
 		}
 
@@ -628,8 +1123,25 @@ public class Controller {
 		 * @return An instance of Controller.
 		 */
 		public Controller build() {
+			if (isDefaultOutputFile)
+				outputFile = getDefaultOutputFile();
 			return new Controller(this);
 		}
+
+		/**
+		 * Get the default output file, which is named after the number of object
+		 * descriptions and has the extension of the output format, e.g.
+		 * instancedata/ObjectDescription100.rdf. It has no extension if no output
+		 * is wanted, in which case it only names evaluation results and is never
+		 * written.
+		 * 
+		 * @return Default output file.
+		 */
+		private File getDefaultOutputFile() {
+			String extension = outputFormat.getFileExtension();
+			return new File("instancedata" + File.separator + "ObjectDescription" + objNumber
+					+ (extension.isEmpty() ? "" : "." + extension));
+		}
 	}
 
 	/**
@@ -642,9 +1154,25 @@ public class Controller {
 		this.ontologyIRI = builder.ontologyIRI;
 		this.rootIRIString = builder.rootIRIString;
 		this.IRIMapper = builder.IRIMapper;
+		this.snapshotDirectory = builder.snapshotDirectory;
+		this.loadingThreads = builder.loadingThreads;
+		this.extractionThreads = builder.extractionThreads;
+		this.singlePassExtraction = builder.singlePassExtraction;
+		this.hierarchyClosure = builder.hierarchyClosure;
+		this.moduleExtraction = builder.moduleExtraction;
+		this.reasonerType = builder.reasonerType;
+		this.consistencyCheck = builder.consistencyCheck;
 		this.objNumber = builder.objNumber;
 		this.seed = builder.seed;
+		this.threads = builder.threads;
+		this.maxPoolSize = builder.maxPoolSize;
+		this.poolPolicy = builder.poolPolicy;
+		this.shardTag = builder.shardTag;
+		this.axiomBatchSize = builder.axiomBatchSize;
+		this.checkpoints = builder.checkpoints;
 		this.outputFile = builder.outputFile;
+		this.outputFormat = builder.outputFormat;
+		this.teeFormats = builder.teeFormats;
 		this.classConstraintSelectionProbability = builder.classConstraintSelectionProbability;
 		this.newIndividualProbability = builder.newIndividualProbability;
 		this.classAssertionProbability = builder.classAssertionProbability;
@@ -668,32 +1196,631 @@ public class Controller {
 	 * process.
 	 */
 	public void generateObjectDescriptions() {
+		OntologyExtractor extractor;
+		try {
+			extractor = extractOntology(getModuleRoots(Collections.singletonList(this)));
+		} catch (OWLOntologyCreationException e) {
+			logger.error("Error : Parsing ontologies failed. Reason: " + e.getMessage());
+			e.printStackTrace();
+			return;
+		}
+		generateObjectDescriptions(manager, ont, extractor, AssertionIndex.of(ont), null);
+		checkDeferredConsistency();
+	}
+
+	/**
+	 * This function loads and extracts the input ontology once, then runs a list
+	 * of generation jobs against it. Each job owns an ontology manager with a copy
+	 * of the imports closure of the input ontology, as well as its own output file
+	 * and evaluation results, whereas the extracted ontology model is shared by
+	 * all jobs. A failing job is reported and doesn't stop the other jobs.
+	 * 
+	 * @param jobs
+	 *            Controllers of the jobs, which share the input ontology of this
+	 *            controller.
+	 * @param jobThreads
+	 *            The number of jobs run concurrently, 0 to run jobs one after
+	 *            another.
+	 * @return True if all jobs succeeded, false otherwise.
+	 */
+	public boolean generateObjectDescriptions(List<Controller> jobs, int jobThreads) {
+		Set<File> outputFiles = new HashSet<>();
+		Set<File> evaluationFiles = new HashSet<>();
+		for (Controller job : jobs) {
+			for (File outputFile : job.getOutputFiles()) {
+				if (!outputFiles.add(outputFile.getAbsoluteFile())) {
+					logger.error("Jobs must have distinct output files: " + outputFile.getPath());
+					return false;
+				}
+			}
+			for (File evaluationFile : job.getEvaluationFiles()) {
+				if (!evaluationFiles.add(evaluationFile.getAbsoluteFile())) {
+					logger.error("Jobs must have distinct output file names, since evaluation results are named after them: "
+							+ evaluationFile.getPath());
+					return false;
+				}
+			}
+		}
+
+		OntologyExtractor extractor;
+		try {
+			extractor = extractOntology(getModuleRoots(jobs));
+		} catch (OWLOntologyCreationException e) {
+			logger.error("Error : Parsing ontologies failed. Reason: " + e.getMessage());
+			e.printStackTrace();
+			return false;
+		}
+		// Assertions of the input ontology are indexed once for all jobs, whose
+		// shallow copies share its axioms.
+		AssertionIndex inputAssertionIndex = AssertionIndex.of(ont);
+
+		long timeStart = System.currentTimeMillis();
+		int jobNumber = jobs.size();
+		int workerNumber = Math.min(jobThreads, jobNumber);
+		int failedJobNumber = 0;
+		if (workerNumber < 1) {
+			for (int i = 0; i < jobNumber; i++)
+				if (!runJob(jobs.get(i), i, jobNumber, extractor, inputAssertionIndex))
+					failedJobNumber++;
+		} else {
+			logger.info("Running " + jobNumber + " jobs with " + workerNumber + " threads...");
+			ExecutorService executor = Executors.newFixedThreadPool(workerNumber);
+			List<Future<Boolean>> results = new ArrayList<>();
+			try {
+				for (int i = 0; i < jobNumber; i++) {
+					int index = i;
+					results.add(executor.submit(
+							() -> runJob(jobs.get(index), index, jobNumber, extractor, inputAssertionIndex)));
+				}
+				for (int i = 0; i < jobNumber; i++) {
+					try {
+						if (!results.get(i).get())
+							failedJobNumber++;
+					} catch (ExecutionException e) {
+						logger.error("Job " + (i + 1) + " of " + jobNumber + " failed. Reason: " + e.getCause());
+						e.printStackTrace();
+						failedJobNumber++;
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				logger.error("Running jobs was interrupted.");
+				return false;
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+		long totalTime = System.currentTimeMillis() - timeStart;
+		logger.info("The time for running " + jobNumber + " jobs is: " + totalTime + " ms.");
+		if (failedJobNumber > 0)
+			logger.error(failedJobNumber + " of " + jobNumber + " jobs failed.");
+		checkDeferredConsistency();
+		return failedJobNumber == 0;
+	}
+
+	/**
+	 * Run a generation job against a copy of the input ontology. Evaluation
+	 * results of the job are dumped into
+	 * evaluationresults/SpaceCoverageEvaluationResults_<OUTPUT FILE NAME>.txt.
+	 * 
+	 * @param job
+	 *            Controller of the job.
+	 * @param index
+	 *            Job index.
+	 * @param jobNumber
+	 *            The number of jobs.
+	 * @param extractor
+	 *            Ontology extractor that has extracted the input ontology.
+	 * @param inputAssertionIndex
+	 *            Index of the assertions of the input ontology and its imports
+	 *            closure.
+	 * @return True if the job succeeded, false otherwise.
+	 */
+	private boolean runJob(Controller job, int index, int jobNumber, OntologyExtractor extractor,
+			AssertionIndex inputAssertionIndex) {
+		logger.info("Running job " + (index + 1) + " of " + jobNumber + "...");
+		OWLOntologyManager jobManager = OWLManager.createOWLOntologyManager();
+		OWLOntology jobOnt = null;
+		try {
+			for (OWLOntology o : ont.importsClosure().collect(Collectors.toList())) {
+				OWLOntology copy = jobManager.copyOntology(o, OntologyCopy.SHALLOW);
+				if (o.getOntologyID().equals(ont.getOntologyID()))
+					jobOnt = copy;
+			}
+		} catch (OWLOntologyCreationException e) {
+			logger.error("Error : Copying ontologies for job " + (index + 1) + " failed. Reason: " + e.getMessage());
+			e.printStackTrace();
+			return false;
+		}
+		boolean isDone;
+		try {
+			isDone = job.generateObjectDescriptions(jobManager, jobOnt, extractor, inputAssertionIndex,
+					job.getEvaluationFile(job.outputFile));
+		} catch (RuntimeException e) {
+			logger.error("Error : Job " + (index + 1) + " failed. Reason: " + e);
+			e.printStackTrace();
+			isDone = false;
+		}
+		if (isDone)
+			logger.info("Job " + (index + 1) + " of " + jobNumber + " is done.");
+		else
+			logger.error("Job " + (index + 1) + " of " + jobNumber + " failed.");
+		return isDone;
+	}
+
+	/**
+	 * Get the local file that the evaluation results of a dataset are dumped
+	 * into, evaluationresults/SpaceCoverageEvaluationResults_<DATASET FILE
+	 * NAME>.txt.
+	 * 
+	 * @param datasetFile
+	 *            Dataset file, i.e. the output file or a snapshot file.
+	 * @return Evaluation results file.
+	 */
+	private File getEvaluationFile(File datasetFile) {
+		return new File("evaluationresults" + File.separator + "SpaceCoverageEvaluationResults_"
+				+ FilenameUtils.getBaseName(datasetFile.getName()) + ".txt");
+	}
+
+	/**
+	 * Get the local files that evaluation results of this controller are dumped
+	 * into when run as a job: the one of the output file, unless streamed object
+	 * descriptions are not evaluated, and the ones of its snapshots.
+	 * 
+	 * @return Evaluation results files.
+	 */
+	private List<File> getEvaluationFiles() {
+		List<File> evaluationFiles = new ArrayList<>();
+		if (!outputFormat.isStreaming() || checkpoints.length > 0)
+			evaluationFiles.add(getEvaluationFile(outputFile));
+		for (int checkpoint : checkpoints)
+			evaluationFiles.add(getEvaluationFile(getSnapshotFile(checkpoint)));
+		return evaluationFiles;
+	}
+
+	/**
+	 * Generate object descriptions from an extracted input ontology, and evaluate
+	 * their space coverage.
+	 * 
+	 * @param manager
+	 *            Hold of an ontology manager.
+	 * @param ont
+	 *            Hold of input ontology.
+	 * @param extractor
+	 *            Ontology extractor that has extracted the input ontology.
+	 * @param inputAssertionIndex
+	 *            Index of the assertions of the input ontology and its imports
+	 *            closure.
+	 * @param evaluationFile
+	 *            Local file that evaluation results are dumped into, null for the
+	 *            default one.
+	 * @return True if object descriptions are generated, false otherwise.
+	 */
+	private boolean generateObjectDescriptions(OWLOntologyManager manager, OWLOntology ont,
+			OntologyExtractor extractor, AssertionIndex inputAssertionIndex, File evaluationFile) {
 		try {
-			loadOntology();
-			OntologyExtractor extractor = new OntologyExtractor(ont, reasoner);
-			extractor.extract();
 			long timeStart = System.currentTimeMillis();
 			ObjectDescriptionGenerator generator = new ObjectDescriptionGenerator(rootIRIString, objNumber, seed,
-					outputFile, classConstraintSelectionProbability, newIndividualProbability,
-					classAssertionProbability, objectPropertyAssertionProbability, dataPropertyAssertionProbability,
+					threads, maxPoolSize, poolPolicy, shardTag, outputFile, outputFormat,
+					classConstraintSelectionProbability, newIndividualProbability, classAssertionProbability,
+					objectPropertyAssertionProbability, dataPropertyAssertionProbability,
 					superClassSelectionProbability, equivalentObjectPropertySelectionProbability,
 					equivalentDataPropertySelectionProbability, disjointObjectPropertySelectionProbability,
 					disjointDataPropertySelectionProbability, superObjectPropertySelectionProbability,
 					superDataPropertySelectionProbability, inverseObjectPropertySelectionProbability,
 					symmetricObjectPropertySelectionProbability, asymmetricObjectPropertySelectionProbability,
-					irreflexiveObjectPropertySelectionProbability, manager, ont, extractor);
-			generator.generateRandomRDFObjectDescriptionInstances();
+					irreflexiveObjectPropertySelectionProbability, manager, ont, extractor,
+					inputAssertionIndex);
+			// Streamed object descriptions are evaluated as they complete if
+			// snapshots are evaluated along the way.
+			SpaceCoverageEvaluator streamEvaluator = null;
+			List<AxiomSink> sinks = new ArrayList<>();
+			try (AxiomSink sink = createAxiomSinks(manager, generator, sinks)) {
+				AxiomSink generationSink = sink;
+				if (checkpoints.length > 0) {
+					if (outputFormat.isStreaming()) {
+						streamEvaluator = createSpaceCoverageEvaluator(generator, evaluationFile);
+						generationSink = new TeeAxiomSink(sink, streamEvaluator);
+					}
+					generator.setProgressListener(
+							createCheckpointListener(generator, generationSink, sinks.get(0), streamEvaluator));
+				}
+				generator.generateRandomRDFObjectDescriptionInstances(generationSink);
+			}
 			long totalTime = System.currentTimeMillis() - timeStart;
 			logger.info("The time for generating " + objNumber + " object descripitons is: " + totalTime + " ms.");
-			SpaceCoverageEvaluator evaluator = new SpaceCoverageEvaluator(generator);
-			evaluator.evaluateSpaceCoverage(generator.getRootClass());
+			logSinks(sinks);
+			if (streamEvaluator != null) {
+				streamEvaluator.dumpSpaceCoverage(generator.getRootClass());
+				return true;
+			}
+			if (outputFormat.isStreaming()) {
+				logger.info("Space coverage evaluation is skipped since streamed object descriptions are not kept.");
+				return true;
+			}
+			createSpaceCoverageEvaluator(generator, evaluationFile)
+					.evaluateSpaceCoverage(((OntologyAxiomSink) sinks.get(0)).getOntology(), generator.getRootClass());
+			return true;
 
-		} catch (OWLOntologyCreationException e) {
-			logger.error("Error : Parsing ontologies failed. Reason: " + e.getMessage());
-			e.printStackTrace();
 		} catch (OWLOntologyStorageException e) {
+			logger.error("Error : Saving object descriptions failed. Reason: " + e.getMessage());
+			e.printStackTrace();
+		} catch (IOException e) {
+			logger.error("Error : Writing object descriptions failed. Reason: " + e.getMessage());
 			e.printStackTrace();
 		}
+		return false;
+	}
+
+	/**
+	 * Create a space coverage evaluator of generated object descriptions.
+	 * 
+	 * @param generator
+	 *            Object description generator.
+	 * @param evaluationFile
+	 *            Local file that evaluation results are dumped into, null for the
+	 *            default one.
+	 * @return Space coverage evaluator.
+	 */
+	private SpaceCoverageEvaluator createSpaceCoverageEvaluator(ObjectDescriptionGenerator generator,
+			File evaluationFile) {
+		return (evaluationFile == null) ? new SpaceCoverageEvaluator(generator)
+				: new SpaceCoverageEvaluator(generator, evaluationFile);
+	}
+
+	/**
+	 * Create the listener that emits a snapshot of the datasets and its
+	 * evaluation results at each checkpoint. Streamed object descriptions are
+	 * appended to the output file only once, and a snapshot is a copy of what
+	 * has been written since the previous snapshot, so that snapshots cost as
+	 * much as the output file in total and concatenated in order give the
+	 * datasets of growing sizes; they are evaluated incrementally. RDF/XML cannot
+	 * be appended to, so a snapshot is a save of the whole output ontology.
+	 * 
+	 * @param generator
+	 *            Object description generator.
+	 * @param sink
+	 *            Sink that receives object descriptions.
+	 * @param outputSink
+	 *            Sink of the output format, which holds the output ontology for
+	 *            RDF/XML.
+	 * @param streamEvaluator
+	 *            Space coverage evaluator fed by the sink, null if object
+	 *            descriptions are kept in the output ontology.
+	 * @return Progress listener.
+	 */
+	private ProgressListener createCheckpointListener(ObjectDescriptionGenerator generator, AxiomSink sink,
+			AxiomSink outputSink, SpaceCoverageEvaluator streamEvaluator) {
+		// Offset in the output file up to which streamed object descriptions are
+		// in earlier snapshots.
+		long[] snapshotOffset = { 0 };
+		return objectDescriptionNumber -> {
+			if (Arrays.binarySearch(checkpoints, objectDescriptionNumber) < 0)
+				return;
+			File snapshotFile = getSnapshotFile(objectDescriptionNumber);
+			File evaluationFile = getEvaluationFile(snapshotFile);
+			sink.flush();
+			if (streamEvaluator != null) {
+				if (outputFormat != OutputFormat.NONE)
+					snapshotOffset[0] = copyOutputFile(snapshotOffset[0], snapshotFile);
+				streamEvaluator.dumpSpaceCoverage(generator.getRootClass(), evaluationFile);
+			} else {
+				OWLOntology outputOntology = ((OntologyAxiomSink) outputSink).getOntology();
+				try {
+					generator.getManager().saveOntology(outputOntology, new RDFXMLDocumentFormat(),
+							IRI.create(snapshotFile));
+				} catch (OWLOntologyStorageException e) {
+					throw new IOException(e);
+				}
+				new SpaceCoverageEvaluator(generator, evaluationFile).evaluateSpaceCoverage(outputOntology,
+						generator.getRootClass());
+			}
+			if (outputFormat != OutputFormat.NONE)
+				logger.info("Snapshot at " + objectDescriptionNumber + " object descriptions is dumped into local file: "
+						+ snapshotFile.getAbsolutePath());
+		};
+	}
+
+	/**
+	 * Copy what has been written to the output file from an offset on into a
+	 * snapshot file.
+	 * 
+	 * @param offset
+	 *            Offset in the output file to copy from.
+	 * @param snapshotFile
+	 *            Snapshot file, overwritten if it exists.
+	 * @return Offset in the output file up to which it has been copied.
+	 * @throws IOException
+	 *             In case the output file fails to read or the snapshot file
+	 *             fails to write.
+	 */
+	private long copyOutputFile(long offset, File snapshotFile) throws IOException {
+		try (FileChannel in = FileChannel.open(outputFile.toPath(), StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			long end = in.size();
+			for (long position = offset; position < end;)
+				position += in.transferTo(position, end - position, out);
+			return end;
+		}
+	}
+
+	/**
+	 * Get the snapshot file of the first object descriptions of the run, next to
+	 * the output file. The number of object descriptions of the run at the end of
+	 * the output file name (e.g. ObjectDescription3000.rdf) is replaced with the
+	 * number of object descriptions of the snapshot (e.g.
+	 * ObjectDescription500.rdf), which is appended to other output file names
+	 * (e.g. dataset_500.rdf).
+	 * 
+	 * @param objectDescriptionNumber
+	 *            The number of object descriptions of the snapshot.
+	 * @return Snapshot file.
+	 */
+	private File getSnapshotFile(int objectDescriptionNumber) {
+		String name = outputFile.getName();
+		String baseName = FilenameUtils.getBaseName(name);
+		String extension = name.substring(baseName.length());
+		String runNumber = String.valueOf(objNumber);
+		if (baseName.endsWith(runNumber))
+			baseName = baseName.substring(0, baseName.length() - runNumber.length()) + objectDescriptionNumber;
+		else
+			baseName = baseName + "_" + objectDescriptionNumber;
+		return new File(outputFile.getParentFile(), baseName + extension);
+	}
+
+	/**
+	 * Create the sink that receives object descriptions as each of them
+	 * completes: the sink of the output format, fed together with the sinks of
+	 * the tee formats if any.
+	 * 
+	 * @param manager
+	 *            Hold of an ontology manager.
+	 * @param generator
+	 *            Object description generator.
+	 * @param sinks
+	 *            Collects the sink of the output format, followed by the sinks of
+	 *            the tee formats.
+	 * @return Axiom sink.
+	 * @throws IOException
+	 *             In case an output file fails to open.
+	 */
+	private AxiomSink createAxiomSinks(OWLOntologyManager manager, ObjectDescriptionGenerator generator,
+			List<AxiomSink> sinks) throws IOException {
+		try {
+			sinks.add(createAxiomSink(manager, generator, outputFormat, outputFile));
+			for (OutputFormat teeFormat : teeFormats)
+				sinks.add(createAxiomSink(manager, generator, teeFormat, getTeeFile(teeFormat)));
+		} catch (IOException e) {
+			for (AxiomSink sink : sinks)
+				sink.close();
+			throw e;
+		}
+		return (sinks.size() == 1) ? sinks.get(0) : new TeeAxiomSink(sinks.toArray(new AxiomSink[sinks.size()]));
+	}
+
+	/**
+	 * Create the sink of an output format: the output ontology saved as RDF/XML
+	 * once all object descriptions are generated, a triple writer for N-Triples
+	 * and Turtle, or a counting sink that discards object descriptions if no
+	 * output is wanted.
+	 * 
+	 * @param manager
+	 *            Hold of an ontology manager.
+	 * @param generator
+	 *            Object description generator.
+	 * @param format
+	 *            Output format.
+	 * @param file
+	 *            Output file, null for the standard output.
+	 * @return Axiom sink.
+	 * @throws IOException
+	 *             In case the output file fails to open.
+	 */
+	private AxiomSink createAxiomSink(OWLOntologyManager manager, ObjectDescriptionGenerator generator,
+			OutputFormat format, File file) throws IOException {
+		switch (format) {
+		case RDF_XML:
+			return new OntologyAxiomSink(manager, openOutputChannel(file), axiomBatchSize);
+		case NONE:
+			return new CountingAxiomSink();
+		default:
+			return new RDFTripleWriter(openOutputChannel(file), format, generator.getOutputOntologyIRIInString());
+		}
+	}
+
+	/**
+	 * Log what the sinks of the output format and of the tee formats have
+	 * received, in the order of the formats.
+	 * 
+	 * @param sinks
+	 *            Sinks of the output format and of the tee formats.
+	 */
+	private void logSinks(List<AxiomSink> sinks) {
+		for (AxiomSink sink : sinks) {
+			if (sink instanceof RDFTripleWriter) {
+				RDFTripleWriter writer = (RDFTripleWriter) sink;
+				logger.info(String.valueOf(writer.getTripleNumber()) + " triples have been written as "
+						+ writer.getFormat().getName() + ".");
+			} else if (sink instanceof CountingAxiomSink) {
+				CountingAxiomSink counter = (CountingAxiomSink) sink;
+				logger.info(String.valueOf(counter.getAxiomNumber()) + " axioms of "
+						+ counter.getObjectDescriptionNumber() + " object descriptions have been counted, declaring "
+						+ counter.getIndividualNumber() + " OWL individuals.");
+			}
+		}
+	}
+
+	/**
+	 * Get the files that this controller writes object descriptions to: the
+	 * output file unless no output is wanted, and the files of the tee formats.
+	 * 
+	 * @return Output files.
+	 */
+	private List<File> getOutputFiles() {
+		List<File> outputFiles = new ArrayList<>();
+		if (outputFormat != OutputFormat.NONE)
+			outputFiles.add(outputFile);
+		for (OutputFormat teeFormat : teeFormats)
+			if (teeFormat != OutputFormat.NONE)
+				outputFiles.add(getTeeFile(teeFormat));
+		return outputFiles;
+	}
+
+	/**
+	 * Get the file that a tee format writes to, next to the output file, with
+	 * the extension of the format in place of the one of the output file (e.g.
+	 * ObjectDescription100.nt next to ObjectDescription100.rdf).
+	 * 
+	 * @param teeFormat
+	 *            Tee format.
+	 * @return Tee file, null if the tee format writes no output.
+	 */
+	private File getTeeFile(OutputFormat teeFormat) {
+		if (teeFormat == OutputFormat.NONE)
+			return null;
+		return new File(outputFile.getParentFile(),
+				FilenameUtils.getBaseName(outputFile.getName()) + "." + teeFormat.getFileExtension());
+	}
+
+	/**
+	 * Open a channel to an output file, or to the standard output if there is no
+	 * output file, in which case closing the channel only flushes the standard
+	 * output.
+	 * 
+	 * @param file
+	 *            Output file, null for the standard output.
+	 * @return Output channel.
+	 * @throws IOException
+	 *             In case the output file fails to open.
+	 */
+	private WritableByteChannel openOutputChannel(File file) throws IOException {
+		if (file == null)
+			return new StandardOutputChannel(System.out);
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null)
+			Files.createDirectories(parent.toPath());
+		return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+	}
+
+	/**
+	 * This function loads input ontology and extracts it, or restores the
+	 * extracted ontology model from an extraction snapshot of the same ontology
+	 * documents if any. The input ontology is parsed in either case, since the
+	 * generated object descriptions import it, whereas reasoning and extraction
+	 * are skipped when a snapshot is restored.
+	 * 
+	 * @param moduleRoots
+	 *            IRIs of the root classes of the module to extract, null to
+	 *            extract the whole imports closure.
+	 * @return Ontology extractor that has extracted the input ontology.
+	 * @throws OWLOntologyCreationException
+	 *             if failed to load input ontology.
+	 */
+	private OntologyExtractor extractOntology(Set<IRI> moduleRoots) throws OWLOntologyCreationException {
+		parseOntology();
+		if (snapshotDirectory == null)
+			return extract(moduleRoots);
+
+		File snapshotFile = null;
+		try {
+			String key = ExtractionSnapshot.computeKey(ont, reasonerType.getName(), moduleRoots);
+			if (key == null)
+				logger.info("Ontology documents are not local files. Extraction snapshot is disabled.");
+			else
+				snapshotFile = new File(snapshotDirectory, key + ".snapshot");
+		} catch (IOException e) {
+			logger.warn("Hashing ontology documents failed. Reason: " + e.getMessage());
+		}
+		if (snapshotFile != null) {
+			OntologyExtractor extractor = new OntologyExtractor(ont, null);
+			try {
+				if (ExtractionSnapshot.load(extractor, snapshotFile)) {
+					logger.info("Extracted ontology restored from snapshot " + snapshotFile.getPath());
+					if (consistencyCheck == ConsistencyCheck.EAGER)
+						logger.warn("Consistency check skipped: no reasoner is created for a restored snapshot.");
+					return extractor;
+				}
+			} catch (IOException e) {
+				logger.warn("Restoring snapshot " + snapshotFile.getPath()
+						+ " failed, falling back to extraction. Reason: " + e);
+			}
+		}
+
+		OntologyExtractor extractor = extract(moduleRoots);
+		if (snapshotFile != null) {
+			try {
+				ExtractionSnapshot.save(extractor, snapshotFile);
+				logger.info("Extracted ontology saved to snapshot " + snapshotFile.getPath());
+			} catch (IOException e) {
+				logger.warn("Saving snapshot " + snapshotFile.getPath() + " failed. Reason: " + e.getMessage());
+			}
+		}
+		return extractor;
+	}
+
+	/**
+	 * This function reasons over the parsed input ontology and extracts it. If a
+	 * module is extracted, the reasoner reasons over the module ontology only.
+	 * 
+	 * @param moduleRoots
+	 *            IRIs of the root classes of the module to extract, null to
+	 *            extract the whole imports closure.
+	 * @return Ontology extractor that has extracted the input ontology.
+	 * @throws OWLOntologyCreationException
+	 *             if the module ontology fails to be created or the input
+	 *             ontology is inconsistent.
+	 */
+	private OntologyExtractor extract(Set<IRI> moduleRoots) throws OWLOntologyCreationException {
+		Set<OWLEntity> module = null;
+		OWLOntology reasonedOntology = ont;
+		if (moduleRoots != null) {
+			ModuleExtractor moduleExtractor = new ModuleExtractor(ont);
+			module = moduleExtractor.extractSignature(moduleRoots);
+			reasonedOntology = moduleExtractor.extractOntology(module);
+		}
+		reasonOntology(reasonedOntology);
+		OntologyExtractor extractor = new OntologyExtractor(ont, reasoner);
+		extractor.setThreads(getExtractionThreads());
+		extractor.setSinglePass(singlePassExtraction);
+		extractor.setHierarchyClosure(hierarchyClosure);
+		extractor.setModule(module);
+		extractor.extract();
+		return extractor;
+	}
+
+	/**
+	 * Get the number of threads that query the input ontology and the reasoner
+	 * ahead of extraction, which is 0 if the reasoner is not thread safe.
+	 * 
+	 * @return The number of extraction threads.
+	 */
+	private int getExtractionThreads() {
+		if (extractionThreads > 0 && !reasonerType.isThreadSafe()) {
+			logger.warn("The " + reasonerType.getName()
+					+ " reasoner is not thread safe. The input ontology is queried while extracting.");
+			return 0;
+		}
+		return extractionThreads;
+	}
+
+	/**
+	 * Get the root classes of the module to extract for a list of generation
+	 * jobs.
+	 * 
+	 * @param jobs
+	 *            Controllers of the jobs.
+	 * @return IRIs of the root classes of the jobs, null if the whole imports
+	 *         closure is extracted.
+	 */
+	private Set<IRI> getModuleRoots(List<Controller> jobs) {
+		if (!moduleExtraction)
+			return null;
+		Set<IRI> moduleRoots = new HashSet<>();
+		for (Controller job : jobs)
+			moduleRoots.add(IRI.create(job.rootIRIString));
+		return moduleRoots;
 	}
 
 	/**
@@ -704,6 +1831,17 @@ public class Controller {
 	 *             if failed to load input ontology.
 	 */
 	public void loadOntology() throws OWLOntologyCreationException {
+		parseOntology();
+		reasonOntology(ont);
+	}
+
+	/**
+	 * This function parses input ontology and its imports closure.
+	 * 
+	 * @throws OWLOntologyCreationException
+	 *             if failed to parse input ontology.
+	 */
+	private void parseOntology() throws OWLOntologyCreationException {
 		logger.info("Begin loading ontologies...");
 		// logger.info("The absolute path of the input ontology is " +
 		// inputFile.getAbsolutePath());
@@ -716,25 +1854,11 @@ public class Controller {
 		// manager.getIRIMappers().add(new SimpleIRIMapper(ontologyIRI, ontologyIRI));
 		// manager.getIRIMappers().add(new OWLZipClosureIRIMapper(f.getParentFile()));
 
-		ont = manager.loadOntology(ontologyIRI);
-
-		OWLReasonerFactory reasonerFactory = new StructuralReasonerFactory();
-		// OWLReasonerFactory reasonerFactory = new Reasoner.ReasonerFactory();
-		// System.out.println(reasonerFactory.getReasonerName());
-		ConsoleProgressMonitor progressMonitor = new ConsoleProgressMonitor();
-		OWLReasonerConfiguration config = new SimpleConfiguration(progressMonitor);
+		if (loadingThreads > 0)
+			ont = new ImportClosureLoader(manager, loadingThreads).load(ontologyIRI);
+		else
+			ont = manager.loadOntology(ontologyIRI);
 
-		// Create a reasoner that will reason over our ontology and its imports
-		// closure.
-		// Pass in the configuration.
-		reasoner = reasonerFactory.createReasoner(ont, config);
-
-		// Ask the reasoner to do all the necessary work now
-		reasoner.precomputeInferences();
-		if (!reasoner.isConsistent()) {
-			logger.error("Ontology inconsistency : The loaded ontologies are inconsistent");
-			throw new OWLOntologyCreationException();
-		}
 		// If an ontology doesn't have an ontology IRI then we say that it is
 		// "anonymous"
 		String logOntoName;
@@ -750,4 +1874,59 @@ public class Controller {
 		}
 		logger.info("Ontologies loaded successfully! Main Ontology: " + logOntoName);
 	}
+
+	/**
+	 * This function creates the selected reasoner over the parsed input ontology,
+	 * or over its extracted module, and, unless the consistency check is skipped
+	 * or deferred, classifies the ontology and checks its consistency.
+	 * 
+	 * @param reasonedOntology
+	 *            The input ontology or its module ontology.
+	 * @throws OWLOntologyCreationException
+	 *             if the ontology is inconsistent.
+	 */
+	private void reasonOntology(OWLOntology reasonedOntology) throws OWLOntologyCreationException {
+		OWLReasonerFactory reasonerFactory = reasonerType.createFactory();
+		// Progress is printed on the standard output, unless it carries object
+		// descriptions.
+		ReasonerProgressMonitor progressMonitor = (outputFile == null) ? new NullReasonerProgressMonitor()
+				: new ConsoleProgressMonitor();
+		OWLReasonerConfiguration config = new SimpleConfiguration(progressMonitor);
+
+		// Create a reasoner that will reason over our ontology and its imports
+		// closure.
+		// Pass in the configuration.
+		reasoner = reasonerFactory.createReasoner(reasonedOntology, config);
+		logger.info("Reasoner: " + reasoner.getReasonerName());
+		if (consistencyCheck != ConsistencyCheck.EAGER)
+			return;
+
+		// Ask the reasoner to do all the necessary work now
+		reasoner.precomputeInferences(InferenceType.CLASS_HIERARCHY, InferenceType.OBJECT_PROPERTY_HIERARCHY,
+				InferenceType.DATA_PROPERTY_HIERARCHY);
+		if (!reasoner.isConsistent()) {
+			logger.error("Ontology inconsistency : The loaded ontologies are inconsistent");
+			throw new OWLOntologyCreationException();
+		}
+	}
+
+	/**
+	 * This function checks consistency of the input ontology after generation if
+	 * the check is deferred. It is skipped with a warning if the extracted
+	 * ontology model was restored from a snapshot, since no reasoner was created
+	 * then.
+	 */
+	private void checkDeferredConsistency() {
+		if (consistencyCheck != ConsistencyCheck.DEFERRED)
+			return;
+		if (reasoner == null) {
+			logger.warn("Deferred consistency check skipped: no reasoner is created for a restored snapshot.");
+			return;
+		}
+		if (reasoner.isConsistent())
+			logger.info("Deferred consistency check: the loaded ontologies are consistent.");
+		else
+			logger.error("Ontology inconsistency : The loaded ontologies are inconsistent. "
+					+ "Generated object descriptions may be unsound.");
+	}
 }
@@ -0,0 +1,214 @@
+package edu.neu.ece.objectdescriptiongenerator.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.IRIDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyIRIMapper;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.parameters.OntologyCopy;
+
+/**
+ * Loader of the imports closure of an input ontology that parses its local
+ * ontology documents concurrently. The import graph is discovered while
+ * parsing: each document is parsed on a bounded thread pool by its own manager,
+ * which does not follow imports, and the documents it imports are submitted as
+ * soon as it is parsed. The parsed ontologies are then moved into one manager
+ * in the order a serial load registers them, i.e. importing ontologies before
+ * the ontologies they import in declaration order, so that the imports closure
+ * is the same as the one of a serial load and takes roughly the parsing time of
+ * its largest document. Imports that are not mapped to local files are left to
+ * the manager, which loads them serially.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class ImportClosureLoader {
+
+	/**
+	 * Manager that holds the imports closure once loaded.
+	 */
+	private final OWLOntologyManager manager;
+
+	/**
+	 * The number of threads that parse ontology documents.
+	 */
+	private final int threads;
+
+	/**
+	 * Constructor
+	 *
+	 * @param manager
+	 *            Manager that holds the imports closure once loaded, with the IRI
+	 *            mappers of the ontology documents.
+	 * @param threads
+	 *            The number of threads that parse ontology documents.
+	 */
+	public ImportClosureLoader(OWLOntologyManager manager, int threads) {
+		this.manager = manager;
+		this.threads = threads;
+	}
+
+	/**
+	 * Load an ontology and its imports closure.
+	 *
+	 * @param ontologyIRI
+	 *            Ontology IRI or document IRI of the input ontology.
+	 * @return Loaded input ontology.
+	 * @throws OWLOntologyCreationException
+	 *             If an ontology document fails to parse.
+	 */
+	public OWLOntology load(IRI ontologyIRI) throws OWLOntologyCreationException {
+		Map<IRI, OWLOntology> parsedOntologies = new HashMap<>();
+		Map<IRI, List<IRI>> importedIRIs = new HashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CompletionService<OWLOntology> completionService = new ExecutorCompletionService<>(executor);
+			Map<Future<OWLOntology>, IRI> submittedIRIs = new HashMap<>();
+			Set<IRI> seenIRIs = new HashSet<>();
+			Set<IRI> documentIRIs = new HashSet<>();
+			seenIRIs.add(ontologyIRI);
+			IRI mainDocumentIRI = getDocumentIRI(ontologyIRI);
+			documentIRIs.add(mainDocumentIRI);
+			submittedIRIs.put(completionService.submit(() -> parse(mainDocumentIRI)), ontologyIRI);
+			while (!submittedIRIs.isEmpty()) {
+				Future<OWLOntology> future = completionService.take();
+				IRI parsedIRI = submittedIRIs.remove(future);
+				OWLOntology parsed = future.get();
+				parsedOntologies.put(parsedIRI, parsed);
+				List<IRI> imports = parsed.importsDeclarations().map(OWLImportsDeclaration::getIRI)
+						.collect(Collectors.toList());
+				importedIRIs.put(parsedIRI, imports);
+				for (IRI importIRI : imports) {
+					if (!seenIRIs.add(importIRI))
+						continue;
+					IRI documentIRI = getDocumentIRI(importIRI);
+					if (!"file".equalsIgnoreCase(documentIRI.getScheme()) || !documentIRIs.add(documentIRI))
+						continue;
+					submittedIRIs.put(completionService.submit(() -> parse(documentIRI)), importIRI);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OWLOntologyCreationException("Interrupted while loading ontologies", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof OWLOntologyCreationException)
+				throw (OWLOntologyCreationException) e.getCause();
+			throw new OWLOntologyCreationException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		List<OWLOntology> ontologies = new ArrayList<>();
+		order(ontologyIRI, parsedOntologies, importedIRIs, new HashSet<>(), ontologies);
+		List<OWLOntology> moved = new ArrayList<>();
+		for (OWLOntology parsed : ontologies)
+			moved.add(manager.copyOntology(parsed, OntologyCopy.MOVE));
+		// Imports left to the manager, e.g. remote documents.
+		for (OWLOntology o : moved)
+			for (OWLImportsDeclaration declaration : o.importsDeclarations().collect(Collectors.toList()))
+				if (manager.getImportedOntology(declaration) == null)
+					manager.makeLoadImportRequest(declaration);
+		return moved.get(0);
+	}
+
+	/**
+	 * Order the parsed ontologies as a serial load registers them, i.e. each
+	 * ontology before the ontologies it imports, in declaration order.
+	 *
+	 * @param ontologyIRI
+	 *            IRI of the ontology to order.
+	 * @param parsedOntologies
+	 *            Mapping from IRI to parsed ontology.
+	 * @param importedIRIs
+	 *            Mapping from IRI to the IRIs the ontology imports.
+	 * @param visited
+	 *            IRIs of the ontologies ordered so far.
+	 * @param ontologies
+	 *            Ordered ontologies.
+	 */
+	private void order(IRI ontologyIRI, Map<IRI, OWLOntology> parsedOntologies, Map<IRI, List<IRI>> importedIRIs,
+			Set<IRI> visited, List<OWLOntology> ontologies) {
+		if (!parsedOntologies.containsKey(ontologyIRI) || !visited.add(ontologyIRI))
+			return;
+		ontologies.add(parsedOntologies.get(ontologyIRI));
+		for (IRI importIRI : importedIRIs.get(ontologyIRI))
+			order(importIRI, parsedOntologies, importedIRIs, visited, ontologies);
+	}
+
+	/**
+	 * Get the document IRI of an ontology IRI from the IRI mappers of the
+	 * manager.
+	 *
+	 * @param ontologyIRI
+	 *            Ontology IRI.
+	 * @return Mapped document IRI, or the ontology IRI itself if it is not
+	 *         mapped.
+	 */
+	private IRI getDocumentIRI(IRI ontologyIRI) {
+		for (OWLOntologyIRIMapper mapper : manager.getIRIMappers()) {
+			IRI documentIRI = mapper.getDocumentIRI(ontologyIRI);
+			if (documentIRI != null)
+				return documentIRI;
+		}
+		return ontologyIRI;
+	}
+
+	/**
+	 * Parse an ontology document by its own manager, without following its
+	 * imports.
+	 *
+	 * @param documentIRI
+	 *            Document IRI.
+	 * @return Parsed ontology.
+	 * @throws OWLOntologyCreationException
+	 *             If the document fails to parse.
+	 */
+	private static OWLOntology parse(IRI documentIRI) throws OWLOntologyCreationException {
+		OWLOntologyManager documentManager = OWLManager.createOWLOntologyManager();
+		return documentManager.loadOntologyFromOntologyDocument(new IRIDocumentSource(documentIRI),
+				new ImportIgnoringConfiguration());
+	}
+
+	/**
+	 * Loader configuration that ignores all imports, since they are parsed on
+	 * their own.
+	 */
+	private static class ImportIgnoringConfiguration extends OWLOntologyLoaderConfiguration {
+
+		/**
+		 * Serial version UID.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Ignore any import.
+		 *
+		 * @param iri
+		 *            Imported ontology IRI.
+		 * @return true.
+		 */
+		@Override
+		public boolean isIgnoredImport(IRI iri) {
+			return true;
+		}
+	}
+}
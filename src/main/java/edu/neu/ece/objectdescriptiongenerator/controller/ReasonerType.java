@@ -0,0 +1,100 @@
+package edu.neu.ece.objectdescriptiongenerator.controller;
+
+import org.semanticweb.HermiT.ReasonerFactory;
+import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
+
+/**
+ * OWL reasoners that reason over the input ontology before extraction.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public enum ReasonerType {
+
+	/**
+	 * Structural reasoner of the OWL API, which infers the told class and
+	 * property hierarchies only.
+	 */
+	STRUCTURAL("structural", true),
+
+	/**
+	 * HermiT, a complete OWL 2 DL reasoner, whose classification is costly on
+	 * large ontologies. The disjoint classes of each class are found by a
+	 * hierarchy search of its complement, which cannot be batched, so it is
+	 * impractical for inputs of the size of WM30.
+	 */
+	HERMIT("hermit", false);
+
+	/**
+	 * Reasoner name on console.
+	 */
+	private final String name;
+
+	/**
+	 * True if the reasoner may be queried by several threads at once.
+	 */
+	private final boolean isThreadSafe;
+
+	/**
+	 * Constructor
+	 *
+	 * @param name
+	 *            Reasoner name on console.
+	 * @param isThreadSafe
+	 *            True if the reasoner may be queried by several threads at once.
+	 */
+	private ReasonerType(String name, boolean isThreadSafe) {
+		this.name = name;
+		this.isThreadSafe = isThreadSafe;
+	}
+
+	/**
+	 * Get reasoner name on console.
+	 *
+	 * @return Reasoner name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Check if the reasoner may be queried by several threads at once.
+	 *
+	 * @return True if the reasoner is thread safe, false otherwise.
+	 */
+	public boolean isThreadSafe() {
+		return isThreadSafe;
+	}
+
+	/**
+	 * Create a factory of the reasoner.
+	 *
+	 * @return Reasoner factory.
+	 */
+	public OWLReasonerFactory createFactory() {
+		switch (this) {
+		case HERMIT:
+			return new ReasonerFactory();
+		default:
+			return new StructuralReasonerFactory();
+		}
+	}
+
+	/**
+	 * Get the reasoner with the given name on console.
+	 *
+	 * @param name
+	 *            Reasoner name on console.
+	 * @return Reasoner type.
+	 * @throws IllegalArgumentException
+	 *             If no reasoner has the given name.
+	 */
+	public static ReasonerType fromName(String name) {
+		for (ReasonerType type : values())
+			if (type.name.equalsIgnoreCase(name))
+				return type;
+		throw new IllegalArgumentException("Unknown reasoner: " + name);
+	}
+}
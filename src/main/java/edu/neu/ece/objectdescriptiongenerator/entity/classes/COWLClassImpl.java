@@ -1,10 +1,18 @@
 package edu.neu.ece.objectdescriptiongenerator.entity.classes;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 import org.semanticweb.owlapi.model.HasIRI;
 import org.semanticweb.owlapi.model.IRI;
@@ -15,6 +23,8 @@ import org.semanticweb.owlapi.model.OWLDataRange;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 
+import edu.neu.ece.objectdescriptiongenerator.utility.CollectionUtil;
+
 /**
  * This class defines customization of the OWL API class OWLClassImpl.
  * 
@@ -89,20 +99,43 @@ public class COWLClassImpl implements HasIRI {
 	private Map<OWLDataProperty, OWLDataRange> dataPropertyRangesPairs = new HashMap<>();
 
 	/**
-	 * Named individuals of type of this object.
+	 * Named individuals of type of this object in the input ontology, which seed
+	 * the individual pools of generators.
+	 */
+	private List<OWLNamedIndividual> individuals = new ArrayList<>();
+
+	/**
+	 * Super classes (direct and inferred) of this object as array, frozen after
+	 * extraction.
 	 */
-	private LinkedList<OWLNamedIndividual> individuals = new LinkedList<>();
+	private COWLClassImpl[] superClassArray = new COWLClassImpl[0];
 
 	/**
-	 * Detect whether this object is visited when generating RDF instance data.
+	 * Subclasses of this object and itself as array, frozen after extraction.
 	 */
-	private boolean isVisited = false;
+	private COWLClassImpl[] subClassAndItselfArray = new COWLClassImpl[] { this };
 
 	/**
-	 * A counter that traces the index of next OWL named individual of type of this
-	 * object.
+	 * Equivalent class expressions of this object as array, frozen after
+	 * extraction.
 	 */
-	private long nextInstanceIndex = 0;
+	private OWLClassExpression[] equivalentClassArray = new OWLClassExpression[0];
+
+	/**
+	 * Dense index of this object among the extracted classes, -1 if unassigned.
+	 */
+	private int index = -1;
+
+	/**
+	 * Subclasses of this object and itself, cached when frozen after extraction.
+	 */
+	private Set<COWLClassImpl> subClassesAndItself = null;
+
+	/**
+	 * Indexes of the subclasses of this object and itself, frozen after
+	 * extraction.
+	 */
+	private BitSet subClassAndItselfBits = new BitSet();
 
 	/**
 	 * Constructor.
@@ -235,62 +268,121 @@ public class COWLClassImpl implements HasIRI {
 	}
 
 	/**
-	 * Get named individuals of type of this object.
+	 * Get named individuals of type of this object in the input ontology.
 	 * 
 	 * @param isDirect Specifies if the direct instances should be retrieved (true), or if all instances should be retrieved (false).
 	 *        
 	 * @return Named individuals of type of this object.
 	 */
-	public LinkedList<OWLNamedIndividual> getNamedIndividuals(boolean isDirect) {
+	public List<OWLNamedIndividual> getNamedIndividuals(boolean isDirect) {
 		if (isDirect) 
 			return individuals;
 		else {
-			LinkedList<OWLNamedIndividual> indirectIndividuals = new LinkedList<>();
-			for (COWLClassImpl clsImpl : this.getSubClassesAndItself())
+			// Walk the subclass set rather than the subclass array, which only holds
+			// this object until frozen.
+			List<OWLNamedIndividual> indirectIndividuals = new ArrayList<>();
+			for (COWLClassImpl clsImpl : getSubClassesAndItself())
 				indirectIndividuals.addAll(clsImpl.getNamedIndividuals(true));	
 			return indirectIndividuals;
 		}
 	}
 
 	/**
-	 * Detect whether this object is visited.
+	 * Get subclasses of this object and itself. Once frozen, the same unmodifiable
+	 * set is returned on each call.
+	 * 
+	 * @return Subclasses of this object and itself.
+	 */
+	public Set<COWLClassImpl> getSubClassesAndItself() {
+		if (subClassesAndItself != null)
+			return subClassesAndItself;
+		Set<COWLClassImpl> subAndItSelf = new HashSet<>();
+		subAndItSelf.addAll(subClasses);
+		subAndItSelf.add(this);
+		return subAndItSelf;
+	}
+
+	/**
+	 * Get super classes (direct and inferred) of this object as array, in the
+	 * iteration order of {@link #getSuperClasses()}.
 	 * 
-	 * @return Visit status of this object.
+	 * @return Super classes, frozen after extraction.
 	 */
-	public boolean isVisited() {
-		return isVisited;
+	public COWLClassImpl[] getSuperClassArray() {
+		return superClassArray;
 	}
 
 	/**
-	 * Set visit status of this object.
+	 * Get subclasses of this object and itself as array, in the iteration order of
+	 * {@link #getSubClassesAndItself()}.
 	 * 
-	 * @param visited
-	 *            Visit status of this object.
+	 * @return Subclasses and itself, frozen after extraction.
 	 */
-	public void setVisited(boolean visited) {
-		isVisited = visited;
+	public COWLClassImpl[] getSubClassAndItselfArray() {
+		return subClassAndItselfArray;
 	}
 
 	/**
-	 * Function used to coherently increase the counter that traces the index of
-	 * next OWL named individual of type of this object.
+	 * Get equivalent class expressions of this object as array, in the iteration
+	 * order of {@link #getEquivalentClasses()}.
 	 * 
-	 * @return The index of next OWL named individual of type of this object.
+	 * @return Equivalent class expressions, frozen after extraction.
 	 */
-	public long getNextInstanceNumber() {
-		return nextInstanceIndex++;
+	public OWLClassExpression[] getEquivalentClassArray() {
+		return equivalentClassArray;
 	}
 
 	/**
-	 * Get subclasses of this object and itself.
+	 * Get dense index of this object among the extracted classes.
 	 * 
-	 * @return Subclasses of this object and itself.
+	 * @return Class index, -1 if unassigned.
 	 */
-	public Set<COWLClassImpl> getSubClassesAndItself() {
-		Set<COWLClassImpl> subAndItSelf = new HashSet<>();
-		subAndItSelf.addAll(subClasses);
-		subAndItSelf.add(this);
-		return subAndItSelf;
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Set dense index of this object among the extracted classes.
+	 * 
+	 * @param index
+	 *            Class index.
+	 */
+	public void setIndex(int index) {
+		this.index = index;
+	}
+
+	/**
+	 * Detect whether a class is a subclass of this object or this object itself,
+	 * in O(1) time once frozen.
+	 * 
+	 * @param cls
+	 *            Customized OWL class.
+	 * @return true if the class is a subclass of this object or itself, false
+	 *         otherwise.
+	 */
+	public boolean containsSubClassOrItself(COWLClassImpl cls) {
+		if (cls == null)
+			return false;
+		if (cls.index < 0 || subClassesAndItself == null)
+			return getSubClassesAndItself().contains(cls);
+		return subClassAndItselfBits.get(cls.index);
+	}
+
+	/**
+	 * Freeze the relationship sets of this object into arrays, once extraction has
+	 * completed and all classes are indexed, so that random elements are picked and
+	 * subclass membership is checked without allocation.
+	 */
+	public void freeze() {
+		superClassArray = superClasses.toArray(new COWLClassImpl[0]);
+		equivalentClassArray = equivalentClasses.toArray(new OWLClassExpression[0]);
+		subClassesAndItself = null;
+		subClassesAndItself = Collections.unmodifiableSet(getSubClassesAndItself());
+		subClassAndItselfArray = subClassesAndItself.toArray(new COWLClassImpl[0]);
+		subClassAndItselfBits = new BitSet();
+		for (COWLClassImpl cls : subClassAndItselfArray)
+			if (cls != null && cls.index >= 0)
+				subClassAndItselfBits.set(cls.index);
 	}
 
 	/**
@@ -328,4 +420,82 @@ public class COWLClassImpl implements HasIRI {
 	public void addADataPropertyRangesPair(OWLDataProperty odp, OWLDataRange ran) {
 		dataPropertyRangesPairs.put(odp, ran);
 	}
+
+	/**
+	 * Write the relationship sets of this object to an extraction snapshot as
+	 * indexes of its table of objects, in iteration order. The frozen arrays are
+	 * not written, since {@link #freeze()} rebuilds them once all classes are
+	 * read.
+	 * 
+	 * @param out
+	 *            Data output.
+	 * @param indexOf
+	 *            Index of an object in the table of the snapshot.
+	 * @throws IOException
+	 *             If this object fails to write.
+	 */
+	public void write(DataOutput out, ToIntFunction<Object> indexOf) throws IOException {
+		out.writeInt(index);
+		CollectionUtil.writeIndexes(out, directSuperClasses, indexOf);
+		CollectionUtil.writeIndexes(out, superClasses, indexOf);
+		CollectionUtil.writeIndexes(out, directAnonymousSuperClasses, indexOf);
+		CollectionUtil.writeIndexes(out, anonymousSuperClasses, indexOf);
+		CollectionUtil.writeIndexes(out, specialClassRestrictions, indexOf);
+		CollectionUtil.writeIndexes(out, directSubClasses, indexOf);
+		CollectionUtil.writeIndexes(out, subClasses, indexOf);
+		CollectionUtil.writeIndexes(out, equivalentClasses, indexOf);
+		CollectionUtil.writeIndexes(out, disjointClasses, indexOf);
+		CollectionUtil.writeIndexedMap(out, objectPropertyRangesPairs, indexOf);
+		CollectionUtil.writeIndexedMap(out, dataPropertyRangesPairs, indexOf);
+		CollectionUtil.writeIndexes(out, individuals, indexOf);
+	}
+
+	/**
+	 * Read the relationship sets of this object written by
+	 * {@link #write(DataOutput, ToIntFunction)}. They are read into linked hash
+	 * sets and maps, so that they iterate in the written order.
+	 * 
+	 * @param in
+	 *            Data input.
+	 * @param objectAt
+	 *            Object of an index in the table of the snapshot.
+	 * @throws IOException
+	 *             If this object fails to read.
+	 */
+	public void read(DataInput in, IntFunction<Object> objectAt) throws IOException {
+		index = in.readInt();
+		directSuperClasses = CollectionUtil.readIndexedSet(in, objectAt);
+		superClasses = CollectionUtil.readIndexedSet(in, objectAt);
+		directAnonymousSuperClasses = CollectionUtil.readIndexedSet(in, objectAt);
+		anonymousSuperClasses = CollectionUtil.readIndexedSet(in, objectAt);
+		specialClassRestrictions = CollectionUtil.readIndexedSet(in, objectAt);
+		directSubClasses = CollectionUtil.readIndexedSet(in, objectAt);
+		subClasses = CollectionUtil.readIndexedSet(in, objectAt);
+		equivalentClasses = CollectionUtil.readIndexedSet(in, objectAt);
+		disjointClasses = CollectionUtil.readIndexedSet(in, objectAt);
+		objectPropertyRangesPairs = CollectionUtil.readIndexedMap(in, objectAt);
+		dataPropertyRangesPairs = CollectionUtil.readIndexedMap(in, objectAt);
+		individuals = CollectionUtil.readIndexedList(in, objectAt);
+	}
+
+	/**
+	 * Two customized classes are equal if they share the same class IRI.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		return iri.equals(((COWLClassImpl) obj).iri);
+	}
+
+	/**
+	 * Hash code derived from the class IRI, which keeps the iteration order of hash
+	 * based containers stable between runs.
+	 */
+	@Override
+	public int hashCode() {
+		return iri.hashCode();
+	}
 }
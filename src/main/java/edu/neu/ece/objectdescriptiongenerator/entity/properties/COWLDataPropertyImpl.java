@@ -1,8 +1,17 @@
 package edu.neu.ece.objectdescriptiongenerator.entity.properties;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLDataRange;
 
+import edu.neu.ece.objectdescriptiongenerator.utility.CollectionUtil;
+
 /**
  * This class defines customization of the OWL API class OWLDataPropertImpl.
  * 
@@ -17,6 +26,18 @@ public class COWLDataPropertyImpl extends COWLPropertyImpl {
 	 */
 	private OWLDataRange range;
 
+	/**
+	 * IRIs of the properties (this object, its equivalent and sub properties) whose
+	 * assertions are relevant to an assertion of this object.
+	 */
+	private IRI[] relevantProperties = new IRI[0];
+
+	/**
+	 * IRIs of the properties whose assertions conflict with an assertion of this
+	 * object, i.e. the relevant properties of its disjoint properties.
+	 */
+	private IRI[] conflictingProperties = new IRI[0];
+
 	/**
 	 * Constructor
 	 * 
@@ -46,4 +67,70 @@ public class COWLDataPropertyImpl extends COWLPropertyImpl {
 		this.range = range;
 	}
 
+	/**
+	 * Get IRIs of the properties whose assertions are relevant to an assertion of
+	 * this object.
+	 * 
+	 * @return Relevant property IRIs.
+	 */
+	public IRI[] getRelevantProperties() {
+		return relevantProperties;
+	}
+
+	/**
+	 * Set IRIs of the properties whose assertions are relevant to an assertion of
+	 * this object.
+	 * 
+	 * @param relevantProperties
+	 *            Relevant property IRIs.
+	 */
+	public void setRelevantProperties(IRI[] relevantProperties) {
+		this.relevantProperties = relevantProperties;
+	}
+
+	/**
+	 * Get IRIs of the properties whose assertions conflict with an assertion of
+	 * this object.
+	 * 
+	 * @return Conflicting property IRIs.
+	 */
+	public IRI[] getConflictingProperties() {
+		return conflictingProperties;
+	}
+
+	/**
+	 * Set IRIs of the properties whose assertions conflict with an assertion of
+	 * this object.
+	 * 
+	 * @param conflictingProperties
+	 *            Conflicting property IRIs.
+	 */
+	public void setConflictingProperties(IRI[] conflictingProperties) {
+		this.conflictingProperties = conflictingProperties;
+	}
+
+	/**
+	 * Write the range and the relevant and conflicting properties of this object
+	 * after its relationship sets.
+	 */
+	@Override
+	public void write(DataOutput out, ToIntFunction<Object> indexOf) throws IOException {
+		super.write(out, indexOf);
+		out.writeInt(range == null ? -1 : indexOf.applyAsInt(range));
+		CollectionUtil.writeIndexes(out, Arrays.asList(relevantProperties), indexOf);
+		CollectionUtil.writeIndexes(out, Arrays.asList(conflictingProperties), indexOf);
+	}
+
+	/**
+	 * Read the range and the relevant and conflicting properties of this object
+	 * after its relationship sets.
+	 */
+	@Override
+	public void read(DataInput in, IntFunction<Object> objectAt) throws IOException {
+		super.read(in, objectAt);
+		int rangeIndex = in.readInt();
+		range = rangeIndex < 0 ? null : (OWLDataRange) objectAt.apply(rangeIndex);
+		relevantProperties = CollectionUtil.<IRI>readIndexedList(in, objectAt).toArray(new IRI[0]);
+		conflictingProperties = CollectionUtil.<IRI>readIndexedList(in, objectAt).toArray(new IRI[0]);
+	}
 }
@@ -1,10 +1,18 @@
 package edu.neu.ece.objectdescriptiongenerator.entity.properties;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 import org.semanticweb.owlapi.model.IRI;
 
+import edu.neu.ece.objectdescriptiongenerator.utility.CollectionUtil;
+
 /**
  * This class defines customization of the OWL API class OWLObjectPropertImpl.
  * 
@@ -19,6 +27,37 @@ public class COWLObjectPropertyImpl extends COWLPropertyImpl {
 	 */
 	private Set<COWLObjectPropertyImpl> inverseProperties = new HashSet<>();
 
+	/**
+	 * Inverse properties of this object as array, frozen after extraction.
+	 */
+	private COWLObjectPropertyImpl[] inversePropertyArray = new COWLObjectPropertyImpl[0];
+
+	/**
+	 * IRIs of the properties (this object, its equivalent and sub properties, and
+	 * transitively those of its inverse properties) whose assertions with the same
+	 * subject and object are relevant to an assertion of this object.
+	 */
+	private IRI[] relevantProperties = new IRI[0];
+
+	/**
+	 * IRIs of the properties whose assertions with swapped subject and object are
+	 * relevant to an assertion of this object.
+	 */
+	private IRI[] relevantInverseProperties = new IRI[0];
+
+	/**
+	 * IRIs of the properties whose assertions with the same subject and object
+	 * conflict with an assertion of this object, i.e. the relevant properties of
+	 * its disjoint properties.
+	 */
+	private IRI[] conflictingProperties = new IRI[0];
+
+	/**
+	 * IRIs of the properties whose assertions with swapped subject and object
+	 * conflict with an assertion of this object.
+	 */
+	private IRI[] conflictingInverseProperties = new IRI[0];
+
 	/**
 	 * Constructor.
 	 * 
@@ -38,4 +77,115 @@ public class COWLObjectPropertyImpl extends COWLPropertyImpl {
 		return inverseProperties;
 	}
 
+	/**
+	 * Get inverse properties of this object as array, in the iteration order of
+	 * {@link #getInverseProperties()}.
+	 * 
+	 * @return Inverse properties, frozen after extraction.
+	 */
+	public COWLObjectPropertyImpl[] getInversePropertyArray() {
+		return inversePropertyArray;
+	}
+
+	@Override
+	public void freeze() {
+		super.freeze();
+		inversePropertyArray = inverseProperties.toArray(new COWLObjectPropertyImpl[0]);
+	}
+
+	/**
+	 * Get IRIs of the properties whose assertions with the same subject and object
+	 * are relevant to an assertion of this object.
+	 * 
+	 * @return Relevant property IRIs.
+	 */
+	public IRI[] getRelevantProperties() {
+		return relevantProperties;
+	}
+
+	/**
+	 * Get IRIs of the properties whose assertions with swapped subject and object
+	 * are relevant to an assertion of this object.
+	 * 
+	 * @return Relevant property IRIs.
+	 */
+	public IRI[] getRelevantInverseProperties() {
+		return relevantInverseProperties;
+	}
+
+	/**
+	 * Set IRIs of the properties whose assertions are relevant to an assertion of
+	 * this object.
+	 * 
+	 * @param relevantProperties
+	 *            Relevant property IRIs with the same subject and object.
+	 * @param relevantInverseProperties
+	 *            Relevant property IRIs with swapped subject and object.
+	 */
+	public void setRelevantProperties(IRI[] relevantProperties, IRI[] relevantInverseProperties) {
+		this.relevantProperties = relevantProperties;
+		this.relevantInverseProperties = relevantInverseProperties;
+	}
+
+	/**
+	 * Get IRIs of the properties whose assertions with the same subject and object
+	 * conflict with an assertion of this object.
+	 * 
+	 * @return Conflicting property IRIs.
+	 */
+	public IRI[] getConflictingProperties() {
+		return conflictingProperties;
+	}
+
+	/**
+	 * Get IRIs of the properties whose assertions with swapped subject and object
+	 * conflict with an assertion of this object.
+	 * 
+	 * @return Conflicting property IRIs.
+	 */
+	public IRI[] getConflictingInverseProperties() {
+		return conflictingInverseProperties;
+	}
+
+	/**
+	 * Set IRIs of the properties whose assertions conflict with an assertion of
+	 * this object.
+	 * 
+	 * @param conflictingProperties
+	 *            Conflicting property IRIs with the same subject and object.
+	 * @param conflictingInverseProperties
+	 *            Conflicting property IRIs with swapped subject and object.
+	 */
+	public void setConflictingProperties(IRI[] conflictingProperties, IRI[] conflictingInverseProperties) {
+		this.conflictingProperties = conflictingProperties;
+		this.conflictingInverseProperties = conflictingInverseProperties;
+	}
+
+	/**
+	 * Write the inverse properties and the relevant and conflicting properties of
+	 * this object after its relationship sets.
+	 */
+	@Override
+	public void write(DataOutput out, ToIntFunction<Object> indexOf) throws IOException {
+		super.write(out, indexOf);
+		CollectionUtil.writeIndexes(out, inverseProperties, indexOf);
+		CollectionUtil.writeIndexes(out, Arrays.asList(relevantProperties), indexOf);
+		CollectionUtil.writeIndexes(out, Arrays.asList(relevantInverseProperties), indexOf);
+		CollectionUtil.writeIndexes(out, Arrays.asList(conflictingProperties), indexOf);
+		CollectionUtil.writeIndexes(out, Arrays.asList(conflictingInverseProperties), indexOf);
+	}
+
+	/**
+	 * Read the inverse properties and the relevant and conflicting properties of
+	 * this object after its relationship sets.
+	 */
+	@Override
+	public void read(DataInput in, IntFunction<Object> objectAt) throws IOException {
+		super.read(in, objectAt);
+		inverseProperties = CollectionUtil.readIndexedSet(in, objectAt);
+		relevantProperties = CollectionUtil.<IRI>readIndexedList(in, objectAt).toArray(new IRI[0]);
+		relevantInverseProperties = CollectionUtil.<IRI>readIndexedList(in, objectAt).toArray(new IRI[0]);
+		conflictingProperties = CollectionUtil.<IRI>readIndexedList(in, objectAt).toArray(new IRI[0]);
+		conflictingInverseProperties = CollectionUtil.<IRI>readIndexedList(in, objectAt).toArray(new IRI[0]);
+	}
 }
@@ -1,13 +1,20 @@
 package edu.neu.ece.objectdescriptiongenerator.entity.properties;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.HasIRI;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
 
+import edu.neu.ece.objectdescriptiongenerator.utility.CollectionUtil;
+
 /**
  * This class defines customization of the OWL API interface OWLProperty.
  * 
@@ -70,6 +77,24 @@ public class COWLPropertyImpl implements HasIRI {
 	 */
 	protected Set<AxiomType<? extends OWLAxiom>> propertyAttributes = new HashSet<>();
 
+	/**
+	 * Super properties (direct and inferred) of this object as array, frozen after
+	 * extraction.
+	 */
+	protected COWLPropertyImpl[] superPropertyArray = new COWLPropertyImpl[0];
+
+	/**
+	 * Equivalent properties (direct and inferred) of this object as array, frozen
+	 * after extraction.
+	 */
+	protected COWLPropertyImpl[] equivalentPropertyArray = new COWLPropertyImpl[0];
+
+	/**
+	 * Disjoint properties (direct and inferred) of this object as array, frozen
+	 * after extraction.
+	 */
+	protected COWLPropertyImpl[] disjointPropertyArray = new COWLPropertyImpl[0];
+
 	/**
 	 * Constructor.
 	 * 
@@ -198,4 +223,115 @@ public class COWLPropertyImpl implements HasIRI {
 	public void addAPropertyAttribute(AxiomType<? extends OWLAxiom> type) {
 		propertyAttributes.add(type);
 	}
+
+	/**
+	 * Get super properties (direct and inferred) of this object as array, in the
+	 * iteration order of {@link #getSuperOWLProperties()}.
+	 * 
+	 * @return Super properties, frozen after extraction.
+	 */
+	public COWLPropertyImpl[] getSuperPropertyArray() {
+		return superPropertyArray;
+	}
+
+	/**
+	 * Get equivalent properties (direct and inferred) of this object as array, in
+	 * the iteration order of {@link #getEquivalentProperties()}.
+	 * 
+	 * @return Equivalent properties, frozen after extraction.
+	 */
+	public COWLPropertyImpl[] getEquivalentPropertyArray() {
+		return equivalentPropertyArray;
+	}
+
+	/**
+	 * Get disjoint properties (direct and inferred) of this object as array, in the
+	 * iteration order of {@link #getDisjointProperties()}.
+	 * 
+	 * @return Disjoint properties, frozen after extraction.
+	 */
+	public COWLPropertyImpl[] getDisjointPropertyArray() {
+		return disjointPropertyArray;
+	}
+
+	/**
+	 * Freeze the relationship sets of this object into arrays, once extraction has
+	 * completed, so that random elements are picked without allocation.
+	 */
+	public void freeze() {
+		superPropertyArray = superOWLProperties.toArray(new COWLPropertyImpl[0]);
+		equivalentPropertyArray = equivalentProperties.toArray(new COWLPropertyImpl[0]);
+		disjointPropertyArray = disjointProperties.toArray(new COWLPropertyImpl[0]);
+	}
+
+	/**
+	 * Write the relationship sets of this object to an extraction snapshot as
+	 * indexes of its table of objects, in iteration order. The frozen arrays are
+	 * not written, since {@link #freeze()} rebuilds them once all properties are
+	 * read.
+	 * 
+	 * @param out
+	 *            Data output.
+	 * @param indexOf
+	 *            Index of an object in the table of the snapshot.
+	 * @throws IOException
+	 *             If this object fails to write.
+	 */
+	public void write(DataOutput out, ToIntFunction<Object> indexOf) throws IOException {
+		out.writeBoolean(isVisited);
+		CollectionUtil.writeIndexes(out, directSuperOWLProperties, indexOf);
+		CollectionUtil.writeIndexes(out, superOWLProperties, indexOf);
+		CollectionUtil.writeIndexes(out, directSubOWLProperties, indexOf);
+		CollectionUtil.writeIndexes(out, subOWLProperties, indexOf);
+		CollectionUtil.writeIndexes(out, equivalentProperties, indexOf);
+		CollectionUtil.writeIndexes(out, directDisjointProperties, indexOf);
+		CollectionUtil.writeIndexes(out, disjointProperties, indexOf);
+		CollectionUtil.writeIndexes(out, propertyAttributes, indexOf);
+	}
+
+	/**
+	 * Read the relationship sets of this object written by
+	 * {@link #write(DataOutput, ToIntFunction)}. They are read into linked hash
+	 * sets, so that they iterate in the written order.
+	 * 
+	 * @param in
+	 *            Data input.
+	 * @param objectAt
+	 *            Object of an index in the table of the snapshot.
+	 * @throws IOException
+	 *             If this object fails to read.
+	 */
+	public void read(DataInput in, IntFunction<Object> objectAt) throws IOException {
+		isVisited = in.readBoolean();
+		directSuperOWLProperties = CollectionUtil.readIndexedSet(in, objectAt);
+		superOWLProperties = CollectionUtil.readIndexedSet(in, objectAt);
+		directSubOWLProperties = CollectionUtil.readIndexedSet(in, objectAt);
+		subOWLProperties = CollectionUtil.readIndexedSet(in, objectAt);
+		equivalentProperties = CollectionUtil.readIndexedSet(in, objectAt);
+		directDisjointProperties = CollectionUtil.readIndexedSet(in, objectAt);
+		disjointProperties = CollectionUtil.readIndexedSet(in, objectAt);
+		propertyAttributes = CollectionUtil.readIndexedSet(in, objectAt);
+	}
+
+	/**
+	 * Two customized properties are equal if they are of the same kind and share
+	 * the same property IRI.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		return iri.equals(((COWLPropertyImpl) obj).iri);
+	}
+
+	/**
+	 * Hash code derived from the property IRI, which keeps the iteration order of
+	 * hash based containers stable between runs.
+	 */
+	@Override
+	public int hashCode() {
+		return iri.hashCode();
+	}
 }
@@ -4,7 +4,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -34,6 +36,7 @@ import edu.neu.ece.objectdescriptiongenerator.entity.properties.COWLObjectProper
 import edu.neu.ece.objectdescriptiongenerator.entity.properties.COWLPropertyImpl;
 import edu.neu.ece.objectdescriptiongenerator.generator.ObjectDescriptionGenerator;
 import edu.neu.ece.objectdescriptiongenerator.utility.MathUtil;
+import edu.neu.ece.objectdescriptiongenerator.writer.AxiomSink;
 import uk.ac.manchester.cs.owl.owlapi.OWLClassAssertionAxiomImpl;
 import uk.ac.manchester.cs.owl.owlapi.OWLClassImpl;
 import uk.ac.manchester.cs.owl.owlapi.OWLDataAllValuesFromImpl;
@@ -62,14 +65,16 @@ import uk.ac.manchester.cs.owl.owlapi.OWLObjectSomeValuesFromImpl;
 import uk.ac.manchester.cs.owl.owlapi.OWLObjectUnionOfImpl;
 
 /**
- * This class is defined exclusively for space coverage evaluation.
+ * This class is defined exclusively for space coverage evaluation. Datasets are
+ * evaluated either from the output ontology, or as an axiom sink from streamed
+ * object descriptions.
  * 
  * @author Yanji Chen
  * @version 1.0
  * @since 2019-04-16
  *
  */
-public class SpaceCoverageEvaluator {
+public class SpaceCoverageEvaluator implements AxiomSink {
 
 	/**
 	 * Logger class, used for generating log file and debugging info on console.
@@ -82,14 +87,14 @@ public class SpaceCoverageEvaluator {
 	private final int objNumber;
 
 	/**
-	 * OWL data factory for creating entities, class expressions and axioms.
+	 * Local file that evaluation results are dumped into.
 	 */
-	private final OWLDataFactory factory;
+	private final File evaluationFile;
 
 	/**
-	 * Output ontology.
+	 * OWL data factory for creating entities, class expressions and axioms.
 	 */
-	private final OWLOntology outputOntology;
+	private final OWLDataFactory factory;
 
 	/**
 	 * Container that stores key-value pairs, where OWL API interface OWLClass is
@@ -145,6 +150,32 @@ public class SpaceCoverageEvaluator {
 	 */
 	private Set<OWLDataPropertyImpl> nonTargetDataProperties = new TreeSet<>();
 
+	/**
+	 * Mapping from OWL class to the number of class assertion axioms of the class
+	 * counted so far.
+	 */
+	private final Map<OWLClass, Integer> classCounts = new HashMap<>();
+
+	/**
+	 * Mapping from OWL object property to the number of (negative) object property
+	 * assertion axioms of the property counted so far.
+	 */
+	private final Map<OWLObjectProperty, Integer> objectPropertyCounts = new HashMap<>();
+
+	/**
+	 * Mapping from OWL data property to the number of (negative) data property
+	 * assertion axioms of the property counted so far.
+	 */
+	private final Map<OWLDataProperty, Integer> dataPropertyCounts = new HashMap<>();
+
+	/**
+	 * Assertion axioms of streamed object descriptions counted so far, so that an
+	 * axiom written by several object descriptions is counted once, as it is in
+	 * the output ontology. It grows with the number of distinct axioms streamed,
+	 * whatever the individual pool size.
+	 */
+	private final Set<OWLAxiom> countedAxioms = new HashSet<>();
+
 	/**
 	 * The nodes that are visited while traversing the model graph from the root
 	 * class .
@@ -152,15 +183,29 @@ public class SpaceCoverageEvaluator {
 	private Set<Object> visitedNodes = new HashSet<>();
 
 	/**
-	 * Constructor
+	 * Constructor of an evaluator that dumps evaluation results into
+	 * evaluationresults/SpaceCoverageEvaluationResults_ObjectDescription<NUMBER>.txt.
 	 * 
 	 * @param generator
 	 *            Object description generator.
 	 */
 	public SpaceCoverageEvaluator(ObjectDescriptionGenerator generator) {
+		this(generator, new File("evaluationresults" + File.separator
+				+ "SpaceCoverageEvaluationResults_ObjectDescription" + generator.getObjNumber() + ".txt"));
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param generator
+	 *            Object description generator.
+	 * @param evaluationFile
+	 *            Local file that evaluation results are dumped into.
+	 */
+	public SpaceCoverageEvaluator(ObjectDescriptionGenerator generator, File evaluationFile) {
 		this.objNumber = generator.getObjNumber();
+		this.evaluationFile = evaluationFile;
 		factory = generator.getFactory();
-		outputOntology = generator.getOutputOntology();
 
 		classMap = generator.getClassMap();
 		dataPropertyMap = generator.getDataPropertyMap();
@@ -262,13 +307,59 @@ public class SpaceCoverageEvaluator {
 	/**
 	 * This function defines control flow of space coverage evaluation.
 	 * 
+	 * @param outputOntology
+	 *            Output ontology that holds generated object descriptions.
+	 * @param ocImpl
+	 *            OWL class.
+	 */
+	public void evaluateSpaceCoverage(OWLOntology outputOntology, COWLClassImpl ocImpl) {
+		for (OWLAxiom axiom : outputOntology.axioms(Imports.EXCLUDED).collect(Collectors.toSet()))
+			countAxiom(axiom);
+		dumpSpaceCoverage(ocImpl, evaluationFile);
+	}
+
+	/**
+	 * Count the axioms of an object description towards space coverage, so that
+	 * streamed object descriptions are evaluated as they complete without being
+	 * kept. Axioms already counted for earlier object descriptions are skipped,
+	 * so coverage is the same as for RDF/XML.
+	 * 
+	 * @param axioms
+	 *            Axioms of an object description.
+	 */
+	@Override
+	public void writeAxioms(Collection<? extends OWLAxiom> axioms) {
+		for (OWLAxiom axiom : axioms)
+			if (axiom.isLogicalAxiom() && countedAxioms.add(axiom))
+				countAxiom(axiom);
+	}
+
+	/**
+	 * Evaluate space coverage of the axioms counted so far, and dump evaluation
+	 * results into the local file of this evaluator.
+	 * 
+	 * @param ocImpl
+	 *            OWL class.
+	 */
+	public void dumpSpaceCoverage(COWLClassImpl ocImpl) {
+		dumpSpaceCoverage(ocImpl, evaluationFile);
+	}
+
+	/**
+	 * Evaluate space coverage of the axioms counted so far, and dump evaluation
+	 * results into a file. Target signatures are found on the first evaluation
+	 * only, so space coverage can be dumped repeatedly as datasets grow.
+	 * 
 	 * @param ocImpl
 	 *            OWL class.
+	 * @param evaluationFile
+	 *            Local file that evaluation results are dumped into.
 	 */
-	public void evaluateSpaceCoverage(COWLClassImpl ocImpl) {
+	public void dumpSpaceCoverage(COWLClassImpl ocImpl, File evaluationFile) {
 		logger.info("Begin evaluating space coverage of datasets...");
-		findTargetSignatures(factory.getOWLClass(ocImpl.getIRI()));
-		collectMetrics();
+		if (visitedNodes.isEmpty())
+			findTargetSignatures(factory.getOWLClass(ocImpl.getIRI()));
+		collectMetrics(evaluationFile);
 	}
 
 	/**
@@ -287,10 +378,11 @@ public class SpaceCoverageEvaluator {
 
 		if (node instanceof OWLClassImpl) {
 			OWLClassImpl clsImpl = (OWLClassImpl) node;
-			if (clsImpl.isOWLThing() || clsImpl.isOWLNothing())
+			COWLClassImpl owlClsImpl = classMap.get(clsImpl);
+			// Classes outside the extracted module are no target.
+			if (clsImpl.isOWLThing() || clsImpl.isOWLNothing() || owlClsImpl == null)
 				return;
 			targetClassAndCountMap.put(clsImpl, new Integer(0));
-			COWLClassImpl owlClsImpl = classMap.get(clsImpl);
 			for (COWLClassImpl sub : owlClsImpl.getSubClasses()) {
 				OWLClass cls = factory.getOWLClass(sub.getIRI());
 				if (!visitedNodes.contains(cls))
@@ -411,10 +503,11 @@ public class SpaceCoverageEvaluator {
 				findTargetSignatures(prop);
 		} else if (node instanceof OWLObjectPropertyImpl) {
 			OWLObjectPropertyImpl propImpl = (OWLObjectPropertyImpl) node;
-			if (propImpl.isOWLTopObjectProperty() || propImpl.isOWLBottomObjectProperty())
+			COWLObjectPropertyImpl owlPropImpl = objectPropertyMap.get(propImpl);
+			// Properties outside the extracted module are no target.
+			if (propImpl.isOWLTopObjectProperty() || propImpl.isOWLBottomObjectProperty() || owlPropImpl == null)
 				return;
 			targetObjectPropertyAndCountMap.put(propImpl, new Integer(0));
-			COWLObjectPropertyImpl owlPropImpl = objectPropertyMap.get(propImpl);
 
 			for (COWLPropertyImpl sub : owlPropImpl.getSubOWLProperties()) {
 				OWLObjectProperty prop = factory.getOWLObjectProperty(sub.getIRI());
@@ -443,10 +536,11 @@ public class SpaceCoverageEvaluator {
 			}
 		} else if (node instanceof OWLDataPropertyImpl) {
 			OWLDataPropertyImpl propImpl = (OWLDataPropertyImpl) node;
-			if (propImpl.isOWLTopDataProperty() || propImpl.isOWLBottomDataProperty())
+			COWLDataPropertyImpl owlPropImpl = dataPropertyMap.get(propImpl);
+			// Properties outside the extracted module are no target.
+			if (propImpl.isOWLTopDataProperty() || propImpl.isOWLBottomDataProperty() || owlPropImpl == null)
 				return;
 			targetDataPropertyAndCountMap.put(propImpl, new Integer(0));
-			COWLDataPropertyImpl owlPropImpl = dataPropertyMap.get(propImpl);
 			for (COWLPropertyImpl sub : owlPropImpl.getSubOWLProperties()) {
 				OWLDataProperty prop = factory.getOWLDataProperty(sub.getIRI());
 				if (!visitedNodes.contains(prop))
@@ -484,61 +578,63 @@ public class SpaceCoverageEvaluator {
 	}
 
 	/**
-	 * Collect space coverage metrics. The metrics include distribution of
-	 * individuals per class (DIPC), distribution of data properties (DDP),
-	 * distribution of object properties (DOP), class coverage (CC), data property
-	 * coverage (DPC) and object property coverage (OPC).
-	 */
-	private void collectMetrics() {
-		for (OWLAxiom axiom : outputOntology.axioms(Imports.EXCLUDED).collect(Collectors.toSet())) {
-			if (axiom instanceof OWLClassAssertionAxiomImpl) {
-				OWLClassExpression clsExp = ((OWLClassAssertionAxiomImpl) axiom).getClassExpression();
-				if (!clsExp.isAnonymous()) {
-					OWLClass cls = clsExp.asOWLClass();
-					if (targetClassAndCountMap.containsKey(cls)) {
-						int count = targetClassAndCountMap.get(cls).intValue();
-						targetClassAndCountMap.replace((OWLClassImpl) cls, new Integer(++count));
-					} else
-						nonTargetClasses.add((OWLClassImpl) cls);
-				}
-			} else if (axiom instanceof OWLObjectPropertyAssertionAxiomImpl) {
-				OWLObjectPropertyExpression propExp = ((OWLObjectPropertyAssertionAxiomImpl) axiom).getProperty();
-				if (!propExp.isAnonymous()) {
-					OWLObjectProperty prop = propExp.asOWLObjectProperty();
-					if (targetObjectPropertyAndCountMap.containsKey(prop)) {
-						int count = targetObjectPropertyAndCountMap.get(prop).intValue();
-						targetObjectPropertyAndCountMap.replace((OWLObjectPropertyImpl) prop, new Integer(++count));
-					} else
-						nonTargetObjectProperties.add((OWLObjectPropertyImpl) prop);
-				}
-			} else if (axiom instanceof OWLNegativeObjectPropertyAssertionAxiomImpl) {
-				OWLObjectPropertyExpression propExp = ((OWLNegativeObjectPropertyAssertionAxiomImpl) axiom)
-						.getProperty();
-				if (!propExp.isAnonymous()) {
-					OWLObjectProperty prop = propExp.asOWLObjectProperty();
-					if (targetObjectPropertyAndCountMap.containsKey(prop)) {
-						int count = targetObjectPropertyAndCountMap.get(prop).intValue();
-						targetObjectPropertyAndCountMap.replace((OWLObjectPropertyImpl) prop, new Integer(++count));
-					} else
-						nonTargetObjectProperties.add((OWLObjectPropertyImpl) prop);
-				}
-			} else if (axiom instanceof OWLDataPropertyAssertionAxiomImpl) {
-				OWLDataProperty prop = ((OWLDataPropertyAssertionAxiomImpl) axiom).getProperty().asOWLDataProperty();
-				if (targetDataPropertyAndCountMap.containsKey(prop)) {
-					int count = targetDataPropertyAndCountMap.get(prop).intValue();
-					targetDataPropertyAndCountMap.replace((OWLDataPropertyImpl) prop, new Integer(++count));
-				} else
-					nonTargetDataProperties.add((OWLDataPropertyImpl) prop);
-			} else if (axiom instanceof OWLNegativeDataPropertyAssertionAxiomImpl) {
-				OWLDataProperty prop = ((OWLNegativeDataPropertyAssertionAxiomImpl) axiom).getProperty()
-						.asOWLDataProperty();
-				if (targetDataPropertyAndCountMap.containsKey(prop)) {
-					int count = targetDataPropertyAndCountMap.get(prop).intValue();
-					targetDataPropertyAndCountMap.replace((OWLDataPropertyImpl) prop, new Integer(++count));
-				} else
-					nonTargetDataProperties.add((OWLDataPropertyImpl) prop);
-			}
+	 * Count an axiom of the datasets towards the OWL class or property it asserts.
+	 * 
+	 * @param axiom
+	 *            OWL axiom.
+	 */
+	private void countAxiom(OWLAxiom axiom) {
+		if (axiom instanceof OWLClassAssertionAxiomImpl) {
+			OWLClassExpression clsExp = ((OWLClassAssertionAxiomImpl) axiom).getClassExpression();
+			if (!clsExp.isAnonymous())
+				classCounts.merge(clsExp.asOWLClass(), 1, Integer::sum);
+		} else if (axiom instanceof OWLObjectPropertyAssertionAxiomImpl) {
+			OWLObjectPropertyExpression propExp = ((OWLObjectPropertyAssertionAxiomImpl) axiom).getProperty();
+			if (!propExp.isAnonymous())
+				objectPropertyCounts.merge(propExp.asOWLObjectProperty(), 1, Integer::sum);
+		} else if (axiom instanceof OWLNegativeObjectPropertyAssertionAxiomImpl) {
+			OWLObjectPropertyExpression propExp = ((OWLNegativeObjectPropertyAssertionAxiomImpl) axiom)
+					.getProperty();
+			if (!propExp.isAnonymous())
+				objectPropertyCounts.merge(propExp.asOWLObjectProperty(), 1, Integer::sum);
+		} else if (axiom instanceof OWLDataPropertyAssertionAxiomImpl) {
+			dataPropertyCounts.merge(((OWLDataPropertyAssertionAxiomImpl) axiom).getProperty().asOWLDataProperty(), 1,
+					Integer::sum);
+		} else if (axiom instanceof OWLNegativeDataPropertyAssertionAxiomImpl) {
+			dataPropertyCounts.merge(
+					((OWLNegativeDataPropertyAssertionAxiomImpl) axiom).getProperty().asOWLDataProperty(), 1,
+					Integer::sum);
 		}
+	}
+
+	/**
+	 * Collect space coverage metrics from the axioms counted so far. The metrics
+	 * include distribution of individuals per class (DIPC), distribution of data
+	 * properties (DDP), distribution of object properties (DOP), class coverage
+	 * (CC), data property coverage (DPC) and object property coverage (OPC).
+	 * 
+	 * @param evaluationFile
+	 *            Local file that evaluation results are dumped into.
+	 */
+	private void collectMetrics(File evaluationFile) {
+		for (Entry<OWLClassImpl, Integer> classEntry : targetClassAndCountMap.entrySet())
+			classEntry.setValue(classCounts.getOrDefault(classEntry.getKey(), 0));
+		nonTargetClasses.clear();
+		for (OWLClass cls : classCounts.keySet())
+			if (!targetClassAndCountMap.containsKey(cls))
+				nonTargetClasses.add((OWLClassImpl) cls);
+		for (Entry<OWLObjectPropertyImpl, Integer> propertyEntry : targetObjectPropertyAndCountMap.entrySet())
+			propertyEntry.setValue(objectPropertyCounts.getOrDefault(propertyEntry.getKey(), 0));
+		nonTargetObjectProperties.clear();
+		for (OWLObjectProperty prop : objectPropertyCounts.keySet())
+			if (!targetObjectPropertyAndCountMap.containsKey(prop))
+				nonTargetObjectProperties.add((OWLObjectPropertyImpl) prop);
+		for (Entry<OWLDataPropertyImpl, Integer> propertyEntry : targetDataPropertyAndCountMap.entrySet())
+			propertyEntry.setValue(dataPropertyCounts.getOrDefault(propertyEntry.getKey(), 0));
+		nonTargetDataProperties.clear();
+		for (OWLDataProperty prop : dataPropertyCounts.keySet())
+			if (!targetDataPropertyAndCountMap.containsKey(prop))
+				nonTargetDataProperties.add((OWLDataPropertyImpl) prop);
 
 		try {
 			double dipc = MathUtil.calculateStandardDeviationOfNormalizedDistribution(targetClassAndCountMap.values());
@@ -549,7 +645,7 @@ public class SpaceCoverageEvaluator {
 			double cc = MathUtil.calculateSpaceCoverage(targetClassAndCountMap.values());
 			double dpc = MathUtil.calculateSpaceCoverage(targetDataPropertyAndCountMap.values());
 			double opc = MathUtil.calculateSpaceCoverage(targetObjectPropertyAndCountMap.values());
-			printToFile(dipc, ddp, dop, cc, dpc, opc);
+			printToFile(dipc, ddp, dop, cc, dpc, opc, evaluationFile);
 		} catch (Exception e) {
 			logger.error("There was an error while calcuating space coverage evaluation metrics.", e);
 		}
@@ -570,8 +666,11 @@ public class SpaceCoverageEvaluator {
 	 *            Data property coverage (DPC).
 	 * @param opc
 	 *            Object property coverage (OPC).
+	 * @param evaluationFile
+	 *            Local file that evaluation results are dumped into.
 	 */
-	private void printToFile(double dipc, double ddp, double dop, double cc, double dpc, double opc) {
+	private void printToFile(double dipc, double ddp, double dop, double cc, double dpc, double opc,
+			File evaluationFile) {
 		StringBuffer outputs = new StringBuffer();
 		// Output format
 		String format = "%-8d %-100s\n";
@@ -623,15 +722,12 @@ public class SpaceCoverageEvaluator {
 		outputs.append("Data property coverage (DPC) = " + df.format(dpc) + "\n");
 		outputs.append("Object property coverage (OPC) = " + df.format(opc));
 
-		String evaluationFilePath = "evaluationresults" + File.separator
-				+ "SpaceCoverageEvaluationResults_ObjectDescription" + objNumber + ".txt";
-		File outputFile = new File(evaluationFilePath);
 		try {
-			FileUtils.writeStringToFile(outputFile, outputs.toString(), StandardCharsets.UTF_8);
+			FileUtils.writeStringToFile(evaluationFile, outputs.toString(), StandardCharsets.UTF_8);
 		} catch (IOException e) {
 			logger.error("There was an error while dumping into evaluation results file.", e);
 		}
-		logger.info("Evaluation results are dumped into local file: " + outputFile.getAbsolutePath());
+		logger.info("Evaluation results are dumped into local file: " + evaluationFile.getAbsolutePath());
 		logger.info("Done!");
 	}
 }
@@ -0,0 +1,470 @@
+package edu.neu.ece.objectdescriptiongenerator.extractor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+import edu.neu.ece.objectdescriptiongenerator.entity.classes.COWLClassImpl;
+import edu.neu.ece.objectdescriptiongenerator.entity.properties.COWLDataPropertyImpl;
+import edu.neu.ece.objectdescriptiongenerator.entity.properties.COWLObjectPropertyImpl;
+import edu.neu.ece.objectdescriptiongenerator.entity.properties.COWLPropertyImpl;
+import edu.neu.ece.objectdescriptiongenerator.utility.CollectionUtil;
+
+/**
+ * Persistent snapshot of an extracted ontology model, i.e. the customized
+ * classes, properties and named individuals of an ontology extractor, so that
+ * later runs against the same ontology documents skip reasoning and extraction.
+ * A snapshot is keyed by a content hash of the documents of the imports closure
+ * of the input ontology and of where they were loaded from, and by the reasoner
+ * that classified them, hence any changed document, IRI mapping or reasoner
+ * leads to another key and to a full extraction. The classification of a costly
+ * reasoner is thus paid only once per version of the ontology documents.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public final class ExtractionSnapshot {
+
+	/**
+	 * Snapshot format version, bumped whenever the extracted ontology model
+	 * changes so that stale snapshots get other keys.
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * Table entry of a customized class.
+	 */
+	private static final byte CLASS = 0;
+
+	/**
+	 * Table entry of a customized data property.
+	 */
+	private static final byte DATA_PROPERTY = 1;
+
+	/**
+	 * Table entry of a customized object property.
+	 */
+	private static final byte OBJECT_PROPERTY = 2;
+
+	/**
+	 * Table entry of an OWL entity, written as its entity type and IRI.
+	 */
+	private static final byte ENTITY = 3;
+
+	/**
+	 * Table entry of an IRI.
+	 */
+	private static final byte IRI_ENTRY = 4;
+
+	/**
+	 * Table entry of an axiom type, written as its name.
+	 */
+	private static final byte AXIOM_TYPE = 5;
+
+	/**
+	 * Table entry of an anonymous class expression, read from the expression
+	 * document.
+	 */
+	private static final byte CLASS_EXPRESSION = 6;
+
+	/**
+	 * Table entry of an anonymous data range, read from the expression document.
+	 */
+	private static final byte DATA_RANGE = 7;
+
+	/**
+	 * IRI prefix of the marker entities of the expression document, followed by
+	 * the table index of the expression.
+	 */
+	private static final String MARKER = "urn:snapshot:";
+
+	/**
+	 * This class cannot be instantiated.
+	 */
+	private ExtractionSnapshot() {
+	}
+
+	/**
+	 * Compute the snapshot key of an input ontology, a SHA-256 hash of the
+	 * document IRIs and contents of the ontologies in its imports closure, of the
+	 * reasoner name, and of the root classes of the extracted module if any.
+	 *
+	 * @param ont
+	 *            Hold of input ontology.
+	 * @param reasonerName
+	 *            Name of the reasoner that reasons over the input ontology.
+	 * @param moduleRoots
+	 *            IRIs of the root classes of the extracted module, null if the
+	 *            whole imports closure is extracted.
+	 * @return Snapshot key as hexadecimal string, null if an ontology of the
+	 *         imports closure was not loaded from a local file.
+	 * @throws IOException
+	 *             If an ontology document fails to read.
+	 */
+	public static String computeKey(OWLOntology ont, String reasonerName, Collection<IRI> moduleRoots)
+			throws IOException {
+		OWLOntologyManager manager = ont.getOWLOntologyManager();
+		List<IRI> documentIRIs = ont.importsClosure().map(o -> manager.getOntologyDocumentIRI(o))
+				.sorted(Comparator.comparing(IRI::toString)).collect(Collectors.toList());
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		digest.update(Integer.toString(VERSION).getBytes(StandardCharsets.UTF_8));
+		for (IRI documentIRI : documentIRIs) {
+			if (!"file".equalsIgnoreCase(documentIRI.getScheme()))
+				return null;
+			digest.update(documentIRI.toString().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			// Relative file URIs such as file:ontologies/IoT.owl are opaque.
+			URI uri = documentIRI.toURI();
+			File document = uri.isOpaque() ? new File(uri.getSchemeSpecificPart()) : new File(uri);
+			digest.update(Files.readAllBytes(document.toPath()));
+		}
+		digest.update(("reasoner " + reasonerName).getBytes(StandardCharsets.UTF_8));
+		if (moduleRoots != null) {
+			digest.update("module".getBytes(StandardCharsets.UTF_8));
+			for (String root : moduleRoots.stream().map(IRI::toString).sorted().collect(Collectors.toList())) {
+				digest.update((byte) 0);
+				digest.update(root.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		StringBuilder sb = new StringBuilder();
+		for (byte b : digest.digest())
+			sb.append(String.format("%02x", b));
+		return sb.toString();
+	}
+
+	/**
+	 * Save the extracted ontology model of an ontology extractor. The snapshot is
+	 * written to a temporary file first and then moved into place, so that
+	 * concurrent runs never read a partial snapshot.
+	 *
+	 * @param extractor
+	 *            Ontology extractor that has extracted the input ontology.
+	 * @param file
+	 *            Snapshot file.
+	 * @throws IOException
+	 *             If the snapshot fails to write.
+	 */
+	public static void save(OntologyExtractor extractor, File file) throws IOException {
+		List<Object> table = new ArrayList<>();
+		Map<Object, Integer> indexes = new HashMap<>();
+		// Objects are appended to the table when first indexed.
+		ToIntFunction<Object> index = object -> indexes.computeIfAbsent(object, key -> {
+			table.add(key);
+			return table.size() - 1;
+		});
+		// Customized entities come first, in map order.
+		extractor.getClassMap().values().forEach(index::applyAsInt);
+		extractor.getDataPropertyMap().values().forEach(index::applyAsInt);
+		extractor.getObjectPropertyMap().values().forEach(index::applyAsInt);
+
+		ByteArrayOutputStream model = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(model)) {
+			CollectionUtil.writeIndexedMap(out, extractor.getClassMap(), index);
+			CollectionUtil.writeIndexedMap(out, extractor.getDataPropertyMap(), index);
+			CollectionUtil.writeIndexedMap(out, extractor.getObjectPropertyMap(), index);
+			CollectionUtil.writeIndexes(out, extractor.getExistingIndividuals(), index);
+			// The table grows while customized entities refer to other objects.
+			for (int i = 0; i < table.size(); i++) {
+				Object object = table.get(i);
+				if (object instanceof COWLClassImpl)
+					((COWLClassImpl) object).write(out, index);
+				else if (object instanceof COWLPropertyImpl)
+					((COWLPropertyImpl) object).write(out, index);
+			}
+		}
+
+		Path target = file.toPath().toAbsolutePath();
+		Files.createDirectories(target.getParent());
+		Path temp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(VERSION);
+				byte[] expressions = writeExpressions(table);
+				out.writeInt(expressions.length);
+				out.write(expressions);
+				writeTable(out, table);
+				model.writeTo(out);
+			}
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Restore the extracted ontology model of an ontology extractor from a
+	 * snapshot.
+	 *
+	 * @param extractor
+	 *            Ontology extractor that has not extracted the input ontology.
+	 * @param file
+	 *            Snapshot file.
+	 * @return true if the snapshot exists and is restored, false if it does not
+	 *         exist.
+	 * @throws IOException
+	 *             If the snapshot fails to read, e.g. if it is corrupt or was
+	 *             written by another snapshot format version.
+	 */
+	public static boolean load(OntologyExtractor extractor, File file) throws IOException {
+		if (!file.isFile())
+			return false;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			int version = in.readInt();
+			if (version != VERSION)
+				throw new IOException("Unsupported snapshot version: " + version);
+			byte[] expressions = new byte[in.readInt()];
+			in.readFully(expressions);
+			List<Object> table = readTable(in, readExpressions(expressions));
+			IntFunction<Object> objectAt = index -> {
+				if (index < 0 || index >= table.size())
+					throw new IllegalArgumentException("Snapshot index out of range: " + index);
+				return table.get(index);
+			};
+
+			Map<OWLClass, COWLClassImpl> classMap = CollectionUtil.readIndexedMap(in, objectAt);
+			Map<OWLDataProperty, COWLDataPropertyImpl> dataPropertyMap = CollectionUtil.readIndexedMap(in, objectAt);
+			Map<OWLObjectProperty, COWLObjectPropertyImpl> objectPropertyMap = CollectionUtil.readIndexedMap(in,
+					objectAt);
+			Set<OWLNamedIndividual> existingIndividuals = CollectionUtil.readIndexedSet(in, objectAt);
+			for (Object object : table) {
+				if (object instanceof COWLClassImpl)
+					((COWLClassImpl) object).read(in, objectAt);
+				else if (object instanceof COWLPropertyImpl)
+					((COWLPropertyImpl) object).read(in, objectAt);
+			}
+			// Frozen arrays are rebuilt as after extraction, once all indexes are read.
+			for (COWLClassImpl cowlClassImpl : classMap.values())
+				cowlClassImpl.freeze();
+			for (COWLDataPropertyImpl propImpl : dataPropertyMap.values())
+				propImpl.freeze();
+			for (COWLObjectPropertyImpl propImpl : objectPropertyMap.values())
+				propImpl.freeze();
+			extractor.restore(classMap, dataPropertyMap, objectPropertyMap, existingIndividuals);
+		} catch (IllegalArgumentException | ClassCastException e) {
+			throw new IOException("Corrupt snapshot: " + e.getMessage(), e);
+		}
+		return true;
+	}
+
+	/**
+	 * Write the anonymous class expressions and data ranges of the table as an
+	 * OWL functional syntax document, each as the super class or the definition
+	 * of a marker entity named by its table index.
+	 *
+	 * @param table
+	 *            Table of the snapshot.
+	 * @return Expression document.
+	 * @throws IOException
+	 *             If the document fails to render.
+	 */
+	private static byte[] writeExpressions(List<Object> table) throws IOException {
+		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+		OWLDataFactory df = manager.getOWLDataFactory();
+		List<OWLAxiom> axioms = new ArrayList<>();
+		for (int i = 0; i < table.size(); i++) {
+			Object object = table.get(i);
+			IRI marker = IRI.create(MARKER + i);
+			if (object instanceof OWLClassExpression && ((OWLClassExpression) object).isAnonymous())
+				axioms.add(df.getOWLSubClassOfAxiom(df.getOWLClass(marker), (OWLClassExpression) object));
+			else if (object instanceof OWLDataRange && !((OWLDataRange) object).isOWLDatatype())
+				axioms.add(df.getOWLDatatypeDefinitionAxiom(df.getOWLDatatype(marker), (OWLDataRange) object));
+		}
+		try {
+			OWLOntology ontology = manager.createOntology(axioms);
+			ByteArrayOutputStream document = new ByteArrayOutputStream();
+			manager.saveOntology(ontology, new FunctionalSyntaxDocumentFormat(), document);
+			return document.toByteArray();
+		} catch (OWLOntologyCreationException | OWLOntologyStorageException e) {
+			throw new IOException("Rendering snapshot expressions failed: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Read the anonymous class expressions and data ranges of an expression
+	 * document written by {@link #writeExpressions(List)}.
+	 *
+	 * @param expressions
+	 *            Expression document.
+	 * @return Mapping from table index to expression.
+	 * @throws IOException
+	 *             If the document fails to parse.
+	 */
+	private static Map<Integer, Object> readExpressions(byte[] expressions) throws IOException {
+		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+		OWLOntology ontology;
+		try {
+			ontology = manager.loadOntologyFromOntologyDocument(
+					new StringDocumentSource(new String(expressions, StandardCharsets.UTF_8), IRI.create(MARKER),
+							new FunctionalSyntaxDocumentFormat(), null));
+		} catch (OWLOntologyCreationException e) {
+			throw new IOException("Parsing snapshot expressions failed: " + e.getMessage(), e);
+		}
+		Map<Integer, Object> markedExpressions = new HashMap<>();
+		ontology.axioms(AxiomType.SUBCLASS_OF).forEach(axiom -> markedExpressions
+				.put(markerIndex(axiom.getSubClass().asOWLClass().getIRI()), axiom.getSuperClass()));
+		ontology.axioms(AxiomType.DATATYPE_DEFINITION).forEach(
+				axiom -> markedExpressions.put(markerIndex(axiom.getDatatype().getIRI()), axiom.getDataRange()));
+		return markedExpressions;
+	}
+
+	/**
+	 * Get the table index of a marker entity.
+	 *
+	 * @param marker
+	 *            IRI of a marker entity.
+	 * @return Table index.
+	 */
+	private static int markerIndex(IRI marker) {
+		return Integer.parseInt(marker.toString().substring(MARKER.length()));
+	}
+
+	/**
+	 * Write the table of the snapshot, each entry as its kind followed by its IRI
+	 * or name. Anonymous expressions are written as their kind only, since they
+	 * are in the expression document.
+	 *
+	 * @param out
+	 *            Data output.
+	 * @param table
+	 *            Table of the snapshot.
+	 * @throws IOException
+	 *             If an object of the table cannot be written.
+	 */
+	private static void writeTable(DataOutputStream out, List<Object> table) throws IOException {
+		out.writeInt(table.size());
+		for (Object object : table) {
+			if (object instanceof COWLClassImpl) {
+				out.writeByte(CLASS);
+				out.writeUTF(((COWLClassImpl) object).getIRI().toString());
+			} else if (object instanceof COWLDataPropertyImpl) {
+				out.writeByte(DATA_PROPERTY);
+				out.writeUTF(((COWLDataPropertyImpl) object).getIRI().toString());
+			} else if (object instanceof COWLObjectPropertyImpl) {
+				out.writeByte(OBJECT_PROPERTY);
+				out.writeUTF(((COWLObjectPropertyImpl) object).getIRI().toString());
+			} else if (object instanceof OWLEntity) {
+				out.writeByte(ENTITY);
+				out.writeUTF(((OWLEntity) object).getEntityType().getName());
+				out.writeUTF(((OWLEntity) object).getIRI().toString());
+			} else if (object instanceof IRI) {
+				out.writeByte(IRI_ENTRY);
+				out.writeUTF(object.toString());
+			} else if (object instanceof AxiomType) {
+				out.writeByte(AXIOM_TYPE);
+				out.writeUTF(((AxiomType<?>) object).getName());
+			} else if (object instanceof OWLClassExpression)
+				out.writeByte(CLASS_EXPRESSION);
+			else if (object instanceof OWLDataRange)
+				out.writeByte(DATA_RANGE);
+			else
+				throw new IOException("Unsupported snapshot object: " + object.getClass().getName());
+		}
+	}
+
+	/**
+	 * Read the table of a snapshot written by
+	 * {@link #writeTable(DataOutputStream, List)}.
+	 *
+	 * @param in
+	 *            Data input.
+	 * @param expressions
+	 *            Mapping from table index to anonymous expression.
+	 * @return Table of the snapshot.
+	 * @throws IOException
+	 *             If the table fails to read.
+	 */
+	private static List<Object> readTable(DataInputStream in, Map<Integer, Object> expressions) throws IOException {
+		OWLDataFactory df = OWLManager.getOWLDataFactory();
+		Map<String, EntityType<?>> entityTypes = EntityType.values().stream()
+				.collect(Collectors.toMap(EntityType::getName, type -> type));
+		int size = in.readInt();
+		List<Object> table = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			byte kind = in.readByte();
+			switch (kind) {
+			case CLASS:
+				table.add(new COWLClassImpl(IRI.create(in.readUTF())));
+				break;
+			case DATA_PROPERTY:
+				table.add(new COWLDataPropertyImpl(IRI.create(in.readUTF())));
+				break;
+			case OBJECT_PROPERTY:
+				table.add(new COWLObjectPropertyImpl(IRI.create(in.readUTF())));
+				break;
+			case ENTITY:
+				EntityType<?> entityType = entityTypes.get(in.readUTF());
+				if (entityType == null)
+					throw new IOException("Corrupt snapshot: unknown entity type");
+				table.add(entityType.buildEntity(IRI.create(in.readUTF()), df));
+				break;
+			case IRI_ENTRY:
+				table.add(IRI.create(in.readUTF()));
+				break;
+			case AXIOM_TYPE:
+				String name = in.readUTF();
+				if (!AxiomType.isAxiomType(name))
+					throw new IOException("Corrupt snapshot: unknown axiom type " + name);
+				table.add(AxiomType.getAxiomType(name));
+				break;
+			case CLASS_EXPRESSION:
+			case DATA_RANGE:
+				Object expression = expressions.get(i);
+				if (expression == null)
+					throw new IOException("Corrupt snapshot: missing expression " + i);
+				table.add(expression);
+				break;
+			default:
+				throw new IOException("Corrupt snapshot: unknown table entry " + kind);
+			}
+		}
+		return table;
+	}
+}
@@ -0,0 +1,317 @@
+package edu.neu.ece.objectdescriptiongenerator.extractor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Transitive closure of a hierarchy of OWL entities, e.g. of the named classes
+ * or properties of an ontology, computed in one pass from their direct edges.
+ * Entities on a cycle of edges are equivalent. Rows of ancestors and descendants
+ * are bitsets over dense entity indexes, one per set of equivalent entities, so
+ * that the closure takes O(V + E·V/64) time instead of a graph walk per entity.
+ *
+ * @param <E>
+ *            The class of the entities.
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class HierarchyClosure<E> {
+
+	/**
+	 * Entities of the hierarchy, by index.
+	 */
+	private final List<E> entities;
+
+	/**
+	 * Mapping from entity to its index.
+	 */
+	private final Map<E, Integer> indexes;
+
+	/**
+	 * Top entity, which is an ancestor of all other entities, null if none.
+	 */
+	private final E top;
+
+	/**
+	 * Bottom entity, which is a descendant of all other entities, null if none.
+	 */
+	private final E bottom;
+
+	/**
+	 * Child indexes of the edges, in the order they are added.
+	 */
+	private int[] edgeChildren = new int[16];
+
+	/**
+	 * Parent indexes of the edges, in the order they are added.
+	 */
+	private int[] edgeParents = new int[16];
+
+	/**
+	 * The number of edges.
+	 */
+	private int edgeNumber = 0;
+
+	/**
+	 * Mapping from entity index to the index of its set of equivalent entities,
+	 * null until the closure is computed.
+	 */
+	private int[] components;
+
+	/**
+	 * Entity indexes of each set of equivalent entities.
+	 */
+	private BitSet[] members;
+
+	/**
+	 * Entity indexes of the strict ancestors of each set of equivalent entities.
+	 */
+	private BitSet[] ancestors;
+
+	/**
+	 * Entity indexes of the strict descendants of each set of equivalent entities.
+	 */
+	private BitSet[] descendants;
+
+	/**
+	 * Constructor
+	 *
+	 * @param entities
+	 *            Entities of the hierarchy.
+	 * @param top
+	 *            Top entity, which is an ancestor of all other entities, null if
+	 *            none.
+	 * @param bottom
+	 *            Bottom entity, which is a descendant of all other entities, null
+	 *            if none.
+	 */
+	public HierarchyClosure(Collection<E> entities, E top, E bottom) {
+		this.entities = new ArrayList<>(entities);
+		indexes = new HashMap<>(this.entities.size() * 4 / 3 + 1);
+		for (E entity : this.entities)
+			indexes.put(entity, indexes.size());
+		this.top = indexes.containsKey(top) ? top : null;
+		this.bottom = indexes.containsKey(bottom) ? bottom : null;
+	}
+
+	/**
+	 * Add a direct edge from an entity to one of its parents. Edges from or to
+	 * entities out of the hierarchy are ignored.
+	 *
+	 * @param child
+	 *            Child entity.
+	 * @param parent
+	 *            Parent entity.
+	 */
+	public void addEdge(E child, E parent) {
+		Integer childIndex = indexes.get(child);
+		Integer parentIndex = indexes.get(parent);
+		if (childIndex == null || parentIndex == null || childIndex.equals(parentIndex))
+			return;
+		if (edgeNumber == edgeChildren.length) {
+			edgeChildren = Arrays.copyOf(edgeChildren, edgeNumber * 2);
+			edgeParents = Arrays.copyOf(edgeParents, edgeNumber * 2);
+		}
+		edgeChildren[edgeNumber] = childIndex;
+		edgeParents[edgeNumber] = parentIndex;
+		edgeNumber++;
+	}
+
+	/**
+	 * Compute the transitive closure of the edges added so far. The sets of
+	 * equivalent entities are the strongly connected components of the edges,
+	 * found by Tarjan's algorithm, which emits a component only after all
+	 * components it reaches. Ancestor rows are then or-ed in emission order and
+	 * descendant rows in reverse emission order.
+	 */
+	public void compute() {
+		int size = entities.size();
+		// Parents of each entity in compressed sparse row form.
+		int[] parentStart = new int[size + 1];
+		for (int i = 0; i < edgeNumber; i++)
+			parentStart[edgeChildren[i] + 1]++;
+		for (int i = 0; i < size; i++)
+			parentStart[i + 1] += parentStart[i];
+		int[] parents = new int[edgeNumber];
+		int[] fill = Arrays.copyOf(parentStart, size);
+		for (int i = 0; i < edgeNumber; i++)
+			parents[fill[edgeChildren[i]]++] = edgeParents[i];
+
+		components = new int[size];
+		Arrays.fill(components, -1);
+		int[] order = new int[size];
+		Arrays.fill(order, -1);
+		int[] low = new int[size];
+		int[] cursor = new int[size];
+		int[] tarjanStack = new int[size];
+		int tarjanTop = 0;
+		int[] callStack = new int[size];
+		int callTop = 0;
+		int counter = 0;
+		int componentNumber = 0;
+		for (int root = 0; root < size; root++) {
+			if (order[root] >= 0)
+				continue;
+			order[root] = low[root] = counter++;
+			cursor[root] = parentStart[root];
+			tarjanStack[tarjanTop++] = root;
+			callStack[callTop++] = root;
+			while (callTop > 0) {
+				int v = callStack[callTop - 1];
+				if (cursor[v] < parentStart[v + 1]) {
+					int w = parents[cursor[v]++];
+					if (order[w] < 0) {
+						order[w] = low[w] = counter++;
+						cursor[w] = parentStart[w];
+						tarjanStack[tarjanTop++] = w;
+						callStack[callTop++] = w;
+					} else if (components[w] < 0)
+						low[v] = Math.min(low[v], order[w]);
+					continue;
+				}
+				callTop--;
+				if (callTop > 0)
+					low[callStack[callTop - 1]] = Math.min(low[callStack[callTop - 1]], low[v]);
+				if (low[v] == order[v]) {
+					int w;
+					do {
+						w = tarjanStack[--tarjanTop];
+						components[w] = componentNumber;
+					} while (w != v);
+					componentNumber++;
+				}
+			}
+		}
+
+		members = new BitSet[componentNumber];
+		ancestors = new BitSet[componentNumber];
+		descendants = new BitSet[componentNumber];
+		for (int c = 0; c < componentNumber; c++) {
+			members[c] = new BitSet();
+			ancestors[c] = new BitSet();
+			descendants[c] = new BitSet();
+		}
+		for (int i = 0; i < size; i++)
+			members[components[i]].set(i);
+
+		// Edges grouped by child component, in emission order.
+		int[] byComponent = new int[edgeNumber];
+		int[] componentStart = new int[componentNumber + 1];
+		for (int i = 0; i < edgeNumber; i++)
+			componentStart[components[edgeChildren[i]] + 1]++;
+		for (int c = 0; c < componentNumber; c++)
+			componentStart[c + 1] += componentStart[c];
+		fill = Arrays.copyOf(componentStart, componentNumber);
+		for (int i = 0; i < edgeNumber; i++)
+			byComponent[fill[components[edgeChildren[i]]]++] = i;
+
+		for (int c = 0; c < componentNumber; c++)
+			for (int e = componentStart[c]; e < componentStart[c + 1]; e++) {
+				int p = components[edgeParents[byComponent[e]]];
+				if (p != c) {
+					ancestors[c].or(ancestors[p]);
+					ancestors[c].or(members[p]);
+				}
+			}
+		for (int c = componentNumber - 1; c >= 0; c--)
+			for (int e = componentStart[c]; e < componentStart[c + 1]; e++) {
+				int p = components[edgeParents[byComponent[e]]];
+				if (p != c) {
+					descendants[p].or(descendants[c]);
+					descendants[p].or(members[c]);
+				}
+			}
+
+		if (top != null)
+			connectAll(components[indexes.get(top)], true);
+		if (bottom != null)
+			connectAll(components[indexes.get(bottom)], false);
+	}
+
+	/**
+	 * Make a set of equivalent entities an ancestor or a descendant of all other
+	 * entities.
+	 *
+	 * @param component
+	 *            Index of the set of equivalent entities.
+	 * @param above
+	 *            true to make it an ancestor, false to make it a descendant.
+	 */
+	private void connectAll(int component, boolean above) {
+		for (int c = 0; c < members.length; c++) {
+			if (c == component)
+				continue;
+			(above ? ancestors[c] : descendants[c]).or(members[component]);
+			(above ? descendants[component] : ancestors[component]).or(members[c]);
+		}
+	}
+
+	/**
+	 * Get the ancestors (direct and inferred) of an entity, excluding its
+	 * equivalent entities.
+	 *
+	 * @param entity
+	 *            Entity of the hierarchy.
+	 * @return Ancestors of the entity, inserted in index order.
+	 */
+	public Set<E> getAncestors(E entity) {
+		return toSet(ancestors, entity);
+	}
+
+	/**
+	 * Get the descendants (direct and inferred) of an entity, excluding its
+	 * equivalent entities.
+	 *
+	 * @param entity
+	 *            Entity of the hierarchy.
+	 * @return Descendants of the entity, inserted in index order.
+	 */
+	public Set<E> getDescendants(E entity) {
+		return toSet(descendants, entity);
+	}
+
+	/**
+	 * Get the equivalent entities of an entity, including itself.
+	 *
+	 * @param entity
+	 *            Entity of the hierarchy.
+	 * @return Equivalent entities of the entity, inserted in index order.
+	 */
+	public Set<E> getEquivalents(E entity) {
+		return toSet(members, entity);
+	}
+
+	/**
+	 * Collect the entities of the row of an entity.
+	 *
+	 * @param rows
+	 *            Rows by set of equivalent entities.
+	 * @param entity
+	 *            Entity of the hierarchy.
+	 * @return Entities of the row, inserted in index order, or only the entity
+	 *         itself in its equivalents if it is out of the hierarchy.
+	 */
+	private Set<E> toSet(BitSet[] rows, E entity) {
+		if (components == null)
+			throw new IllegalStateException("The closure has not been computed");
+		Set<E> result = new HashSet<>();
+		Integer index = indexes.get(entity);
+		if (index == null) {
+			if (rows == members)
+				result.add(entity);
+			return result;
+		}
+		BitSet row = rows[components[index]];
+		for (int i = row.nextSetBit(0); i >= 0; i = row.nextSetBit(i + 1))
+			result.add(entities.get(i));
+		return result;
+	}
+}
@@ -0,0 +1,269 @@
+package edu.neu.ece.objectdescriptiongenerator.extractor;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLProperty;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.ac.manchester.cs.owlapi.modularity.ModuleType;
+import uk.ac.manchester.cs.owlapi.modularity.SyntacticLocalityModuleExtractor;
+
+/**
+ * Extractor of the module of an input ontology that object descriptions of a
+ * set of root classes can involve. As the search of target signatures in the
+ * space coverage evaluation, the walk follows the told hierarchy down from the
+ * root classes to their subclasses and to the fillers of their class
+ * constraints, but it follows it up only to the super classes, whose class
+ * constraints are inherited, and never to disjoint classes or to other axioms
+ * referencing a class. A class that is walked down reaches its subclasses,
+ * equivalent classes, class constraints, asserted individuals and the
+ * properties it is a domain of with their ranges; a class that is walked up
+ * reaches its super classes and equivalent classes and the constraints of its
+ * subclass axioms; a property reaches its sub, super, equivalent, inverse and
+ * disjoint properties.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class ModuleExtractor {
+
+	/**
+	 * Logger class, used for generating log file and debugging info on console.
+	 */
+	private final Logger logger = LoggerFactory.getLogger(getClass().getName());
+
+	/**
+	 * Input ontology.
+	 */
+	private final OWLOntology ont;
+
+	/**
+	 * OWL classes, properties and named individuals of the module.
+	 */
+	private final Set<OWLEntity> signature = new HashSet<>();
+
+	/**
+	 * OWL classes walked down, i.e. to their subclasses and fillers.
+	 */
+	private final Set<OWLClass> descendedClasses = new HashSet<>();
+
+	/**
+	 * OWL classes walked up, i.e. to their super classes.
+	 */
+	private final Set<OWLClass> ascendedClasses = new HashSet<>();
+
+	/**
+	 * OWL classes pending to be walked down.
+	 */
+	private final Deque<OWLClass> pendingDescents = new ArrayDeque<>();
+
+	/**
+	 * OWL classes pending to be walked up.
+	 */
+	private final Deque<OWLClass> pendingAscents = new ArrayDeque<>();
+
+	/**
+	 * OWL properties pending to be walked.
+	 */
+	private final Deque<OWLProperty> pendingProperties = new ArrayDeque<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param ont
+	 *            Input ontology.
+	 */
+	public ModuleExtractor(OWLOntology ont) {
+		this.ont = ont;
+	}
+
+	/**
+	 * Walk the told hierarchy of the input ontology from the root classes and
+	 * collect the signature of the module.
+	 *
+	 * @param roots
+	 *            IRIs of the root classes.
+	 * @return OWL classes, properties and named individuals of the module.
+	 */
+	public Set<OWLEntity> extractSignature(Collection<IRI> roots) {
+		logger.info("Begin extracting the module of the root classes...");
+		OWLDataFactory df = ont.getOWLOntologyManager().getOWLDataFactory();
+		OWLReasoner hierarchy = new StructuralReasonerFactory().createReasoner(ont);
+		try {
+			for (IRI root : roots)
+				descend(df.getOWLClass(root));
+			while (!pendingDescents.isEmpty() || !pendingAscents.isEmpty() || !pendingProperties.isEmpty()) {
+				if (!pendingDescents.isEmpty())
+					walkDown(pendingDescents.pop(), hierarchy);
+				else if (!pendingAscents.isEmpty())
+					walkUp(pendingAscents.pop(), hierarchy);
+				else
+					walkProperty(pendingProperties.pop());
+			}
+		} finally {
+			hierarchy.dispose();
+		}
+		logger.info("Extract the module of the root classes successfully! " + descendedClasses.size()
+				+ " classes are walked down and " + (ascendedClasses.size() - descendedClasses.size())
+				+ " only up.");
+		return signature;
+	}
+
+	/**
+	 * Extract the syntactic locality-based module of the input ontology for a
+	 * signature, which preserves the entailments of the input ontology over the
+	 * signature, so that a reasoner over it answers the queries on the entities
+	 * of the signature as a reasoner over the input ontology.
+	 *
+	 * @param moduleSignature
+	 *            Signature of the module.
+	 * @return Module ontology, in a manager of its own.
+	 * @throws OWLOntologyCreationException
+	 *             If the module ontology fails to be created.
+	 */
+	public OWLOntology extractOntology(Set<OWLEntity> moduleSignature) throws OWLOntologyCreationException {
+		SyntacticLocalityModuleExtractor extractor = new SyntacticLocalityModuleExtractor(
+				ont.getOWLOntologyManager(), ont.axioms(Imports.INCLUDED), ModuleType.STAR);
+		Set<OWLAxiom> axioms = extractor.extract(moduleSignature);
+		OWLDataFactory df = ont.getOWLOntologyManager().getOWLDataFactory();
+		moduleSignature.stream().map(df::getOWLDeclarationAxiom).forEach(axioms::add);
+		logger.info("Module ontology: " + axioms.size() + " axioms out of "
+				+ ont.axioms(Imports.INCLUDED).count());
+		return OWLManager.createOWLOntologyManager().createOntology(axioms);
+	}
+
+	/**
+	 * Walk an OWL class down to its subclasses, equivalent classes, class
+	 * constraints, asserted individuals and the properties it is a domain of.
+	 *
+	 * @param owlClass
+	 *            OWL class.
+	 * @param hierarchy
+	 *            Reasoner over the told hierarchy of the input ontology.
+	 */
+	private void walkDown(OWLClass owlClass, OWLReasoner hierarchy) {
+		hierarchy.subClasses(owlClass, false).forEach(this::descend);
+		ont.importsClosure().flatMap(o -> o.equivalentClassesAxioms(owlClass))
+				.flatMap(axiom -> axiom.getClassExpressionsMinus(owlClass).stream()).forEach(this::reachFillers);
+		ont.importsClosure().flatMap(o -> o.classAssertionAxioms(owlClass)).forEach(axiom -> reachFillers(axiom.getIndividual()));
+		ont.referencingAxioms(owlClass, Imports.INCLUDED)
+				.filter(axiom -> axiom.isOfType(AxiomType.OBJECT_PROPERTY_DOMAIN))
+				.forEach(axiom -> axiom.objectPropertiesInSignature().forEach(property -> {
+					reach(property);
+					ont.importsClosure().flatMap(o -> o.objectPropertyRangeAxioms(property))
+							.forEach(range -> reachFillers(range.getRange()));
+				}));
+		ont.referencingAxioms(owlClass, Imports.INCLUDED)
+				.filter(axiom -> axiom.isOfType(AxiomType.DATA_PROPERTY_DOMAIN))
+				.forEach(axiom -> axiom.dataPropertiesInSignature().forEach(this::reach));
+	}
+
+	/**
+	 * Walk an OWL class up to its super classes and equivalent classes and the
+	 * constraints of its subclass axioms, which its subclasses inherit.
+	 *
+	 * @param owlClass
+	 *            OWL class.
+	 * @param hierarchy
+	 *            Reasoner over the told hierarchy of the input ontology.
+	 */
+	private void walkUp(OWLClass owlClass, OWLReasoner hierarchy) {
+		hierarchy.superClasses(owlClass, false).forEach(this::ascend);
+		hierarchy.equivalentClasses(owlClass).forEach(this::ascend);
+		ont.importsClosure().flatMap(o -> o.subClassAxiomsForSubClass(owlClass)).map(axiom -> axiom.getSuperClass())
+				.filter(OWLClassExpression::isAnonymous).forEach(this::reachFillers);
+	}
+
+	/**
+	 * Walk an OWL property to its sub, super, equivalent, inverse and disjoint
+	 * properties.
+	 *
+	 * @param property
+	 *            OWL object or data property.
+	 */
+	private void walkProperty(OWLProperty property) {
+		ont.referencingAxioms(property, Imports.INCLUDED)
+				.filter(axiom -> axiom.isOfType(AxiomType.SUB_OBJECT_PROPERTY, AxiomType.EQUIVALENT_OBJECT_PROPERTIES,
+						AxiomType.INVERSE_OBJECT_PROPERTIES, AxiomType.DISJOINT_OBJECT_PROPERTIES,
+						AxiomType.SUB_DATA_PROPERTY, AxiomType.EQUIVALENT_DATA_PROPERTIES,
+						AxiomType.DISJOINT_DATA_PROPERTIES))
+				.forEach(axiom -> Stream.concat(axiom.objectPropertiesInSignature(), axiom.dataPropertiesInSignature())
+						.forEach(this::reach));
+	}
+
+	/**
+	 * Reach the entities of a class expression or an individual: named classes
+	 * are walked down as fillers, and properties and named individuals are added
+	 * to the module.
+	 *
+	 * @param object
+	 *            Class expression or individual.
+	 */
+	private void reachFillers(OWLObject object) {
+		object.classesInSignature().forEach(this::descend);
+		Stream.concat(object.objectPropertiesInSignature(), object.dataPropertiesInSignature())
+				.forEach(this::reach);
+		object.individualsInSignature().forEach(signature::add);
+	}
+
+	/**
+	 * Add an OWL property to the module and walk it, unless it is a top or bottom
+	 * property or already in the module.
+	 *
+	 * @param property
+	 *            OWL object or data property.
+	 */
+	private void reach(OWLProperty property) {
+		if (!property.isTopEntity() && !property.isBottomEntity() && signature.add(property))
+			pendingProperties.push(property);
+	}
+
+	/**
+	 * Walk an OWL class down, and up, unless it is owl:Thing or owl:Nothing or
+	 * already walked down.
+	 *
+	 * @param owlClass
+	 *            OWL class.
+	 */
+	private void descend(OWLClass owlClass) {
+		if (owlClass.isOWLThing() || owlClass.isOWLNothing() || !descendedClasses.add(owlClass))
+			return;
+		pendingDescents.push(owlClass);
+		ascend(owlClass);
+	}
+
+	/**
+	 * Add an OWL class to the module and walk it up, unless it is owl:Thing or
+	 * owl:Nothing or already walked up.
+	 *
+	 * @param owlClass
+	 *            OWL class.
+	 */
+	private void ascend(OWLClass owlClass) {
+		if (owlClass.isOWLThing() || owlClass.isOWLNothing() || !ascendedClasses.add(owlClass))
+			return;
+		signature.add(owlClass);
+		pendingAscents.push(owlClass);
+	}
+}
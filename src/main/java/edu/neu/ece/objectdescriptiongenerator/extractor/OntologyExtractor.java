@@ -1,27 +1,39 @@
 package edu.neu.ece.objectdescriptiongenerator.extractor;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.ClassExpressionType;
+import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnonymousClassExpression;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLClassAxiom;
 import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLDataHasValue;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDataPropertyAxiom;
 import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
 import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLIndividualAxiom;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectAllValuesFrom;
@@ -47,6 +59,7 @@ import edu.neu.ece.objectdescriptiongenerator.entity.properties.COWLDataProperty
 import edu.neu.ece.objectdescriptiongenerator.entity.properties.COWLObjectPropertyImpl;
 import edu.neu.ece.objectdescriptiongenerator.entity.properties.COWLPropertyImpl;
 import edu.neu.ece.objectdescriptiongenerator.metric.OntologyMetric;
+import edu.neu.ece.objectdescriptiongenerator.visitor.COWLAxiomIndexVisitor;
 import edu.neu.ece.objectdescriptiongenerator.visitor.COWLClassAxiomVisitor;
 import edu.neu.ece.objectdescriptiongenerator.visitor.COWLDataPropertyAxiomVisitor;
 import edu.neu.ece.objectdescriptiongenerator.visitor.COWLEntityVisitor;
@@ -110,6 +123,72 @@ public class OntologyExtractor {
 	 */
 	private OntologyMetric metric = new OntologyMetric();
 
+	/**
+	 * The number of threads that query the input ontology and the reasoner ahead
+	 * of extraction; 0 by default, which means they are queried while extracting.
+	 */
+	private int threads = 0;
+
+	/**
+	 * Fork-join pool that queries the input ontology and the reasoner ahead of
+	 * extraction, null if they are queried while extracting.
+	 */
+	private ForkJoinPool pool = null;
+
+	/**
+	 * Detect whether the axioms of the input ontology are indexed by entity in one
+	 * pass, instead of being queried entity by entity; false by default.
+	 */
+	private boolean singlePass = false;
+
+	/**
+	 * Detect whether the class and property hierarchies are computed by a
+	 * transitive closure of the extracted direct edges, instead of being queried
+	 * from the reasoner entity by entity; false by default.
+	 */
+	private boolean hierarchyClosure = false;
+
+	/**
+	 * OWL classes, properties and named individuals of the extracted module, null
+	 * if the whole imports closure of the input ontology is extracted.
+	 */
+	private Set<OWLEntity> module = null;
+
+	/**
+	 * OWL class axioms of an OWL class, including imports.
+	 */
+	private Function<OWLClass, Set<OWLClassAxiom>> classAxioms;
+
+	/**
+	 * OWL object property axioms of an OWL object property, including imports.
+	 */
+	private Function<OWLObjectProperty, Set<OWLObjectPropertyAxiom>> objectPropertyAxioms;
+
+	/**
+	 * OWL data property axioms of an OWL data property, including imports.
+	 */
+	private Function<OWLDataProperty, Set<OWLDataPropertyAxiom>> dataPropertyAxioms;
+
+	/**
+	 * OWL individual axioms of an OWL named individual, including imports.
+	 */
+	private Function<OWLNamedIndividual, Set<OWLIndividualAxiom>> individualAxioms;
+
+	/**
+	 * Reasoner results on an OWL class.
+	 */
+	private Function<OWLClass, ClassInferences> classInferences;
+
+	/**
+	 * Reasoner results on an OWL data property.
+	 */
+	private Function<OWLDataProperty, PropertyInferences<OWLDataProperty>> dataPropertyInferences;
+
+	/**
+	 * Reasoner results on an OWL object property.
+	 */
+	private Function<OWLObjectProperty, PropertyInferences<OWLObjectPropertyExpression>> objectPropertyInferences;
+
 	/**
 	 * Mapping from quantified object restriction type to its priority.
 	 */
@@ -147,6 +226,68 @@ public class OntologyExtractor {
 		this.reasoner = reasoner;
 	}
 
+	/**
+	 * Set the number of threads that query the input ontology and the reasoner
+	 * ahead of extraction. The axioms and reasoner results of all entities are
+	 * queried in parallel, overlapping the class, property and individual phases
+	 * and the reasoning phase, while the extracted ontology model is still built
+	 * in one thread in the same order as in sequential extraction, so that it is
+	 * identical.
+	 * 
+	 * @param threads
+	 *            The number of threads, 0 to query while extracting.
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * Set whether the axioms of the input ontology are indexed by entity in one
+	 * pass over the axioms of its imports closure, instead of being queried
+	 * entity by entity. The axioms of each entity are the same, but they may be
+	 * visited in another order, so that generated datasets may differ from the
+	 * ones of per-entity queries for the same random seed.
+	 * 
+	 * @param singlePass
+	 *            true to index the axioms in one pass.
+	 */
+	public void setSinglePass(boolean singlePass) {
+		this.singlePass = singlePass;
+	}
+
+	/**
+	 * Set whether the subclasses, super classes and equivalent classes of each
+	 * class, and the subproperties, super properties and equivalent properties of
+	 * each property, are computed in one pass by a bitset-based transitive closure
+	 * of the direct edges extracted from the told axioms, instead of being queried
+	 * from the reasoner entity by entity. The closure follows the told hierarchy
+	 * as the structural reasoner does, but the inferred sets may be filled in
+	 * another order, so that generated datasets may differ from the ones of
+	 * reasoner queries for the same random seed.
+	 * 
+	 * @param hierarchyClosure
+	 *            true to compute the hierarchies by a transitive closure.
+	 */
+	public void setHierarchyClosure(boolean hierarchyClosure) {
+		this.hierarchyClosure = hierarchyClosure;
+	}
+
+	/**
+	 * Set the module to extract, as collected by {@link ModuleExtractor}. Only the
+	 * classes, properties and named individuals of the module are extracted,
+	 * queried from the reasoner and kept in the containers, which are all that
+	 * object descriptions of the root classes of the module can involve, so that
+	 * they are generated as from the whole ontology. The reasoner is then expected
+	 * to reason over the module ontology only.
+	 * 
+	 * @param module
+	 *            OWL classes, properties and named individuals of the module, null
+	 *            to extract the whole imports closure of the input ontology.
+	 */
+	public void setModule(Set<OWLEntity> module) {
+		this.module = module;
+	}
+
 	/**
 	 * Get the container that stores key-value pairs, where OWL API interface
 	 * OWLClass is the key and the customized class COWLClassImpl is the value.
@@ -234,11 +375,136 @@ public class OntologyExtractor {
 	 */
 	public void extract() {
 		preParsing();
-		parsing();
-		postParsing();
+		if (threads > 0) {
+			logger.info("Querying the input ontology and the reasoner with " + threads + " threads...");
+			pool = new ForkJoinPool(threads);
+		}
+		try {
+			queryAhead();
+			parsing();
+			postParsing();
+		} finally {
+			if (pool != null) {
+				pool.shutdownNow();
+				pool = null;
+			}
+		}
 		// logger.info(toString());
 	}
 
+	/**
+	 * This function defines the queries on the input ontology and the reasoner of
+	 * each OWL entity, which are independent of each other and of the extracted
+	 * ontology model. They are all submitted to the fork-join pool at once, if
+	 * any, so that later phases are queried while earlier ones are extracted.
+	 */
+	private void queryAhead() {
+		if (singlePass)
+			indexAxioms();
+		else
+			queryAxiomsAhead();
+		if (hierarchyClosure) {
+			// The hierarchies are computed from the extracted direct edges before
+			// postparsing, so only the other reasoner results are queried.
+			classInferences = queryAhead(classMap.keySet(), owlClass -> new ClassInferences(reasoner, owlClass, false));
+			dataPropertyInferences = property -> new PropertyInferences<>(Stream.empty(), Stream.empty(),
+					Stream.empty(), null);
+			objectPropertyInferences = queryAhead(objectPropertyMap.keySet(),
+					property -> new PropertyInferences<>(Stream.empty(), Stream.empty(), Stream.empty(),
+							reasoner.inverseObjectProperties(property)));
+			return;
+		}
+		classInferences = queryAhead(classMap.keySet(), owlClass -> new ClassInferences(reasoner, owlClass, true));
+		dataPropertyInferences = queryAhead(dataPropertyMap.keySet(),
+				property -> new PropertyInferences<>(reasoner.subDataProperties(property),
+						reasoner.superDataProperties(property), reasoner.equivalentDataProperties(property), null));
+		objectPropertyInferences = queryAhead(objectPropertyMap.keySet(),
+				property -> new PropertyInferences<>(reasoner.subObjectProperties(property),
+						reasoner.superObjectProperties(property), reasoner.equivalentObjectProperties(property),
+						reasoner.inverseObjectProperties(property)));
+	}
+
+	/**
+	 * This function indexes the axioms of the input ontology by entity in one pass
+	 * over the axioms of its imports closure, on the fork-join pool if any.
+	 */
+	private void indexAxioms() {
+		COWLAxiomIndexVisitor index = new COWLAxiomIndexVisitor();
+		Runnable indexing = () -> {
+			logger.info("Begin indexing OWL axioms...");
+			ont.axioms(Imports.INCLUDED).forEach(axiom -> axiom.accept(index));
+			logger.info("Index OWL axioms successfully!");
+		};
+		// Lookups wait for the index if it is built on the fork-join pool.
+		Runnable await;
+		if (pool == null) {
+			indexing.run();
+			await = () -> {
+			};
+		} else
+			await = pool.submit(indexing)::join;
+		classAxioms = owlClass -> {
+			await.run();
+			return index.getClassAxioms(owlClass);
+		};
+		objectPropertyAxioms = property -> {
+			await.run();
+			return index.getObjectPropertyAxioms(property);
+		};
+		dataPropertyAxioms = property -> {
+			await.run();
+			return index.getDataPropertyAxioms(property);
+		};
+		individualAxioms = ind -> {
+			await.run();
+			return index.getIndividualAxioms(ind);
+		};
+	}
+
+	/**
+	 * This function queries the axioms of each entity of the input ontology, ahead
+	 * of extraction if there is a fork-join pool.
+	 */
+	private void queryAxiomsAhead() {
+		classAxioms = queryAhead(classMap.keySet(),
+				owlClass -> ont.axioms(owlClass, Imports.INCLUDED).collect(Collectors.toSet()));
+		objectPropertyAxioms = queryAhead(objectPropertyMap.keySet(),
+				property -> ont.axioms(property, Imports.INCLUDED).collect(Collectors.toSet()));
+		dataPropertyAxioms = queryAhead(dataPropertyMap.keySet(),
+				property -> ont.axioms(property, Imports.INCLUDED).collect(Collectors.toSet()));
+		individualAxioms = queryAhead(existingIndividuals,
+				ind -> ont.axioms(ind, Imports.INCLUDED).collect(Collectors.toSet()));
+	}
+
+	/**
+	 * Submit a query on each of a collection of entities to the fork-join pool, if
+	 * any.
+	 * 
+	 * @param <E>
+	 *            The class of the entities.
+	 * @param <R>
+	 *            The class of the query results.
+	 * @param entities
+	 *            Entities to query.
+	 * @param query
+	 *            Query on an entity.
+	 * @return Function that returns the query result of an entity, waiting for it
+	 *         if it is queried ahead, or the query itself if there is no pool.
+	 */
+	private <E, R> Function<E, R> queryAhead(Collection<E> entities, Function<E, R> query) {
+		if (pool == null)
+			return query;
+		Map<E, R> results = new ConcurrentHashMap<>();
+		List<E> entityList = new ArrayList<>(entities);
+		ForkJoinTask<?> task = pool.submit(() -> entityList.parallelStream()
+				.forEach(entity -> results.put(entity, query.apply(entity))));
+		return entity -> {
+			task.join();
+			R result = results.get(entity);
+			return result != null ? result : query.apply(entity);
+		};
+	}
+
 	/**
 	 * This function defines OWL entity processing (preparsing).
 	 */
@@ -250,9 +516,33 @@ public class OntologyExtractor {
 		COWLEntityVisitor oev = new COWLEntityVisitor(this);
 		walker.walkStructure(oev);
 		logger.info(metric.toString());
+		if (module != null) {
+			// Removing entries keeps the capacities of the containers, hence the
+			// relative iteration order of the entities of the module, so that they are
+			// extracted in the same order as from the whole ontology.
+			classMap.keySet().retainAll(module);
+			dataPropertyMap.keySet().retainAll(module);
+			objectPropertyMap.keySet().retainAll(module);
+			existingIndividuals.retainAll(module);
+			logger.info("Module: " + classMap.size() + " classes, " + objectPropertyMap.size()
+					+ " object properties, " + dataPropertyMap.size() + " data properties, "
+					+ existingIndividuals.size() + " named individuals");
+		}
 		logger.info("Extract OWL entities successfully!");
 	}
 
+	/**
+	 * Detect whether an OWL entity is extracted, i.e. whether it belongs to the
+	 * extracted module if any.
+	 * 
+	 * @param entity
+	 *            OWL entity.
+	 * @return true if the entity is extracted.
+	 */
+	private boolean isExtracted(OWLEntity entity) {
+		return module == null || module.contains(entity);
+	}
+
 	/**
 	 * This function defines control flow of ontology axiom processing, including
 	 * class axiom processing, object property axiom processing, data property axiom
@@ -271,10 +561,12 @@ public class OntologyExtractor {
 	private void processClassAxioms() {
 		logger.info("Begin extracting OWL class axioms...");
 		for (OWLClass owlClass : ont.classesInSignature(Imports.INCLUDED).collect(Collectors.toSet())) {
+			if (!isExtracted(owlClass))
+				continue;
 			// Here we use visitor design pattern to visit OWL class axioms of the specified
 			// OWL name class through COWLClassAxiomVisitor.
 			COWLClassAxiomVisitor visitor = new COWLClassAxiomVisitor(this, owlClass);
-			for (OWLClassAxiom owlClassAxiom : ont.axioms(owlClass, Imports.INCLUDED).collect(Collectors.toSet())) {
+			for (OWLClassAxiom owlClassAxiom : classAxioms.apply(owlClass)) {
 				owlClassAxiom.accept(visitor);
 			}
 		}
@@ -288,6 +580,8 @@ public class OntologyExtractor {
 		logger.info("Begin extracting object property axioms...");
 		for (OWLObjectProperty owlObjectProperty : ont.objectPropertiesInSignature(Imports.INCLUDED)
 				.collect(Collectors.toSet())) {
+			if (!isExtracted(owlObjectProperty))
+				continue;
 			// logger.info("The IRI of the object property is " +
 			// owlObjectProperty.getIRI().getIRIString());
 			// COWLObjectPropertyImpl cowlObjectPropertyImpl =
@@ -299,8 +593,7 @@ public class OntologyExtractor {
 			Set<COWLClassImpl> cowlDomSet = new HashSet<>();
 			// Set<COWLClassImpl> cowlRanSet = new HashSet<>();
 			OWLClassExpression range = null;
-			for (OWLObjectPropertyAxiom owlObjectPropertyAxiom : ont.axioms(owlObjectProperty, Imports.INCLUDED)
-					.collect(Collectors.toSet())) {
+			for (OWLObjectPropertyAxiom owlObjectPropertyAxiom : objectPropertyAxioms.apply(owlObjectProperty)) {
 				if (owlObjectPropertyAxiom.isOfType(AxiomType.OBJECT_PROPERTY_DOMAIN)) {
 					// Set<OWLClass> domSet =
 					// reasoner.objectPropertyDomains(owlObjectProperty).collect(Collectors.toSet());
@@ -308,8 +601,10 @@ public class OntologyExtractor {
 					for (OWLClass oc : domSet) {
 						COWLClassImpl cowlClass = getClassMap().get(oc);
 						if (cowlClass == null) {
-							logger.error("An object property " + owlObjectProperty.getIRI().getIRIString()
-									+ " has an invalid domain: " + oc.getIRI().getIRIString());
+							// A domain outside the extracted module is left out.
+							if (isExtracted(oc))
+								logger.error("An object property " + owlObjectProperty.getIRI().getIRIString()
+										+ " has an invalid domain: " + oc.getIRI().getIRIString());
 							continue;
 						}
 						// logger.info("\t\tOne of the domain is " + oc.getIRI().getIRIString());
@@ -350,6 +645,8 @@ public class OntologyExtractor {
 		logger.info("Begin extracting data property axioms...");
 		for (OWLDataProperty owlDataProperty : ont.dataPropertiesInSignature(Imports.INCLUDED)
 				.collect(Collectors.toSet())) {
+			if (!isExtracted(owlDataProperty))
+				continue;
 			// logger.info("The IRI of the data property is " +
 			// owlDataProperty.getIRI().getIRIString());
 			// COWLDataPropertyImpl cowlDataPropertyImpl =
@@ -360,8 +657,7 @@ public class OntologyExtractor {
 					owlDataProperty);
 			Set<COWLClassImpl> cowlDomSet = new HashSet<>();
 			OWLDataRange ran = null;
-			for (OWLDataPropertyAxiom owlDataPropertyAxiom : ont.axioms(owlDataProperty, Imports.INCLUDED)
-					.collect(Collectors.toSet())) {
+			for (OWLDataPropertyAxiom owlDataPropertyAxiom : dataPropertyAxioms.apply(owlDataProperty)) {
 				if (owlDataPropertyAxiom.isOfType(AxiomType.DATA_PROPERTY_DOMAIN)) {
 					Set<OWLClass> domSet = owlDataPropertyAxiom.classesInSignature().collect(Collectors.toSet());
 					// Set<OWLClass> domSet =
@@ -369,8 +665,10 @@ public class OntologyExtractor {
 					for (OWLClass oc : domSet) {
 						COWLClassImpl cowlClass = getClassMap().get(oc);
 						if (cowlClass == null) {
-							logger.error("A data property " + owlDataProperty.getIRI().getIRIString()
-									+ " has an invalid domain: " + oc.getIRI().getIRIString());
+							// A domain outside the extracted module is left out.
+							if (isExtracted(oc))
+								logger.error("A data property " + owlDataProperty.getIRI().getIRIString()
+										+ " has an invalid domain: " + oc.getIRI().getIRIString());
 							continue;
 						}
 						// logger.info("\t\tOne of the domain is " + oc.getIRI().getIRIString());
@@ -403,7 +701,7 @@ public class OntologyExtractor {
 			// Here we use visitor design pattern to visit OWL individual axioms of the
 			// specified OWL named individual through COWLIndividualAxiomVisitor.
 			COWLIndividualAxiomVisitor cowlIndividualAxiomVisitor = new COWLIndividualAxiomVisitor(this, ind);
-			for (OWLIndividualAxiom owlIndividualAxiom : ont.axioms(ind, Imports.INCLUDED).collect(Collectors.toSet()))
+			for (OWLIndividualAxiom owlIndividualAxiom : individualAxioms.apply(ind))
 				owlIndividualAxiom.accept(cowlIndividualAxiomVisitor);
 		}
 		logger.info("Extract individual axioms successfully!");
@@ -414,35 +712,41 @@ public class OntologyExtractor {
 	 */
 	private void postParsing() {
 		logger.info("Begin extracting implicit knowledge...");
+		if (hierarchyClosure)
+			computeHierarchyClosures();
 		for (Entry<OWLClass, COWLClassImpl> classEntry : classMap.entrySet()) {
 			OWLClass owlClass = classEntry.getKey();
 			COWLClassImpl cowlClassImpl = classEntry.getValue();
+			ClassInferences inferences = classInferences.apply(owlClass);
 			// Get subclasses excluding owl:Nothing of each class
-			for (OWLClass subClass : reasoner.subClasses(owlClass).collect(Collectors.toSet())) {
-				if (!subClass.isOWLNothing())
+			for (OWLClass subClass : inferences.subClasses) {
+				if (!subClass.isOWLNothing() && classMap.containsKey(subClass))
 					cowlClassImpl.getSubClasses().add(classMap.get(subClass));
 			}
 			// Get superclasses excluding owl:Thing of each class
-			for (OWLClass superClass : reasoner.superClasses(owlClass).collect(Collectors.toSet())) {
-				if (!superClass.isOWLThing())
+			for (OWLClass superClass : inferences.superClasses) {
+				if (!superClass.isOWLThing() && classMap.containsKey(superClass))
 					cowlClassImpl.getSuperClasses().add(classMap.get(superClass));
 			}
 			// Get equivalent classes of each class
-			for (OWLClass equivalentClass : reasoner.equivalentClasses(owlClass).collect(Collectors.toSet())) {
+			for (OWLClass equivalentClass : inferences.equivalentClasses) {
 				if (!owlClass.equals(equivalentClass))
 					cowlClassImpl.getEquivalentClasses().add(equivalentClass);
 			}
 			// Get disjoint classes of each class
-			for (OWLClass disjointClass : reasoner.disjointClasses(owlClass).collect(Collectors.toSet())) {
+			for (OWLClass disjointClass : inferences.disjointClasses) {
 				if (!disjointClass.equals(owlClass))
 					cowlClassImpl.getDisjointClasses().add(disjointClass);
 			}
 			// Get individuals of each class
-			for (OWLNamedIndividual ind : reasoner.instances(owlClass).collect(Collectors.toSet())) {
-				LinkedList<OWLNamedIndividual> individuals = cowlClassImpl.getNamedIndividuals(true);
+			for (OWLNamedIndividual ind : inferences.instances) {
+				List<OWLNamedIndividual> individuals = cowlClassImpl.getNamedIndividuals(true);
 				if (!individuals.contains(ind))
 					individuals.add(ind);
 			}
+			// Keep individuals in a canonical order, so that generation is reproducible
+			// from a random seed.
+			Collections.sort(cowlClassImpl.getNamedIndividuals(true));
 
 			/*
 			 * Set<OWLAnonymousClassExpression> anonyClassExpSet = new
@@ -457,22 +761,20 @@ public class OntologyExtractor {
 		for (Entry<OWLDataProperty, COWLDataPropertyImpl> propertyEntry : dataPropertyMap.entrySet()) {
 			OWLDataProperty owlDataProperty = propertyEntry.getKey();
 			COWLDataPropertyImpl cowlDataPropertyImpl = propertyEntry.getValue();
+			PropertyInferences<OWLDataProperty> inferences = dataPropertyInferences.apply(owlDataProperty);
 			// Get subdataproperties of each data property
-			for (OWLDataProperty subProperty : reasoner.subDataProperties(owlDataProperty)
-					.collect(Collectors.toSet())) {
-				if (!subProperty.isOWLBottomDataProperty())
+			for (OWLDataProperty subProperty : inferences.subProperties) {
+				if (!subProperty.isOWLBottomDataProperty() && dataPropertyMap.containsKey(subProperty))
 					cowlDataPropertyImpl.getSubOWLProperties().add(dataPropertyMap.get(subProperty));
 			}
 			// Get superdataproperties of each data property
-			for (OWLDataProperty superProperty : reasoner.superDataProperties(owlDataProperty)
-					.collect(Collectors.toSet())) {
-				if (!superProperty.isOWLTopDataProperty())
+			for (OWLDataProperty superProperty : inferences.superProperties) {
+				if (!superProperty.isOWLTopDataProperty() && dataPropertyMap.containsKey(superProperty))
 					cowlDataPropertyImpl.getSuperOWLProperties().add(dataPropertyMap.get(superProperty));
 			}
 			// Get equivalent properties of each data property
-			for (OWLDataProperty equivalentProperty : reasoner.equivalentDataProperties(owlDataProperty)
-					.collect(Collectors.toSet())) {
-				if (!owlDataProperty.equals(equivalentProperty))
+			for (OWLDataProperty equivalentProperty : inferences.equivalentProperties) {
+				if (!owlDataProperty.equals(equivalentProperty) && dataPropertyMap.containsKey(equivalentProperty))
 					cowlDataPropertyImpl.getEquivalentProperties().add(dataPropertyMap.get(equivalentProperty));
 			}
 
@@ -489,12 +791,14 @@ public class OntologyExtractor {
 		for (Entry<OWLObjectProperty, COWLObjectPropertyImpl> propertyEntry : objectPropertyMap.entrySet()) {
 			OWLObjectProperty owlObjectProperty = propertyEntry.getKey();
 			COWLObjectPropertyImpl cowlObjectPropertyImpl = propertyEntry.getValue();
+			PropertyInferences<OWLObjectPropertyExpression> inferences = objectPropertyInferences
+					.apply(owlObjectProperty);
 			// Get subobjectproperties of each object property
 			// logger.info("Subproperties (direct and inferred) of " +
 			// owlObjectProperty.getIRI().getShortForm() + " are shown as follows:");
-			for (OWLObjectPropertyExpression subProperty : reasoner.subObjectProperties(owlObjectProperty)
-					.collect(Collectors.toSet())) {
-				if (subProperty instanceof OWLObjectProperty && !subProperty.isOWLBottomObjectProperty())
+			for (OWLObjectPropertyExpression subProperty : inferences.subProperties) {
+				if (subProperty instanceof OWLObjectProperty && !subProperty.isOWLBottomObjectProperty()
+						&& objectPropertyMap.containsKey(subProperty))
 					// logger.info("\t" + subProperty.getNamedProperty().getIRI().getIRIString());
 					cowlObjectPropertyImpl.getSubOWLProperties().add(objectPropertyMap.get(subProperty));
 			}
@@ -502,18 +806,18 @@ public class OntologyExtractor {
 			// Get superobjectproperties of each object property
 			// logger.info("Superproperties (direct and inferred) of " +
 			// owlObjectProperty.getIRI().getShortForm() + " are shown as follows:");
-			for (OWLObjectPropertyExpression superProperty : reasoner.superObjectProperties(owlObjectProperty)
-					.collect(Collectors.toSet())) {
-				if (superProperty instanceof OWLObjectProperty && !superProperty.isOWLTopObjectProperty())
+			for (OWLObjectPropertyExpression superProperty : inferences.superProperties) {
+				if (superProperty instanceof OWLObjectProperty && !superProperty.isOWLTopObjectProperty()
+						&& objectPropertyMap.containsKey(superProperty))
 					// logger.info("\t" + superProperty.getNamedProperty().getIRI().getIRIString());
 					cowlObjectPropertyImpl.getSuperOWLProperties().add(objectPropertyMap.get(superProperty));
 			}
 			// Get equivalent properties of each object property
 			// logger.info("Equivalalent properties of " +
 			// owlObjectProperty.getIRI().getShortForm() + " are shown as follows:");
-			for (OWLObjectPropertyExpression equivalentProperty : reasoner.equivalentObjectProperties(owlObjectProperty)
-					.collect(Collectors.toSet())) {
-				if (equivalentProperty instanceof OWLObjectProperty && !owlObjectProperty.equals(equivalentProperty))
+			for (OWLObjectPropertyExpression equivalentProperty : inferences.equivalentProperties) {
+				if (equivalentProperty instanceof OWLObjectProperty && !owlObjectProperty.equals(equivalentProperty)
+						&& objectPropertyMap.containsKey(equivalentProperty))
 					// logger.info("\t" +
 					// equivalentProperty.getNamedProperty().getIRI().getIRIString());
 					cowlObjectPropertyImpl.getEquivalentProperties().add(objectPropertyMap.get(equivalentProperty));
@@ -534,9 +838,8 @@ public class OntologyExtractor {
 			// logger.info("Inverse properties of " +
 			// owlObjectProperty.getIRI().getShortForm() + " are shown as follows:");
 
-			for (OWLObjectPropertyExpression inverseProperty : reasoner.inverseObjectProperties(owlObjectProperty)
-					.collect(Collectors.toSet())) {
-				if (inverseProperty instanceof OWLObjectProperty)
+			for (OWLObjectPropertyExpression inverseProperty : inferences.inverseProperties) {
+				if (inverseProperty instanceof OWLObjectProperty && objectPropertyMap.containsKey(inverseProperty))
 					// logger.info("\t" +
 					// inverseProperty.getNamedProperty().getIRI().getIRIString());
 					cowlObjectPropertyImpl.getInverseProperties().add(objectPropertyMap.get(inverseProperty));
@@ -559,17 +862,112 @@ public class OntologyExtractor {
 		for (COWLObjectPropertyImpl propImpl : objectPropertyMap.values())
 			propImpl.setVisited(false);
 
+		computePropertyClosures();
+
+		Set<COWLClassImpl> visitedClasses = new HashSet<>();
 		for (COWLClassImpl cowlClassImpl : classMap.values()) {
-			recursiveExtractAnonymousSuperClasses(cowlClassImpl);
+			recursiveExtractAnonymousSuperClasses(cowlClassImpl, visitedClasses);
 			getSpecialClassRestrictions(cowlClassImpl);
 		}
 
+		// Relationship sets are final from here on.
+		int classIndex = 0;
+		for (COWLClassImpl cowlClassImpl : classMap.values())
+			cowlClassImpl.setIndex(classIndex++);
 		for (COWLClassImpl cowlClassImpl : classMap.values())
-			cowlClassImpl.setVisited(false);
+			cowlClassImpl.freeze();
+		for (COWLDataPropertyImpl propImpl : dataPropertyMap.values())
+			propImpl.freeze();
+		for (COWLObjectPropertyImpl propImpl : objectPropertyMap.values())
+			propImpl.freeze();
 
 		logger.info("Extract implicit knowledge successfully!");
 	}
 
+	/**
+	 * This function computes the class, data property and object property
+	 * hierarchies by a transitive closure of the direct edges extracted from the
+	 * told axioms, and merges them into the reasoner results on each entity. As in
+	 * the structural reasoner, the parents of a class are its named super classes
+	 * and equivalent classes, and the named conjuncts of its super and equivalent
+	 * intersections, and the parents of a property are its named super properties
+	 * and equivalent properties.
+	 */
+	private void computeHierarchyClosures() {
+		logger.info("Begin computing class and property hierarchies...");
+		OWLDataFactory df = ont.getOWLOntologyManager().getOWLDataFactory();
+
+		HierarchyClosure<OWLClass> classClosure = new HierarchyClosure<>(classMap.keySet(), df.getOWLThing(),
+				df.getOWLNothing());
+		for (Entry<OWLClass, COWLClassImpl> classEntry : classMap.entrySet()) {
+			OWLClass owlClass = classEntry.getKey();
+			COWLClassImpl cowlClassImpl = classEntry.getValue();
+			for (COWLClassImpl superClass : cowlClassImpl.getDirectSuperClasses())
+				classClosure.addEdge(owlClass, df.getOWLClass(superClass.getIRI()));
+			List<OWLClassExpression> parentExps = new ArrayList<>(cowlClassImpl.getDirectAnonymousSuperClasses());
+			parentExps.addAll(cowlClassImpl.getEquivalentClasses());
+			for (OWLClassExpression exp : parentExps) {
+				Stream<OWLClassExpression> conjuncts = exp instanceof OWLObjectIntersectionOf
+						? ((OWLObjectIntersectionOf) exp).operands()
+						: Stream.of(exp);
+				conjuncts.filter(
+						conjunct -> !conjunct.isAnonymous() && !conjunct.isOWLThing() && !conjunct.isOWLNothing())
+						.forEach(conjunct -> classClosure.addEdge(owlClass, conjunct.asOWLClass()));
+			}
+		}
+		classClosure.compute();
+		Function<OWLClass, ClassInferences> reasonerClassInferences = classInferences;
+		classInferences = owlClass -> new ClassInferences(reasonerClassInferences.apply(owlClass),
+				classClosure.getDescendants(owlClass), classClosure.getAncestors(owlClass),
+				classClosure.getEquivalents(owlClass));
+
+		HierarchyClosure<OWLDataProperty> dataPropertyClosure = new HierarchyClosure<>(dataPropertyMap.keySet(),
+				df.getOWLTopDataProperty(), df.getOWLBottomDataProperty());
+		for (Entry<OWLDataProperty, COWLDataPropertyImpl> propertyEntry : dataPropertyMap.entrySet())
+			addPropertyEdges(dataPropertyClosure, propertyEntry.getKey(), propertyEntry.getValue(),
+					df::getOWLDataProperty);
+		dataPropertyClosure.compute();
+		Function<OWLDataProperty, PropertyInferences<OWLDataProperty>> reasonerDataPropertyInferences = dataPropertyInferences;
+		dataPropertyInferences = property -> new PropertyInferences<>(reasonerDataPropertyInferences.apply(property),
+				dataPropertyClosure.getDescendants(property), dataPropertyClosure.getAncestors(property),
+				dataPropertyClosure.getEquivalents(property));
+
+		HierarchyClosure<OWLObjectProperty> objectPropertyClosure = new HierarchyClosure<>(
+				objectPropertyMap.keySet(), df.getOWLTopObjectProperty(), df.getOWLBottomObjectProperty());
+		for (Entry<OWLObjectProperty, COWLObjectPropertyImpl> propertyEntry : objectPropertyMap.entrySet())
+			addPropertyEdges(objectPropertyClosure, propertyEntry.getKey(), propertyEntry.getValue(),
+					df::getOWLObjectProperty);
+		objectPropertyClosure.compute();
+		Function<OWLObjectProperty, PropertyInferences<OWLObjectPropertyExpression>> reasonerObjectPropertyInferences = objectPropertyInferences;
+		objectPropertyInferences = property -> new PropertyInferences<>(
+				reasonerObjectPropertyInferences.apply(property), objectPropertyClosure.getDescendants(property),
+				objectPropertyClosure.getAncestors(property), objectPropertyClosure.getEquivalents(property));
+		logger.info("Compute class and property hierarchies successfully!");
+	}
+
+	/**
+	 * Add the direct edges from an OWL property to its named super properties and
+	 * equivalent properties to a hierarchy closure.
+	 * 
+	 * @param <P>
+	 *            The class of the OWL property.
+	 * @param closure
+	 *            Hierarchy closure of the properties.
+	 * @param owlProperty
+	 *            OWL property.
+	 * @param propImpl
+	 *            Customization of the OWL property.
+	 * @param property
+	 *            Mapping from IRI to OWL property.
+	 */
+	private <P extends OWLProperty> void addPropertyEdges(HierarchyClosure<P> closure, P owlProperty,
+			COWLPropertyImpl propImpl, Function<IRI, P> property) {
+		for (COWLPropertyImpl superProperty : propImpl.getDirectSuperOWLProperties())
+			closure.addEdge(owlProperty, property.apply(superProperty.getIRI()));
+		for (COWLPropertyImpl equivalentProperty : propImpl.getEquivalentProperties())
+			closure.addEdge(owlProperty, property.apply(equivalentProperty.getIRI()));
+	}
+
 	/**
 	 * This function extracts anonymous super classes of the OWL class as input
 	 * argument. It retrieves anonymous super classes of each of its direct named
@@ -577,15 +975,17 @@ public class OntologyExtractor {
 	 * 
 	 * @param owlClassImpl
 	 *            OWL class.
+	 * @param visitedClasses
+	 *            OWL classes whose anonymous super classes are extracted.
 	 */
-	private void recursiveExtractAnonymousSuperClasses(COWLClassImpl owlClassImpl) {
-		if (owlClassImpl.isVisited())
+	private void recursiveExtractAnonymousSuperClasses(COWLClassImpl owlClassImpl, Set<COWLClassImpl> visitedClasses) {
+		if (visitedClasses.contains(owlClassImpl))
 			return;
 
 		Set<OWLAnonymousClassExpression> superAnonymousSuperClasses = new HashSet<>();
 		for (COWLClassImpl superClass : owlClassImpl.getDirectSuperClasses()) {
-			if (!superClass.isVisited())
-				recursiveExtractAnonymousSuperClasses(superClass);
+			if (!visitedClasses.contains(superClass))
+				recursiveExtractAnonymousSuperClasses(superClass, visitedClasses);
 			// owlClassImpl.getAnonymousSuperClasses().addAll(superClass.getAnonymousSuperClasses());
 			superAnonymousSuperClasses.addAll(superClass.getAnonymousSuperClasses());
 		}
@@ -593,31 +993,36 @@ public class OntologyExtractor {
 		Set<OWLAnonymousClassExpression> anonymousSuperClasses = new HashSet<>();
 		anonymousSuperClasses.addAll(superAnonymousSuperClasses);
 		anonymousSuperClasses.addAll(owlClassImpl.getDirectAnonymousSuperClasses());
-		Set<OWLAnonymousClassExpression> selectedAnonymousSuperClasses = new HashSet<>();
+		ClassConstraintIndex selectedAnonymousSuperClasses = new ClassConstraintIndex();
 		for (OWLAnonymousClassExpression anon : anonymousSuperClasses)
 			removeRedundantClassConstraints(selectedAnonymousSuperClasses, anon);
 
-		owlClassImpl.getAnonymousSuperClasses().addAll(selectedAnonymousSuperClasses);
-		owlClassImpl.setVisited(true);
+		owlClassImpl.getAnonymousSuperClasses().addAll(selectedAnonymousSuperClasses.getClassConstraints());
+		visitedClasses.add(owlClassImpl);
 	}
 
 	/**
-	 * Filter out redundant anonymous super class expressions of an OWL class.
+	 * Filter out redundant anonymous super class expressions of an OWL class. The
+	 * expression to be tested is only compared with the selected expressions on
+	 * its property or on a sub or super property of it, since no other selected
+	 * expression can subsume it or be subsumed by it.
 	 * 
 	 * @param selectedClassConstraints
 	 *            Estimated non-redundant anonymous super class expressions.
 	 * @param exp
 	 *            Anonymous super class expression to be tested.
 	 */
-	private void removeRedundantClassConstraints(Set<OWLAnonymousClassExpression> selectedClassConstraints,
+	private void removeRedundantClassConstraints(ClassConstraintIndex selectedClassConstraints,
 			OWLAnonymousClassExpression exp) {
 		OWLProperty targetProperty;
 		OWLProperty testProperty;
+		COWLPropertyImpl targetPropImpl = null;
 		// Set<OWLAnonymousClassExpression> removedClassConstraints = new HashSet<>();
 		if (exp instanceof OWLQuantifiedObjectRestriction
 				&& !((OWLQuantifiedObjectRestriction) exp).getProperty().isAnonymous()) {
 			targetProperty = ((OWLQuantifiedObjectRestriction) exp).getProperty().asOWLObjectProperty();
-			Iterator<OWLAnonymousClassExpression> iterator = selectedClassConstraints.iterator();
+			targetPropImpl = objectPropertyMap.get(targetProperty);
+			Iterator<OWLAnonymousClassExpression> iterator = selectedClassConstraints.iterator(targetPropImpl);
 			OWLAnonymousClassExpression anon;
 			while (iterator.hasNext()) {
 				anon = (OWLAnonymousClassExpression) iterator.next();
@@ -706,7 +1111,8 @@ public class OntologyExtractor {
 			}
 		} else if (exp instanceof OWLObjectHasValue && !((OWLObjectHasValue) exp).getProperty().isAnonymous()) {
 			targetProperty = ((OWLObjectHasValue) exp).getProperty().asOWLObjectProperty();
-			Iterator<OWLAnonymousClassExpression> iterator = selectedClassConstraints.iterator();
+			targetPropImpl = objectPropertyMap.get(targetProperty);
+			Iterator<OWLAnonymousClassExpression> iterator = selectedClassConstraints.iterator(targetPropImpl);
 			while (iterator.hasNext()) {
 				OWLAnonymousClassExpression anon = iterator.next();
 				if (anon instanceof OWLQuantifiedObjectRestriction
@@ -750,7 +1156,8 @@ public class OntologyExtractor {
 		} else if (exp instanceof OWLQuantifiedDataRestriction
 				&& !((OWLQuantifiedDataRestriction) exp).getProperty().isAnonymous()) {
 			targetProperty = ((OWLQuantifiedDataRestriction) exp).getProperty().asOWLDataProperty();
-			Iterator<OWLAnonymousClassExpression> iterator = selectedClassConstraints.iterator();
+			targetPropImpl = dataPropertyMap.get(targetProperty);
+			Iterator<OWLAnonymousClassExpression> iterator = selectedClassConstraints.iterator(targetPropImpl);
 			OWLAnonymousClassExpression anon;
 			while (iterator.hasNext()) {
 				anon = (OWLAnonymousClassExpression) iterator.next();
@@ -811,7 +1218,8 @@ public class OntologyExtractor {
 			}
 		} else if (exp instanceof OWLDataHasValue && !((OWLDataHasValue) exp).getProperty().isAnonymous()) {
 			targetProperty = ((OWLDataHasValue) exp).getProperty().asOWLDataProperty();
-			Iterator<OWLAnonymousClassExpression> iterator = selectedClassConstraints.iterator();
+			targetPropImpl = dataPropertyMap.get(targetProperty);
+			Iterator<OWLAnonymousClassExpression> iterator = selectedClassConstraints.iterator(targetPropImpl);
 			while (iterator.hasNext()) {
 				OWLAnonymousClassExpression anon = iterator.next();
 				if (anon instanceof OWLQuantifiedDataRestriction
@@ -853,7 +1261,7 @@ public class OntologyExtractor {
 				}
 			}
 		}
-		selectedClassConstraints.add(exp);
+		selectedClassConstraints.add(exp, targetPropImpl);
 		return;
 	}
 
@@ -888,6 +1296,100 @@ public class OntologyExtractor {
 		}
 	}
 
+	/**
+	 * This function precomputes, once per property, the IRIs of the properties
+	 * whose assertions are relevant to or conflict with an assertion of the
+	 * property, so that conflict checking during generation is a flat pass over
+	 * arrays.
+	 */
+	private void computePropertyClosures() {
+		for (COWLDataPropertyImpl propImpl : dataPropertyMap.values()) {
+			Set<COWLPropertyImpl> relevantProperties = new LinkedHashSet<>();
+			relevantProperties.add(propImpl);
+			relevantProperties.addAll(propImpl.getSubOWLProperties());
+			relevantProperties.addAll(propImpl.getEquivalentProperties());
+			propImpl.setRelevantProperties(toIRIArray(relevantProperties));
+		}
+
+		for (COWLDataPropertyImpl propImpl : dataPropertyMap.values()) {
+			Set<IRI> conflictingProperties = new LinkedHashSet<>();
+			for (COWLPropertyImpl disjointProp : propImpl.getDisjointProperties())
+				if (disjointProp != null)
+					Collections.addAll(conflictingProperties,
+							((COWLDataPropertyImpl) disjointProp).getRelevantProperties());
+			propImpl.setConflictingProperties(conflictingProperties.toArray(new IRI[0]));
+		}
+
+		for (COWLObjectPropertyImpl propImpl : objectPropertyMap.values()) {
+			Set<COWLPropertyImpl> relevantProperties = new LinkedHashSet<>();
+			Set<COWLPropertyImpl> relevantInverseProperties = new LinkedHashSet<>();
+			collectRelevantProperties(propImpl, relevantProperties, relevantInverseProperties);
+			propImpl.setRelevantProperties(toIRIArray(relevantProperties), toIRIArray(relevantInverseProperties));
+		}
+
+		for (COWLObjectPropertyImpl propImpl : objectPropertyMap.values()) {
+			Set<IRI> conflictingProperties = new LinkedHashSet<>();
+			Set<IRI> conflictingInverseProperties = new LinkedHashSet<>();
+			for (COWLPropertyImpl disjointProp : propImpl.getDisjointProperties()) {
+				if (disjointProp == null)
+					continue;
+				COWLObjectPropertyImpl disjointPropImpl = (COWLObjectPropertyImpl) disjointProp;
+				Collections.addAll(conflictingProperties, disjointPropImpl.getRelevantProperties());
+				Collections.addAll(conflictingInverseProperties, disjointPropImpl.getRelevantInverseProperties());
+			}
+			// An assertion of an inverse property swaps subject and object.
+			for (COWLObjectPropertyImpl inverseProp : propImpl.getInverseProperties())
+				for (COWLPropertyImpl disjointProp : inverseProp.getDisjointProperties()) {
+					if (disjointProp == null)
+						continue;
+					COWLObjectPropertyImpl disjointPropImpl = (COWLObjectPropertyImpl) disjointProp;
+					Collections.addAll(conflictingInverseProperties, disjointPropImpl.getRelevantProperties());
+					Collections.addAll(conflictingProperties, disjointPropImpl.getRelevantInverseProperties());
+				}
+			propImpl.setConflictingProperties(conflictingProperties.toArray(new IRI[0]),
+					conflictingInverseProperties.toArray(new IRI[0]));
+		}
+	}
+
+	/**
+	 * This function recursively collects the specified object property with its
+	 * equivalent and sub properties, and those of its inverse properties with
+	 * subject and object swapped.
+	 * 
+	 * @param property
+	 *            OWL object property.
+	 * @param relevantProperties
+	 *            Collected properties with the same subject and object.
+	 * @param relevantInverseProperties
+	 *            Collected properties with swapped subject and object.
+	 */
+	private void collectRelevantProperties(COWLPropertyImpl property, Set<COWLPropertyImpl> relevantProperties,
+			Set<COWLPropertyImpl> relevantInverseProperties) {
+		if (property == null || !relevantProperties.add(property))
+			return;
+
+		for (COWLPropertyImpl eq : property.getEquivalentProperties())
+			collectRelevantProperties(eq, relevantProperties, relevantInverseProperties);
+
+		for (COWLPropertyImpl sub : property.getSubOWLProperties())
+			collectRelevantProperties(sub, relevantProperties, relevantInverseProperties);
+
+		for (COWLPropertyImpl inv : ((COWLObjectPropertyImpl) property).getInverseProperties())
+			collectRelevantProperties(inv, relevantInverseProperties, relevantProperties);
+	}
+
+	/**
+	 * Convert a set of properties to an array of their IRIs, skipping null
+	 * properties.
+	 * 
+	 * @param properties
+	 *            OWL properties.
+	 * @return Property IRIs.
+	 */
+	private static IRI[] toIRIArray(Set<COWLPropertyImpl> properties) {
+		return properties.stream().filter(prop -> prop != null).map(COWLPropertyImpl::getIRI).toArray(IRI[]::new);
+	}
+
 	/**
 	 * This function generates special class restrictions of the class for
 	 * consistency checking.
@@ -986,6 +1488,28 @@ public class OntologyExtractor {
 		existingIndividuals.add(ind);
 	}
 
+	/**
+	 * Restore the extracted ontology model from an extraction snapshot instead of
+	 * extracting the input ontology. The ontology metric is left empty.
+	 * 
+	 * @param classMap
+	 *            Customized classes keyed by OWL class.
+	 * @param dataPropertyMap
+	 *            Customized data properties keyed by OWL data property.
+	 * @param objectPropertyMap
+	 *            Customized object properties keyed by OWL object property.
+	 * @param existingIndividuals
+	 *            OWL named individuals of the input ontology.
+	 */
+	void restore(Map<OWLClass, COWLClassImpl> classMap, Map<OWLDataProperty, COWLDataPropertyImpl> dataPropertyMap,
+			Map<OWLObjectProperty, COWLObjectPropertyImpl> objectPropertyMap,
+			Set<OWLNamedIndividual> existingIndividuals) {
+		this.classMap = classMap;
+		this.dataPropertyMap = dataPropertyMap;
+		this.objectPropertyMap = objectPropertyMap;
+		this.existingIndividuals = existingIndividuals;
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sb = new StringBuffer();
@@ -1088,7 +1612,7 @@ public class OntologyExtractor {
 				}
 			}
 
-			LinkedList<OWLNamedIndividual> individuals = owlClassImpl.getNamedIndividuals(true);
+			List<OWLNamedIndividual> individuals = owlClassImpl.getNamedIndividuals(true);
 			if (!individuals.isEmpty()) {
 				sb.append(
 						"\t Named individuals that may be asserted to be of the type of the class in IRI short form are shown as follows:\n");
@@ -1233,4 +1757,296 @@ public class OntologyExtractor {
 		}
 		return sb.toString();
 	}
+
+	/**
+	 * Reasoner results on an OWL class, collected in the order the reasoner
+	 * returns them.
+	 *
+	 * @author Yanji Chen
+	 * @version 1.0
+	 * @since 2026-10-16
+	 */
+	private static class ClassInferences {
+
+		/**
+		 * Subclasses (direct and inferred) of the class.
+		 */
+		private final Set<OWLClass> subClasses;
+
+		/**
+		 * Super classes (direct and inferred) of the class.
+		 */
+		private final Set<OWLClass> superClasses;
+
+		/**
+		 * Equivalent classes of the class, including itself.
+		 */
+		private final Set<OWLClass> equivalentClasses;
+
+		/**
+		 * Disjoint classes of the class.
+		 */
+		private final Set<OWLClass> disjointClasses;
+
+		/**
+		 * Named individuals of type of the class.
+		 */
+		private final Set<OWLNamedIndividual> instances;
+
+		/**
+		 * Constructor, which queries the reasoner.
+		 * 
+		 * @param reasoner
+		 *            OWL reasoner.
+		 * @param owlClass
+		 *            OWL class.
+		 * @param hierarchy
+		 *            true to query subclasses, super classes and equivalent classes,
+		 *            false to leave them empty.
+		 */
+		private ClassInferences(OWLReasoner reasoner, OWLClass owlClass, boolean hierarchy) {
+			subClasses = hierarchy ? reasoner.subClasses(owlClass).collect(Collectors.toSet())
+					: Collections.emptySet();
+			superClasses = hierarchy ? reasoner.superClasses(owlClass).collect(Collectors.toSet())
+					: Collections.emptySet();
+			equivalentClasses = hierarchy ? reasoner.equivalentClasses(owlClass).collect(Collectors.toSet())
+					: Collections.emptySet();
+			disjointClasses = reasoner.disjointClasses(owlClass).collect(Collectors.toSet());
+			instances = reasoner.instances(owlClass).collect(Collectors.toSet());
+		}
+
+		/**
+		 * Constructor, which replaces the class hierarchy of other results.
+		 * 
+		 * @param inferences
+		 *            Other results on the class.
+		 * @param subClasses
+		 *            Subclasses of the class.
+		 * @param superClasses
+		 *            Super classes of the class.
+		 * @param equivalentClasses
+		 *            Equivalent classes of the class, including itself.
+		 */
+		private ClassInferences(ClassInferences inferences, Set<OWLClass> subClasses, Set<OWLClass> superClasses,
+				Set<OWLClass> equivalentClasses) {
+			this.subClasses = subClasses;
+			this.superClasses = superClasses;
+			this.equivalentClasses = equivalentClasses;
+			disjointClasses = inferences.disjointClasses;
+			instances = inferences.instances;
+		}
+	}
+
+	/**
+	 * Reasoner results on an OWL property, collected in the order the reasoner
+	 * returns them.
+	 *
+	 * @param <P>
+	 *            The class of the properties returned by the reasoner.
+	 * @author Yanji Chen
+	 * @version 1.0
+	 * @since 2026-10-16
+	 */
+	private static class PropertyInferences<P> {
+
+		/**
+		 * Subproperties (direct and inferred) of the property.
+		 */
+		private final Set<? extends P> subProperties;
+
+		/**
+		 * Super properties (direct and inferred) of the property.
+		 */
+		private final Set<? extends P> superProperties;
+
+		/**
+		 * Equivalent properties of the property, including itself.
+		 */
+		private final Set<? extends P> equivalentProperties;
+
+		/**
+		 * Inverse properties of the property, empty for data properties.
+		 */
+		private final Set<? extends P> inverseProperties;
+
+		/**
+		 * Constructor, which collects the reasoner results.
+		 * 
+		 * @param subProperties
+		 *            Subproperties of the property.
+		 * @param superProperties
+		 *            Super properties of the property.
+		 * @param equivalentProperties
+		 *            Equivalent properties of the property.
+		 * @param inverseProperties
+		 *            Inverse properties of the property, null for data properties.
+		 */
+		private PropertyInferences(Stream<? extends P> subProperties, Stream<? extends P> superProperties,
+				Stream<? extends P> equivalentProperties, Stream<? extends P> inverseProperties) {
+			this.subProperties = subProperties.collect(Collectors.toSet());
+			this.superProperties = superProperties.collect(Collectors.toSet());
+			this.equivalentProperties = equivalentProperties.collect(Collectors.toSet());
+			this.inverseProperties = inverseProperties == null ? Collections.emptySet()
+					: inverseProperties.collect(Collectors.toSet());
+		}
+
+		/**
+		 * Constructor, which replaces the property hierarchy of other results.
+		 * 
+		 * @param inferences
+		 *            Other results on the property.
+		 * @param subProperties
+		 *            Subproperties of the property.
+		 * @param superProperties
+		 *            Super properties of the property.
+		 * @param equivalentProperties
+		 *            Equivalent properties of the property, including itself.
+		 */
+		private PropertyInferences(PropertyInferences<P> inferences, Set<? extends P> subProperties,
+				Set<? extends P> superProperties, Set<? extends P> equivalentProperties) {
+			this.subProperties = subProperties;
+			this.superProperties = superProperties;
+			this.equivalentProperties = equivalentProperties;
+			inverseProperties = inferences.inverseProperties;
+		}
+	}
+
+	/**
+	 * Selected anonymous super class expressions of an OWL class, indexed by the
+	 * named property of each expression and by the sub and super properties of
+	 * it, so that a new expression is only compared with the selected expressions
+	 * on related properties.
+	 *
+	 * @author Yanji Chen
+	 * @version 1.0
+	 * @since 2026-10-16
+	 */
+	private static class ClassConstraintIndex {
+
+		/**
+		 * Selected anonymous super class expressions, in selection order of a hash
+		 * set.
+		 */
+		private final Set<OWLAnonymousClassExpression> classConstraints = new HashSet<>();
+
+		/**
+		 * Mapping from property to the selected expressions on it or on one of its
+		 * sub or super properties.
+		 */
+		private final Map<COWLPropertyImpl, Set<OWLAnonymousClassExpression>> relatedClassConstraints = new HashMap<>();
+
+		/**
+		 * Mapping from selected expression to its named property, for the
+		 * expressions that have one.
+		 */
+		private final Map<OWLAnonymousClassExpression, COWLPropertyImpl> properties = new HashMap<>();
+
+		/**
+		 * Get the selected anonymous super class expressions.
+		 * 
+		 * @return Selected anonymous super class expressions.
+		 */
+		private Set<OWLAnonymousClassExpression> getClassConstraints() {
+			return classConstraints;
+		}
+
+		/**
+		 * Select an anonymous super class expression.
+		 * 
+		 * @param exp
+		 *            Anonymous super class expression.
+		 * @param propImpl
+		 *            Named property of the expression, null if none.
+		 */
+		private void add(OWLAnonymousClassExpression exp, COWLPropertyImpl propImpl) {
+			classConstraints.add(exp);
+			if (propImpl == null)
+				return;
+			properties.put(exp, propImpl);
+			relatedClassConstraints.computeIfAbsent(propImpl, key -> new HashSet<>()).add(exp);
+			for (COWLPropertyImpl subProperty : propImpl.getSubOWLProperties())
+				relatedClassConstraints.computeIfAbsent(subProperty, key -> new HashSet<>()).add(exp);
+			for (COWLPropertyImpl superProperty : propImpl.getSuperOWLProperties())
+				relatedClassConstraints.computeIfAbsent(superProperty, key -> new HashSet<>()).add(exp);
+		}
+
+		/**
+		 * Unselect an anonymous super class expression from the index of related
+		 * properties.
+		 * 
+		 * @param exp
+		 *            Selected anonymous super class expression.
+		 */
+		private void unindex(OWLAnonymousClassExpression exp) {
+			COWLPropertyImpl propImpl = properties.remove(exp);
+			if (propImpl == null)
+				return;
+			relatedClassConstraints.get(propImpl).remove(exp);
+			for (COWLPropertyImpl subProperty : propImpl.getSubOWLProperties())
+				relatedClassConstraints.get(subProperty).remove(exp);
+			for (COWLPropertyImpl superProperty : propImpl.getSuperOWLProperties())
+				relatedClassConstraints.get(superProperty).remove(exp);
+		}
+
+		/**
+		 * Get an iterator over the selected expressions on a property or on one of
+		 * its sub or super properties, in the iteration order of all selected
+		 * expressions, so that redundancy is resolved as if all of them were
+		 * compared. Removing through the iterator unselects an expression.
+		 * 
+		 * @param propImpl
+		 *            Property, null if none.
+		 * @return Iterator over the related selected expressions.
+		 */
+		private Iterator<OWLAnonymousClassExpression> iterator(COWLPropertyImpl propImpl) {
+			Set<OWLAnonymousClassExpression> related = propImpl == null ? null
+					: relatedClassConstraints.get(propImpl);
+			if (related == null || related.isEmpty())
+				return Collections.emptyIterator();
+			// A single related expression needs no scan for its position.
+			boolean scan = related.size() > 1;
+			Iterator<OWLAnonymousClassExpression> selected = scan ? classConstraints.iterator()
+					: new ArrayList<>(related).iterator();
+			return new Iterator<OWLAnonymousClassExpression>() {
+
+				/**
+				 * Next related expression, null if not found yet.
+				 */
+				private OWLAnonymousClassExpression next;
+
+				/**
+				 * Last returned expression.
+				 */
+				private OWLAnonymousClassExpression current;
+
+				@Override
+				public boolean hasNext() {
+					while (next == null && selected.hasNext()) {
+						OWLAnonymousClassExpression exp = selected.next();
+						if (related.contains(exp))
+							next = exp;
+					}
+					return next != null;
+				}
+
+				@Override
+				public OWLAnonymousClassExpression next() {
+					if (!hasNext())
+						throw new NoSuchElementException();
+					current = next;
+					next = null;
+					return current;
+				}
+
+				@Override
+				public void remove() {
+					unindex(current);
+					if (scan)
+						selected.remove();
+					else
+						classConstraints.remove(current);
+				}
+			};
+		}
+	}
 }
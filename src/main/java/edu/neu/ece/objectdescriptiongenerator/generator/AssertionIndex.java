@@ -0,0 +1,318 @@
+package edu.neu.ece.objectdescriptiongenerator.generator;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+/**
+ * In-memory index of property assertions, keyed by property IRI, subject and
+ * object (OWL individual or OWL literal), and of class assertions of named
+ * classes, keyed by class IRI. The index answers whether an assertion has been
+ * emitted and which individuals are asserted to be of a class with hash lookups
+ * only, without creating axioms, walking the imports closure of the output
+ * ontology or querying a reasoner over it. Axiom annotations are ignored.
+ *
+ * An index may be layered over a base index (e.g. assertions of the input
+ * ontology), which is consulted on lookups but never modified.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class AssertionIndex {
+
+	/**
+	 * Base index consulted on lookups, null if there is none.
+	 */
+	private final AssertionIndex base;
+
+	/**
+	 * Object property assertions as property IRI -> subject -> objects.
+	 */
+	private final Map<IRI, Map<OWLIndividual, Set<OWLObject>>> objectPropertyAssertions = new HashMap<>();
+
+	/**
+	 * Negative object property assertions as property IRI -> subject -> objects.
+	 */
+	private final Map<IRI, Map<OWLIndividual, Set<OWLObject>>> negativeObjectPropertyAssertions = new HashMap<>();
+
+	/**
+	 * Data property assertions as property IRI -> subject -> literals.
+	 */
+	private final Map<IRI, Map<OWLIndividual, Set<OWLObject>>> dataPropertyAssertions = new HashMap<>();
+
+	/**
+	 * Class assertions of named classes as class IRI -> named individuals.
+	 */
+	private final Map<IRI, Set<OWLNamedIndividual>> classAssertions = new HashMap<>();
+
+	/**
+	 * Constructor of an index without base index.
+	 */
+	public AssertionIndex() {
+		this(null);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param base
+	 *            Base index consulted on lookups, null if there is none.
+	 */
+	public AssertionIndex(AssertionIndex base) {
+		this.base = base;
+	}
+
+	/**
+	 * Create an index of the assertions of an ontology and its imports closure.
+	 *
+	 * @param ont
+	 *            OWL ontology.
+	 * @return Assertion index.
+	 */
+	public static AssertionIndex of(OWLOntology ont) {
+		AssertionIndex index = new AssertionIndex();
+		ont.importsClosure().flatMap(OWLOntology::axioms).forEach(index::add);
+		return index;
+	}
+
+	/**
+	 * Record an axiom if it is a property assertion with a named property or a
+	 * class assertion of a named class and a named individual; other axioms are
+	 * ignored.
+	 *
+	 * @param axiom
+	 *            OWL axiom.
+	 */
+	public void add(OWLAxiom axiom) {
+		if (axiom instanceof OWLObjectPropertyAssertionAxiom) {
+			OWLObjectPropertyAssertionAxiom assertion = (OWLObjectPropertyAssertionAxiom) axiom;
+			if (!assertion.getProperty().isAnonymous())
+				put(objectPropertyAssertions, assertion.getProperty().asOWLObjectProperty().getIRI(),
+						assertion.getSubject(), assertion.getObject());
+		} else if (axiom instanceof OWLNegativeObjectPropertyAssertionAxiom) {
+			OWLNegativeObjectPropertyAssertionAxiom assertion = (OWLNegativeObjectPropertyAssertionAxiom) axiom;
+			if (!assertion.getProperty().isAnonymous())
+				put(negativeObjectPropertyAssertions, assertion.getProperty().asOWLObjectProperty().getIRI(),
+						assertion.getSubject(), assertion.getObject());
+		} else if (axiom instanceof OWLDataPropertyAssertionAxiom) {
+			OWLDataPropertyAssertionAxiom assertion = (OWLDataPropertyAssertionAxiom) axiom;
+			put(dataPropertyAssertions, assertion.getProperty().asOWLDataProperty().getIRI(), assertion.getSubject(),
+					assertion.getObject());
+		} else if (axiom instanceof OWLClassAssertionAxiom) {
+			OWLClassAssertionAxiom assertion = (OWLClassAssertionAxiom) axiom;
+			if (!assertion.getClassExpression().isAnonymous() && assertion.getIndividual().isNamed())
+				classAssertions.computeIfAbsent(assertion.getClassExpression().asOWLClass().getIRI(),
+						k -> new HashSet<>()).add(assertion.getIndividual().asOWLNamedIndividual());
+		}
+	}
+
+	/**
+	 * Detect whether an object property assertion is recorded.
+	 *
+	 * @param property
+	 *            Object property IRI.
+	 * @param subject
+	 *            Subject individual.
+	 * @param object
+	 *            Object individual.
+	 * @return true if the assertion is recorded, false otherwise.
+	 */
+	public boolean containsObjectPropertyAssertion(IRI property, OWLIndividual subject, OWLIndividual object) {
+		return contains(objectPropertyAssertions, property, subject, object)
+				|| (base != null && base.containsObjectPropertyAssertion(property, subject, object));
+	}
+
+	/**
+	 * Detect whether a negative object property assertion is recorded.
+	 *
+	 * @param property
+	 *            Object property IRI.
+	 * @param subject
+	 *            Subject individual.
+	 * @param object
+	 *            Object individual.
+	 * @return true if the assertion is recorded, false otherwise.
+	 */
+	public boolean containsNegativeObjectPropertyAssertion(IRI property, OWLIndividual subject,
+			OWLIndividual object) {
+		return contains(negativeObjectPropertyAssertions, property, subject, object)
+				|| (base != null && base.containsNegativeObjectPropertyAssertion(property, subject, object));
+	}
+
+	/**
+	 * Detect whether a data property assertion is recorded.
+	 *
+	 * @param property
+	 *            Data property IRI.
+	 * @param subject
+	 *            Subject individual.
+	 * @param literal
+	 *            Object literal.
+	 * @return true if the assertion is recorded, false otherwise.
+	 */
+	public boolean containsDataPropertyAssertion(IRI property, OWLIndividual subject, OWLObject literal) {
+		return contains(dataPropertyAssertions, property, subject, literal)
+				|| (base != null && base.containsDataPropertyAssertion(property, subject, literal));
+	}
+
+	/**
+	 * Collect the named individuals asserted to be of a named class.
+	 *
+	 * @param cls
+	 *            Class IRI.
+	 * @param instances
+	 *            Collected named individuals.
+	 */
+	public void collectInstances(IRI cls, Set<OWLNamedIndividual> instances) {
+		instances.addAll(classAssertions.getOrDefault(cls, Collections.emptySet()));
+		if (base != null)
+			base.collectInstances(cls, instances);
+	}
+
+	/**
+	 * Remove all recorded assertions, leaving the base index untouched.
+	 */
+	public void clear() {
+		objectPropertyAssertions.clear();
+		negativeObjectPropertyAssertions.clear();
+		dataPropertyAssertions.clear();
+		classAssertions.clear();
+	}
+
+	/**
+	 * Remove all recorded assertions that mention any of the given individuals, as
+	 * subject or object, leaving the base index untouched. Used to drop the
+	 * assertions of individuals that can no longer be reused, so that the index
+	 * is bounded by the individuals that can.
+	 *
+	 * @param individuals
+	 *            Individuals whose assertions are removed.
+	 */
+	public void removeIndividuals(Set<? extends OWLIndividual> individuals) {
+		if (individuals.isEmpty())
+			return;
+		remove(objectPropertyAssertions, individuals);
+		remove(negativeObjectPropertyAssertions, individuals);
+		remove(dataPropertyAssertions, individuals);
+		Iterator<Set<OWLNamedIndividual>> it = classAssertions.values().iterator();
+		while (it.hasNext()) {
+			Set<OWLNamedIndividual> instances = it.next();
+			instances.removeAll(individuals);
+			if (instances.isEmpty())
+				it.remove();
+		}
+	}
+
+	/**
+	 * Get the number of recorded assertions, excluding the ones of the base index.
+	 *
+	 * @return The number of recorded assertions.
+	 */
+	public int size() {
+		int size = size(objectPropertyAssertions) + size(negativeObjectPropertyAssertions)
+				+ size(dataPropertyAssertions);
+		for (Set<OWLNamedIndividual> instances : classAssertions.values())
+			size += instances.size();
+		return size;
+	}
+
+	/**
+	 * Record an assertion in a container.
+	 *
+	 * @param assertions
+	 *            Container of assertions.
+	 * @param property
+	 *            Property IRI.
+	 * @param subject
+	 *            Subject individual.
+	 * @param object
+	 *            Object individual or literal.
+	 */
+	private static void put(Map<IRI, Map<OWLIndividual, Set<OWLObject>>> assertions, IRI property,
+			OWLIndividual subject, OWLObject object) {
+		assertions.computeIfAbsent(property, k -> new HashMap<>()).computeIfAbsent(subject, k -> new HashSet<>())
+				.add(object);
+	}
+
+	/**
+	 * Detect whether a container records an assertion.
+	 *
+	 * @param assertions
+	 *            Container of assertions.
+	 * @param property
+	 *            Property IRI.
+	 * @param subject
+	 *            Subject individual.
+	 * @param object
+	 *            Object individual or literal.
+	 * @return true if the assertion is recorded, false otherwise.
+	 */
+	private static boolean contains(Map<IRI, Map<OWLIndividual, Set<OWLObject>>> assertions, IRI property,
+			OWLIndividual subject, OWLObject object) {
+		Map<OWLIndividual, Set<OWLObject>> subjects = assertions.get(property);
+		if (subjects == null)
+			return false;
+		return subjects.getOrDefault(subject, Collections.emptySet()).contains(object);
+	}
+
+	/**
+	 * Remove the assertions of a container that mention any of the given
+	 * individuals, as subject or object.
+	 *
+	 * @param assertions
+	 *            Container of assertions.
+	 * @param individuals
+	 *            Individuals whose assertions are removed.
+	 */
+	private static void remove(Map<IRI, Map<OWLIndividual, Set<OWLObject>>> assertions,
+			Set<? extends OWLIndividual> individuals) {
+		Iterator<Map<OWLIndividual, Set<OWLObject>>> propertyIt = assertions.values().iterator();
+		while (propertyIt.hasNext()) {
+			Map<OWLIndividual, Set<OWLObject>> subjects = propertyIt.next();
+			Iterator<Entry<OWLIndividual, Set<OWLObject>>> subjectIt = subjects.entrySet().iterator();
+			while (subjectIt.hasNext()) {
+				Entry<OWLIndividual, Set<OWLObject>> entry = subjectIt.next();
+				if (individuals.contains(entry.getKey()))
+					subjectIt.remove();
+				else {
+					entry.getValue().removeAll(individuals);
+					if (entry.getValue().isEmpty())
+						subjectIt.remove();
+				}
+			}
+			if (subjects.isEmpty())
+				propertyIt.remove();
+		}
+	}
+
+	/**
+	 * Get the number of assertions recorded in a container.
+	 *
+	 * @param assertions
+	 *            Container of assertions.
+	 * @return The number of assertions.
+	 */
+	private static int size(Map<IRI, Map<OWLIndividual, Set<OWLObject>>> assertions) {
+		int size = 0;
+		for (Map<OWLIndividual, Set<OWLObject>> subjects : assertions.values())
+			for (Set<OWLObject> objects : subjects.values())
+				size += objects.size();
+		return size;
+	}
+}
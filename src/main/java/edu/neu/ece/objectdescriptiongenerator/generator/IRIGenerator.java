@@ -6,37 +6,94 @@ import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import edu.neu.ece.objectdescriptiongenerator.entity.classes.COWLClassImpl;
 
 /**
- * A generator for generating OWL individuals.
- * 
+ * A generator for generating OWL individuals. The generator is stateless and
+ * therefore thread-safe: instance indexes are traced by the caller, so that
+ * every object description generator keeps its own counters, and IRIs from
+ * different counters are kept apart by shard tags. Each object description
+ * generated in parallel mode gets its own shard, and a run shard tag keeps
+ * separate runs apart, so globally unique IRIs need no coordination between
+ * threads, processes or machines.
+ *
  * @author Yanji Chen
  * @version 1.0
  * @since 2018-10-02
  */
-public class IRIGenerator {
+public final class IRIGenerator {
+
+	/**
+	 * This class cannot be instantiated.
+	 */
+	private IRIGenerator() {
+	}
+
 	/**
-	 * The last index of the created OWL named individual of anonymous super classes
-	 * type.
+	 * The number of low bits of a packed individual id that hold the instance
+	 * index; the high bits hold the class index.
+	 */
+	private static final int INSTANCE_INDEX_BITS = 40;
+
+	/**
+	 * Pack an OWL named individual of type of an OWL class into an id made of the
+	 * class index and the instance index, from which the individual can be
+	 * generated again with
+	 * {@link #generateOWLIndividual(String, OWLDataFactory, COWLClassImpl, String, long)}.
+	 *
+	 * @param cls
+	 *            OWL class.
+	 * @param index
+	 *            Index of the OWL named individual of type of the class.
+	 * @return Packed individual id.
 	 */
-	private static long individualIndex = 0;
+	public static long packIndividual(COWLClassImpl cls, long index) {
+		return ((long) cls.getIndex() << INSTANCE_INDEX_BITS) | index;
+	}
+
+	/**
+	 * Get the class index of a packed individual id.
+	 *
+	 * @param id
+	 *            Packed individual id.
+	 * @return Class index.
+	 */
+	public static int getClassIndex(long id) {
+		return (int) (id >>> INSTANCE_INDEX_BITS);
+	}
+
+	/**
+	 * Get the instance index of a packed individual id.
+	 *
+	 * @param id
+	 *            Packed individual id.
+	 * @return Instance index.
+	 */
+	public static long getInstanceIndex(long id) {
+		return id & ((1L << INSTANCE_INDEX_BITS) - 1);
+	}
 
 	/**
 	 * Generate an OWL named individual of type of an OWL anonymous class.
-	 * 
+	 *
 	 * @param OUTPUT_ONTOLOGY_IRI_IN_STRING
 	 *            Output ontology IRI in string.
 	 * @param factory
 	 *            OWL data factory used to create entities, class expressions and
 	 *            axioms.
+	 * @param shard
+	 *            Shard tag (e.g. "_s3", or "_m2_s3" with a run shard tag) inserted
+	 *            into the IRI, empty if there is none.
+	 * @param index
+	 *            Index of the OWL named individual of anonymous super classes type.
 	 * @return OWL named individual.
 	 */
 	public static OWLNamedIndividual generateOWLIndividual(final String OUTPUT_ONTOLOGY_IRI_IN_STRING,
-			OWLDataFactory factory) {
-		return factory.getOWLNamedIndividual(OUTPUT_ONTOLOGY_IRI_IN_STRING + "#Instance" + individualIndex++);
+			OWLDataFactory factory, String shard, long index) {
+		return factory.getOWLNamedIndividual(OUTPUT_ONTOLOGY_IRI_IN_STRING + "#Instance"
+				+ (shard.isEmpty() ? "" : shard + "_") + index);
 	}
 
 	/**
 	 * Generate an OWL named individual of type of an OWL class.
-	 * 
+	 *
 	 * @param OUTPUT_ONTOLOGY_IRI_IN_STRING
 	 *            Output ontology IRI in string.
 	 * @param factory
@@ -44,11 +101,16 @@ public class IRIGenerator {
 	 *            axioms.
 	 * @param cls
 	 *            OWL class.
+	 * @param shard
+	 *            Shard tag (e.g. "_s3", or "_m2_s3" with a run shard tag) inserted
+	 *            into the IRI, empty if there is none.
+	 * @param index
+	 *            Index of the OWL named individual of type of the class.
 	 * @return OWL named individual.
 	 */
 	public static OWLNamedIndividual generateOWLIndividual(final String OUTPUT_ONTOLOGY_IRI_IN_STRING,
-			OWLDataFactory factory, COWLClassImpl cls) {
+			OWLDataFactory factory, COWLClassImpl cls, String shard, long index) {
 		return factory.getOWLNamedIndividual(OUTPUT_ONTOLOGY_IRI_IN_STRING + "#" + cls.getIRI().getShortForm()
-				+ "_instance" + cls.getNextInstanceNumber());
+				+ shard + "_instance" + index);
 	}
 }
@@ -0,0 +1,250 @@
+package edu.neu.ece.objectdescriptiongenerator.generator;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.function.LongFunction;
+
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+/**
+ * Array-backed pool of OWL named individuals of type of an OWL class, with O(1)
+ * random pick and O(1) access to the latest individual. Individuals of the
+ * input ontology are kept as they are, whereas created individuals are kept as
+ * packed ids (see {@link IRIGenerator#packIndividual(
+ * edu.neu.ece.objectdescriptiongenerator.entity.classes.COWLClassImpl, long)})
+ * in a primitive array, and only materialized as OWL named individuals when
+ * picked.
+ *
+ * The created individuals of a pool are either unbounded and append-only, or
+ * bounded by a maximum size, in which case a {@link PoolPolicy} decides which
+ * of them the pool keeps for reuse once full.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class IndividualPool extends AbstractList<OWLNamedIndividual> implements RandomAccess {
+
+	/**
+	 * Individuals of the input ontology, which are always kept.
+	 */
+	private final OWLNamedIndividual[] inputIndividuals;
+
+	/**
+	 * Packed ids of the kept created individuals; in the order they were added,
+	 * starting at {@link #start}.
+	 */
+	private long[] ids = new long[4];
+
+	/**
+	 * The number of kept created individuals.
+	 */
+	private int createdSize = 0;
+
+	/**
+	 * The maximum number of kept created individuals, 0 if it is unbounded.
+	 */
+	private final int capacity;
+
+	/**
+	 * Policy that decides which created individuals a full pool keeps.
+	 */
+	private final PoolPolicy policy;
+
+	/**
+	 * Function that materializes a packed id as an OWL named individual.
+	 */
+	private final LongFunction<OWLNamedIndividual> materializer;
+
+	/**
+	 * Index of the oldest kept created individual once a recency window wraps
+	 * around.
+	 */
+	private int start = 0;
+
+	/**
+	 * The number of individuals ever created in the pool, including evicted ones.
+	 */
+	private long createdNumber = 0;
+
+	/**
+	 * Packed id of the latest created individual, kept even if it is evicted.
+	 */
+	private long lastId;
+
+	/**
+	 * Constructor
+	 *
+	 * @param individuals
+	 *            Individuals of the input ontology.
+	 * @param maxSize
+	 *            The maximum number of kept created individuals, 0 if it is
+	 *            unbounded.
+	 * @param policy
+	 *            Policy that decides which created individuals a full pool keeps.
+	 * @param materializer
+	 *            Function that materializes a packed id as an OWL named
+	 *            individual.
+	 */
+	public IndividualPool(Collection<OWLNamedIndividual> individuals, int maxSize, PoolPolicy policy,
+			LongFunction<OWLNamedIndividual> materializer) {
+		inputIndividuals = individuals.toArray(new OWLNamedIndividual[individuals.size()]);
+		capacity = maxSize;
+		this.policy = policy;
+		this.materializer = materializer;
+	}
+
+	/**
+	 * Add a created individual to the pool. If the pool is full, reservoir
+	 * sampling replaces a random kept individual with probability maximum size /
+	 * created individuals, and a recency window replaces the oldest kept
+	 * individual.
+	 *
+	 * @param id
+	 *            Packed id of the created individual.
+	 * @param random
+	 *            Used to generate a stream of pseudorandom numbers; only drawn
+	 *            from by a full reservoir.
+	 * @return Packed id of the created individual the pool no longer keeps, i.e.
+	 *         the replaced one, or the added one if a full reservoir rejects it;
+	 *         -1 if the pool keeps all of them.
+	 */
+	public long add(long id, Random random) {
+		createdNumber++;
+		lastId = id;
+		if (capacity == 0 || createdSize < capacity) {
+			if (createdSize == ids.length)
+				ids = Arrays.copyOf(ids, capacity == 0 ? createdSize * 2 : Math.min(createdSize * 2, capacity));
+			ids[createdSize++] = id;
+			return -1;
+		}
+		long dropped;
+		if (policy == PoolPolicy.RECENCY) {
+			dropped = ids[start];
+			ids[start] = id;
+			start = (start + 1) % createdSize;
+		} else {
+			long index = (long) (random.nextDouble() * createdNumber);
+			if (index < createdSize) {
+				dropped = ids[(int) index];
+				ids[(int) index] = id;
+			} else
+				dropped = id;
+		}
+		return dropped;
+	}
+
+	@Override
+	public OWLNamedIndividual get(int index) {
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		if (index < inputIndividuals.length)
+			return inputIndividuals[index];
+		index -= inputIndividuals.length;
+		return materializer.apply(ids[start == 0 ? index : (start + index) % createdSize]);
+	}
+
+	@Override
+	public int size() {
+		return inputIndividuals.length + createdSize;
+	}
+
+	/**
+	 * Get the number of individuals ever created in the pool, including evicted
+	 * ones.
+	 *
+	 * @return The number of created individuals.
+	 */
+	public long getCreatedNumber() {
+		return createdNumber;
+	}
+
+	/**
+	 * Get the latest individual of the pool; the latest created individual even if
+	 * a bounded pool has evicted it, or the last individual of the input ontology
+	 * if none has been created.
+	 *
+	 * @return The latest individual, null if the pool has never had any.
+	 */
+	public OWLNamedIndividual getLast() {
+		if (createdNumber > 0)
+			return materializer.apply(lastId);
+		return inputIndividuals.length == 0 ? null : inputIndividuals[inputIndividuals.length - 1];
+	}
+
+	/**
+	 * Get a random individual kept by the pool.
+	 *
+	 * @param random
+	 *            Used to generate a stream of pseudorandom numbers.
+	 * @return A random individual.
+	 */
+	public OWLNamedIndividual getARandomIndividual(Random random) {
+		return get(random.nextInt(size()));
+	}
+
+	/**
+	 * Zero-copy, read-only view over the union of several individual pools, e.g.
+	 * the pools of a class and its subclasses. Individuals are indexed pool after
+	 * pool, so a random index picks a pool with probability proportional to its
+	 * size.
+	 *
+	 * @author Yanji Chen
+	 * @version 1.0
+	 * @since 2026-10-16
+	 */
+	public static class Union extends AbstractList<OWLNamedIndividual> {
+
+		/**
+		 * Individual pools of the union.
+		 */
+		private final List<IndividualPool> pools;
+
+		/**
+		 * Constructor
+		 *
+		 * @param pools
+		 *            Individual pools of the union.
+		 */
+		public Union(List<IndividualPool> pools) {
+			this.pools = pools;
+		}
+
+		@Override
+		public OWLNamedIndividual get(int index) {
+			if (index < 0)
+				throw new IndexOutOfBoundsException("Index: " + index);
+			for (IndividualPool pool : pools) {
+				int size = pool.size();
+				if (index < size)
+					return pool.get(index);
+				index -= size;
+			}
+			throw new IndexOutOfBoundsException("Index: " + index);
+		}
+
+		@Override
+		public int size() {
+			int size = 0;
+			for (IndividualPool pool : pools)
+				size += pool.size();
+			return size;
+		}
+
+		/**
+		 * Get a random individual of the union, picking a pool with probability
+		 * proportional to its size.
+		 *
+		 * @param random
+		 *            Used to generate a stream of pseudorandom numbers.
+		 * @return A random individual.
+		 */
+		public OWLNamedIndividual getARandomIndividual(Random random) {
+			return get(random.nextInt(size()));
+		}
+	}
+}
@@ -1,45 +1,49 @@
 package edu.neu.ece.objectdescriptiongenerator.generator;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
-import org.semanticweb.owlapi.model.AddImport;
-import org.semanticweb.owlapi.model.AddOntologyAnnotation;
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.IRI;
-import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnonymousClassExpression;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLClassExpression;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLOntology;
-import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLOntologyStorageException;
-import org.semanticweb.owlapi.model.parameters.AxiomAnnotations;
-import org.semanticweb.owlapi.model.parameters.Imports;
-import org.semanticweb.owlapi.reasoner.ConsoleProgressMonitor;
-import org.semanticweb.owlapi.reasoner.OWLReasoner;
-import org.semanticweb.owlapi.reasoner.OWLReasonerConfiguration;
-import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
-import org.semanticweb.owlapi.reasoner.SimpleConfiguration;
-import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,9 +53,13 @@ import edu.neu.ece.objectdescriptiongenerator.entity.properties.COWLObjectProper
 import edu.neu.ece.objectdescriptiongenerator.entity.properties.COWLPropertyImpl;
 import edu.neu.ece.objectdescriptiongenerator.extractor.OntologyExtractor;
 import edu.neu.ece.objectdescriptiongenerator.utility.CollectionUtil;
+import edu.neu.ece.objectdescriptiongenerator.utility.MathUtil;
 import edu.neu.ece.objectdescriptiongenerator.visitor.COWLClassExpressionVisitor;
 import edu.neu.ece.objectdescriptiongenerator.visitor.COWLDataRangeVisitor;
-import uk.ac.manchester.cs.owl.owlapi.OWLImportsDeclarationImpl;
+import edu.neu.ece.objectdescriptiongenerator.writer.AxiomSink;
+import edu.neu.ece.objectdescriptiongenerator.writer.CountingAxiomSink;
+import edu.neu.ece.objectdescriptiongenerator.writer.OutputFormat;
+import edu.neu.ece.objectdescriptiongenerator.writer.TeeAxiomSink;
 
 /**
  * As one of the most critical classes of the program,
@@ -79,25 +87,78 @@ public class ObjectDescriptionGenerator {
 	 */
 	private int objNumber;
 
+	/**
+	 * Random seed for generating randomized object descriptions.
+	 */
+	private final long seed;
+
+	/**
+	 * The number of threads generating object descriptions in parallel; 0 by
+	 * default, which means all object descriptions are generated sequentially and
+	 * share one random generator and individual pools. Any positive number
+	 * generates each object description from its own random seed and fresh
+	 * individual pools, which yields the same output for any positive number but
+	 * not the same output as 0.
+	 */
+	private final int threads;
+
+	/**
+	 * The maximum number of created OWL named individuals kept for reuse per OWL
+	 * class; 0 by default, which means individual pools are unbounded.
+	 */
+	private final int maxPoolSize;
+
+	/**
+	 * Policy that decides which OWL named individuals a full individual pool
+	 * keeps.
+	 */
+	private final PoolPolicy poolPolicy;
+
 	/**
 	 * Used to generate a stream of pesudorandom numbers.
 	 */
 	private Random ran;
 
 	/**
-	 * Generated output ontology as file.
+	 * Shard tag of this run inserted into the IRIs of all created OWL named
+	 * individuals, e.g. "_m2" so that runs in separate processes or on separate
+	 * machines produce disjoint IRIs; empty by default.
+	 */
+	private final String runShard;
+
+	/**
+	 * Shard tag inserted into the IRIs of created OWL named individuals; the run
+	 * shard tag followed by e.g. "_s3" for the object description with index 3 in
+	 * parallel mode, the run shard tag otherwise.
+	 */
+	private String shard;
+
+	/**
+	 * Generated axioms of the object description being generated, not yet passed
+	 * to the sink.
+	 */
+	private final List<OWLAxiom> pendingAxioms = new ArrayList<>();
+
+	/**
+	 * The index of next OWL named individual of anonymous super classes type.
+	 */
+	private long anonymousIndividualIndex = 0;
+
+	/**
+	 * Generated output ontology as file, null if it is written to the standard
+	 * output.
 	 */
 	private File outputFile;
 
 	/**
-	 * Hold of an ontology manager.
+	 * Serialization format of generated object descriptions.
 	 */
-	private OWLOntologyManager manager;
+	private final OutputFormat outputFormat;
 
 	/**
-	 * A build-in OWL reasoner from OWL API.
+	 * Hold of an ontology manager.
 	 */
-	private OWLReasoner reasoner;
+	private OWLOntologyManager manager;
 
 	/**
 	 * An OWL data factory object used to create entities, class expressions and
@@ -111,9 +172,25 @@ public class ObjectDescriptionGenerator {
 	private OWLOntology inputOntology;
 
 	/**
-	 * Output ontology.
+	 * Index of the assertions of the input ontology and its imports closure,
+	 * shared with worker generators and with the generators of other jobs.
+	 */
+	private final AssertionIndex inputAssertionIndex;
+
+	/**
+	 * Index of the assertions generated by this generator, layered over the index
+	 * of the input ontology.
 	 */
-	private OWLOntology outputOntology = null;
+	private final AssertionIndex assertionIndex;
+
+	/**
+	 * Created OWL named individuals that no individual pool keeps for reuse, i.e.
+	 * the ones evicted from bounded individual pools and the ones of anonymous
+	 * classes, whose assertions are removed from the assertion index once the
+	 * object description being generated completes; only collected if individual
+	 * pools are bounded.
+	 */
+	private final Set<OWLNamedIndividual> droppedIndividuals = new HashSet<>();
 
 	/**
 	 * The probability of selecting an OWL class constraint (anonymous super class
@@ -218,6 +295,12 @@ public class ObjectDescriptionGenerator {
 	 */
 	private Map<OWLClass, COWLClassImpl> classMap;
 
+	/**
+	 * Customized OWL classes by class index, used to materialize packed
+	 * individual ids.
+	 */
+	private COWLClassImpl[] indexedClasses;
+
 	/**
 	 * Container that stores key-value pairs, where OWL API interface
 	 * OWLDataProperty is the key and the customized class COWLDataPropertyImpl is
@@ -238,9 +321,15 @@ public class ObjectDescriptionGenerator {
 	private Set<OWLNamedIndividual> existingIndividuals;
 
 	/**
-	 * Created OWL named individuals.
+	 * The number of created OWL named individuals.
 	 */
-	private Set<OWLNamedIndividual> newIndividuals = new HashSet<>();
+	private long newIndividualNumber = 0;
+
+	/**
+	 * OWL named individuals created for the object description being streamed,
+	 * which declares them, null if individuals are not collected.
+	 */
+	private List<OWLNamedIndividual> objectIndividuals = null;
 
 	/**
 	 * Selected root class in the input ontology as the entry for dataset
@@ -248,6 +337,12 @@ public class ObjectDescriptionGenerator {
 	 */
 	private COWLClassImpl rootClass = null;
 
+	/**
+	 * Listener notified each time an object description completes, null if there
+	 * is none.
+	 */
+	private ProgressListener progressListener = null;
+
 	/**
 	 * Ontology root class IRI as string.
 	 */
@@ -255,46 +350,121 @@ public class ObjectDescriptionGenerator {
 
 	/**
 	 * Container that stores key-value pairs, where COWLClassImpl is the key and
-	 * LinkedResource is the value.
+	 * ClassGenerationState is the value.
+	 */
+	private Map<COWLClassImpl, ClassGenerationState> classStates = new HashMap<>();
+
+	/**
+	 * Generation epoch of the current object description. Classes visited in an
+	 * earlier epoch are not visited, so advancing the epoch resets all classes at
+	 * once.
+	 */
+	private long epoch = 1;
+
+	/**
+	 * Container that stores key-value pairs, where a class expression or data range
+	 * is the key and its operands (frozen in the iteration order of a hash set) are
+	 * the value.
+	 */
+	private Map<OWLObject, Object[]> operandArrays = new HashMap<>();
+
+	/**
+	 * Work stack of RDF nodes whose object property constraints are being
+	 * expanded, the top node being expanded first.
+	 */
+	private final ArrayDeque<NodeFrame> nodeStack = new ArrayDeque<>();
+
+	/**
+	 * Released node frames kept for reuse.
+	 */
+	private final ArrayDeque<NodeFrame> freeNodeFrames = new ArrayDeque<>();
+
+	/**
+	 * Inner class of ObjectDescriptionGenerator, an instance of this class records
+	 * an RDF node on the work stack together with the object property constraints
+	 * that remain to be expanded.
+	 * 
+	 * @author Yanji Chen
+	 * @version 1.0
+	 * @since 2026-10-16
 	 */
-	private Map<COWLClassImpl, LinkedResource> linkedResourcesForEachClass = new HashMap<>();
+	private static class NodeFrame {
+
+		/**
+		 * OWL named individual of the RDF node.
+		 */
+		public OWLNamedIndividual ind;
+
+		/**
+		 * Selected object property constraints that remain to be expanded.
+		 */
+		public Iterator<Entry<OWLObjectProperty, OWLClassExpression>> objectPropertyAndRangePairs;
+
+		/**
+		 * Object property linking the RDF node to the child node being expanded on
+		 * top of it, null if there is none.
+		 */
+		public OWLObjectProperty pendingObjectProperty;
+	}
 
 	/**
-	 * Inner class of DeviceDescriptionGenerator, an instance of this class records
-	 * all linked resources of the specified OWL class.
+	 * Inner class of ObjectDescriptionGenerator, an instance of this class records
+	 * the mutable generation state of the specified OWL class. The state is owned
+	 * by the generator rather than by COWLClassImpl, so that parallel generators
+	 * can share the extracted ontology model.
 	 * 
 	 * @author Yanji Chen
 	 * @version 1.0
 	 * @since 2018-10-01
 	 */
-	private class LinkedResource {
+	private class ClassGenerationState {
 
 		/**
-		 * A list of set of <OWLDataProperty, OWLDataRange> entries bound to the
-		 * specified OWL class.
+		 * Named individuals of type of the specified OWL class, including individuals
+		 * from the input ontology.
+		 */
+		public IndividualPool individuals;
+
+		/**
+		 * Generation epoch in which the specified OWL class was last visited; the
+		 * class is visited when generating the current object description if it
+		 * equals the current epoch.
 		 */
-		public List<Set<Entry<OWLDataProperty, OWLDataRange>>> dataPropertyAndRangePairsList = new ArrayList<>();
+		public long visitedEpoch = 0;
 
 		/**
-		 * A list of set of <OWLObjectProperty, OWLClassExpression> entries bound to the
+		 * Generation epoch in which any subclass of the specified OWL class (or the
+		 * class itself) was last visited.
+		 */
+		public long subClassVisitedEpoch = 0;
+
+		/**
+		 * The number of subclasses of the specified OWL class (including the class
+		 * itself) visited in the subclass visited epoch.
+		 */
+		public int visitedSubClassNumber = 0;
+
+		/**
+		 * The first subclass of the specified OWL class (or the class itself) visited
+		 * in the subclass visited epoch.
+		 */
+		public COWLClassImpl visitedSubClass = null;
+
+		/**
+		 * A counter that traces the index of next OWL named individual of type of the
 		 * specified OWL class.
 		 */
-		public List<Set<Entry<OWLObjectProperty, OWLClassExpression>>> objectPropertyAndRangePairsList = new ArrayList<>();
+		public long nextInstanceIndex = 0;
 
 		/**
 		 * Constructor
 		 * 
-		 * @param dataPropertyAndRangePairsList
-		 *            A list of set of <OWLDataProperty, OWLDataRange> entries bound to
-		 *            the specified OWL class.
-		 * @param objectPropertyAndRangePairsList
-		 *            A list of set of <OWLObjectProperty, OWLClassExpression> entries
-		 *            bound to the specified OWL class.
+		 * @param cls
+		 *            Customized OWL class.
 		 */
-		public LinkedResource(List<Set<Entry<OWLDataProperty, OWLDataRange>>> dataPropertyAndRangePairsList,
-				List<Set<Entry<OWLObjectProperty, OWLClassExpression>>> objectPropertyAndRangePairsList) {
-			this.dataPropertyAndRangePairsList = dataPropertyAndRangePairsList;
-			this.objectPropertyAndRangePairsList = objectPropertyAndRangePairsList;
+		public ClassGenerationState(COWLClassImpl cls) {
+			individuals = new IndividualPool(cls.getNamedIndividuals(true), maxPoolSize, poolPolicy,
+					ObjectDescriptionGenerator.this::materializeIndividual);
 		}
 	}
 
@@ -307,8 +477,23 @@ public class ObjectDescriptionGenerator {
 	 *            The number of object descriptions.
 	 * @param seed
 	 *            Random seed for generating randomized object descriptions.
+	 * @param threads
+	 *            The number of threads generating object descriptions in parallel,
+	 *            0 for sequential generation.
+	 * @param maxPoolSize
+	 *            The maximum number of created OWL named individuals kept for
+	 *            reuse per OWL class, 0 for unbounded individual pools.
+	 * @param poolPolicy
+	 *            Policy that decides which OWL named individuals a full individual
+	 *            pool keeps.
+	 * @param shardTag
+	 *            Shard tag of this run inserted into the IRIs of all created OWL
+	 *            named individuals, empty for none.
 	 * @param outputFile
-	 *            The output ontology as file.
+	 *            The output ontology as file, null to write it to the standard
+	 *            output.
+	 * @param outputFormat
+	 *            Serialization format of generated object descriptions.
 	 * @param classConstraintSelectionProbability
 	 *            The probability of selecting an OWL class constraint (anonymous
 	 *            super class expression) of an OWL named class.
@@ -366,8 +551,13 @@ public class ObjectDescriptionGenerator {
 	 * @param extractor
 	 *            Ontology extractor used for extracting OWL axioms from input
 	 *            ontology.
+	 * @param inputAssertionIndex
+	 *            Index of the assertions of the input ontology and its imports
+	 *            closure, which may be shared with other generators over the same
+	 *            input ontology since it is never modified.
 	 */
-	public ObjectDescriptionGenerator(String rootIRIString, int objNumber, long seed, File outputFile,
+	public ObjectDescriptionGenerator(String rootIRIString, int objNumber, long seed, int threads, int maxPoolSize,
+			PoolPolicy poolPolicy, String shardTag, File outputFile, OutputFormat outputFormat,
 			double classConstraintSelectionProbability, double newIndividualProbability,
 			double classAssertionProbability, double objectPropertyAssertionProbability,
 			double dataPropertyAssertionProbability, double superClassSelectionProbability,
@@ -376,13 +566,21 @@ public class ObjectDescriptionGenerator {
 			double superObjectPropertySelectionProbability, double superDataPropertySelectionProbability,
 			double inverseObjectPropertySelectionProbability, double symmetricObjectPropertySelectionProbability,
 			double asymmetricObjectPropertySelectionProbability, double irreflexiveObjectPropertySelectionProbability,
-			OWLOntologyManager manager, OWLOntology ont, OntologyExtractor extractor) {
+			OWLOntologyManager manager, OWLOntology ont, OntologyExtractor extractor,
+			AssertionIndex inputAssertionIndex) {
 
 		this.objNumber = objNumber;
 		OUTPUT_ONTOLOGY_IRI_IN_STRING = "http://ece.neu.edu/ontologies/ObjectDescription" + objNumber + ".owl";
+		this.seed = seed;
+		this.threads = threads;
+		this.maxPoolSize = maxPoolSize;
+		this.poolPolicy = poolPolicy;
+		runShard = shardTag.isEmpty() ? "" : "_" + shardTag;
+		shard = runShard;
 		ran = new Random(seed);
 		this.rootIRIString = rootIRIString;
 		this.outputFile = outputFile;
+		this.outputFormat = outputFormat;
 		this.classConstraintSelectionProbability = classConstraintSelectionProbability;
 		this.newIndividualProbability = newIndividualProbability;
 		this.classAssertionProbability = classAssertionProbability;
@@ -402,13 +600,70 @@ public class ObjectDescriptionGenerator {
 		this.manager = manager;
 		factory = manager.getOWLDataFactory();
 		inputOntology = ont;
+		this.inputAssertionIndex = inputAssertionIndex;
+		assertionIndex = new AssertionIndex(inputAssertionIndex);
 
 		classMap = extractor.getClassMap();
+		indexedClasses = new COWLClassImpl[classMap.size()];
+		for (COWLClassImpl cls : classMap.values())
+			indexedClasses[cls.getIndex()] = cls;
 		dataPropertyMap = extractor.getDataPropertyMap();
 		objectPropertyMap = extractor.getObjectPropertyMap();
 		existingIndividuals = extractor.getExistingIndividuals();
 	}
 
+	/**
+	 * Constructor of a worker generator used in parallel mode. The worker shares
+	 * configurations, the extracted ontology model, the input ontology and its
+	 * reasoner with its parent generator, and only owns generation states and an
+	 * assertion index, so it has no output ontology to set up.
+	 * 
+	 * @param generator
+	 *            Parent object description generator.
+	 */
+	private ObjectDescriptionGenerator(ObjectDescriptionGenerator generator) {
+		objNumber = generator.objNumber;
+		OUTPUT_ONTOLOGY_IRI_IN_STRING = generator.OUTPUT_ONTOLOGY_IRI_IN_STRING;
+		seed = generator.seed;
+		threads = generator.threads;
+		maxPoolSize = generator.maxPoolSize;
+		poolPolicy = generator.poolPolicy;
+		runShard = generator.runShard;
+		shard = runShard;
+		ran = new Random(seed);
+		rootIRIString = generator.rootIRIString;
+		outputFile = generator.outputFile;
+		outputFormat = generator.outputFormat;
+		classConstraintSelectionProbability = generator.classConstraintSelectionProbability;
+		newIndividualProbability = generator.newIndividualProbability;
+		classAssertionProbability = generator.classAssertionProbability;
+		objectPropertyAssertionProbability = generator.objectPropertyAssertionProbability;
+		dataPropertyAssertionProbability = generator.dataPropertyAssertionProbability;
+		superClassSelectionProbability = generator.superClassSelectionProbability;
+		equivalentObjectPropertySelectionProbability = generator.equivalentObjectPropertySelectionProbability;
+		equivalentDataPropertySelectionProbability = generator.equivalentDataPropertySelectionProbability;
+		disjointObjectPropertySelectionProbability = generator.disjointObjectPropertySelectionProbability;
+		disjointDataPropertySelectionProbability = generator.disjointDataPropertySelectionProbability;
+		superObjectPropertySelectionProbability = generator.superObjectPropertySelectionProbability;
+		superDataPropertySelectionProbability = generator.superDataPropertySelectionProbability;
+		inverseObjectPropertySelectionProbability = generator.inverseObjectPropertySelectionProbability;
+		symmetricObjectPropertySelectionProbability = generator.symmetricObjectPropertySelectionProbability;
+		asymmetricObjectPropertySelectionProbability = generator.asymmetricObjectPropertySelectionProbability;
+		irreflexiveObjectPropertySelectionProbability = generator.irreflexiveObjectPropertySelectionProbability;
+		manager = generator.manager;
+		factory = generator.factory;
+		inputOntology = generator.inputOntology;
+		inputAssertionIndex = generator.inputAssertionIndex;
+		assertionIndex = new AssertionIndex(inputAssertionIndex);
+
+		classMap = generator.classMap;
+		indexedClasses = generator.indexedClasses;
+		dataPropertyMap = generator.dataPropertyMap;
+		objectPropertyMap = generator.objectPropertyMap;
+		existingIndividuals = generator.existingIndividuals;
+		rootClass = generator.rootClass;
+	}
+
 	/**
 	 * Get output ontology IRI in string.
 	 * 
@@ -427,6 +682,15 @@ public class ObjectDescriptionGenerator {
 		return objNumber;
 	}
 
+	/**
+	 * Get the number of threads generating object descriptions in parallel.
+	 * 
+	 * @return The number of threads, 0 for sequential generation.
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
 	/**
 	 * Get Random object.
 	 * 
@@ -439,12 +703,22 @@ public class ObjectDescriptionGenerator {
 	/**
 	 * Get output ontology as file.
 	 * 
-	 * @return Output ontology as file.
+	 * @return Output ontology as file, null if it is written to the standard
+	 *         output.
 	 */
 	public File getOutputFile() {
 		return outputFile;
 	}
 
+	/**
+	 * Get serialization format of generated object descriptions.
+	 * 
+	 * @return Output format.
+	 */
+	public OutputFormat getOutputFormat() {
+		return outputFormat;
+	}
+
 	/**
 	 * Get the hold of ontology manager.
 	 * 
@@ -455,12 +729,25 @@ public class ObjectDescriptionGenerator {
 	}
 
 	/**
-	 * Get an OWL API build-in reasoner.
+	 * Get named individuals of type of an OWL class, i.e. the individuals asserted
+	 * to be of the class or any of its subclasses in the input ontology or by this
+	 * generator, by name. Subclasses and individuals of the input ontology are
+	 * taken from the extracted ontology model, and created individuals are looked
+	 * up in the assertion index, so that neither a reasoner nor an output
+	 * ontology is needed.
 	 * 
-	 * @return The OWL API build-in reasoner.
-	 */
-	public OWLReasoner getReasoner() {
-		return reasoner;
+	 * @param oc
+	 *            OWL class.
+	 * @return Sorted named individuals of type of the class.
+	 */
+	public List<OWLNamedIndividual> getInstances(OWLClass oc) {
+		COWLClassImpl ocImpl = classMap.get(oc);
+		Set<OWLNamedIndividual> instances = new HashSet<>(ocImpl.getNamedIndividuals(false));
+		for (COWLClassImpl cls : ocImpl.getSubClassAndItselfArray())
+			assertionIndex.collectInstances(cls.getIRI(), instances);
+		List<OWLNamedIndividual> sortedInstances = new ArrayList<>(instances);
+		Collections.sort(sortedInstances);
+		return sortedInstances;
 	}
 
 	/**
@@ -483,12 +770,13 @@ public class ObjectDescriptionGenerator {
 	}
 
 	/**
-	 * Get output ontology.
+	 * Get index of the assertions generated by this generator and of the input
+	 * ontology.
 	 * 
-	 * @return Output ontology.
+	 * @return Assertion index.
 	 */
-	public OWLOntology getOutputOntology() {
-		return outputOntology;
+	public AssertionIndex getAssertionIndex() {
+		return assertionIndex;
 	}
 
 	/**
@@ -699,13 +987,12 @@ public class ObjectDescriptionGenerator {
 	}
 
 	/**
-	 * 
-	 * Get created OWL named individuals.
+	 * Get the number of created OWL named individuals.
 	 *
-	 * @return Created OWL named individuals.
+	 * @return The number of created OWL named individuals.
 	 */
-	public Set<OWLNamedIndividual> getNewIndividuals() {
-		return newIndividuals;
+	public long getNewIndividualNumber() {
+		return newIndividualNumber;
 	}
 
 	/**
@@ -727,109 +1014,219 @@ public class ObjectDescriptionGenerator {
 		return rootIRIString;
 	}
 
+	/**
+	 * Set the listener notified each time an object description completes.
+	 * 
+	 * @param progressListener
+	 *            Progress listener, null for none.
+	 */
+	public void setProgressListener(ProgressListener progressListener) {
+		this.progressListener = progressListener;
+	}
+
 	/**
 	 * This function defines the control flow of object description generation
 	 * process.
 	 * 
+	 * @param sink
+	 *            Sink that receives object descriptions as each of them
+	 *            completes, e.g. the output ontology saved as RDF/XML, a triple
+	 *            writer or a counting sink.
 	 * @throws OWLOntologyStorageException
-	 *             In case the output ontology fails to save as file.
-	 * @throws OWLOntologyCreationException
-	 *             In case the output ontology fails to create.
+	 *             In case object descriptions fail to write.
 	 */
-	public void generateRandomRDFObjectDescriptionInstances()
-			throws OWLOntologyStorageException, OWLOntologyCreationException {
+	public void generateRandomRDFObjectDescriptionInstances(AxiomSink sink) throws OWLOntologyStorageException {
 		logger.info("Begin generating RDF object descriptions...");
 
-		IRI ontologyIRI = IRI.create(OUTPUT_ONTOLOGY_IRI_IN_STRING);
-		outputOntology = manager.createOntology(ontologyIRI);
-
-		OWLImportsDeclarationImpl dec = new OWLImportsDeclarationImpl(
-				inputOntology.getOntologyID().getDefaultDocumentIRI().get());
-
-		OWLAnnotation commentAnno = factory.getOWLAnnotation(factory.getRDFSComment(), factory.getOWLLiteral(
-				"A sample of " + objNumber + " object " + ((objNumber == 1) ? "description" : "descriptions")));
-
-		manager.applyChanges(new AddOntologyAnnotation(outputOntology, commentAnno),
-				new AddImport(outputOntology, dec));
-		/*
-		 * OWLAnnotationAssertionAxiom ax =
-		 * factory.getOWLAnnotationAssertionAxiom(ontology.getOntologyID().
-		 * getOntologyIRI().get(), commentAnno);
-		 * 
-		 * 
-		 * PrefixManager pm = new DefaultPrefixManager(ontologyIRI.toString());
-		 * 
-		 * OWLClass device =
-		 * factory.getOWLClass("http://ece.neu.edu/ontologies/SDR.owl#USRPN200");
-		 * OWLNamedIndividual ind1 =
-		 * factory.getOWLNamedIndividual("#USRPN200_Instance0", pm); OWLNamedIndividual
-		 * ind2 = factory.getOWLNamedIndividual(
-		 * "http://ece.neu.edu/ontologies/SDR.owl#XC3SD1800AFPGA_Instance0");
-		 * OWLObjectProperty objectProperty =
-		 * factory.getOWLObjectProperty("http://cogradio.org/ont/Nuvio.owl#aggregateOf")
-		 * ;
-		 * 
-		 * OWLObjectPropertyAssertionAxiom propertyAssertion = factory
-		 * .getOWLObjectPropertyAssertionAxiom(objectProperty, ind1, ind2);
-		 * 
-		 * OWLClassAssertionAxiom classAssertion = factory.getOWLClassAssertionAxiom(
-		 * device, ind1);
-		 * 
-		 * manager.addAxiom(ontology, propertyAssertion); manager.addAxiom(ontology,
-		 * classAssertion);
-		 */
-		// manager.addAxiom(ontology, ax);
-		// manager.applyChange(new AddAxiom(ontology, ax));
-		// manager.applyChange(new AddImport(ontology, dec));
-		OWLReasonerFactory reasonerFactory = new StructuralReasonerFactory();
-		// OWLReasonerFactory reasonerFactory = new Reasoner.ReasonerFactory();
-		// System.out.println(reasonerFactory.getReasonerName());
-		ConsoleProgressMonitor progressMonitor = new ConsoleProgressMonitor();
-		OWLReasonerConfiguration config = new SimpleConfiguration(progressMonitor);
-
-		// Create a reasoner that will reason over our ontology and its imports
-		// closure.
-		// Pass in the configuration.
-		reasoner = reasonerFactory.createReasoner(outputOntology, config);
-
-		// Ask the reasoner to do all the necessary work now
-		reasoner.precomputeInferences();
-		if (!reasoner.isConsistent()) {
-			logger.error("Ontology inconsistency : The loaded ontologies are inconsistent");
-			throw new OWLOntologyCreationException();
-		}
-
+		OWLClass rootOWLClass = null;
 		for (OWLClass oc : classMap.keySet()) {
 			if (oc.getIRI().getIRIString().equals(rootIRIString)) {
 				logger.info("Find out root class with IRI: " + rootIRIString);
 				rootClass = classMap.get(oc);
-				for (int i = 0; i < objNumber; i++) {
-					createResursiveLinkedRDFNode(oc, true);
-					resetClassStatus(classMap.values());
-				}
+				rootOWLClass = oc;
 				break;
 			}
 		}
 
-		manager.saveOntology(outputOntology, new RDFXMLDocumentFormat(), IRI.create(outputFile));
-		// outputOntology = manager.loadOntologyFromOntologyDocument(outputFile);
-		// factory = manager.getOWLDataFactory();
-		/*
-		 * OWLReasonerFactory reasonerFactory = new StructuralReasonerFactory();
-		 * ConsoleProgressMonitor progressMonitor = new ConsoleProgressMonitor();
-		 * OWLReasonerConfiguration config = new SimpleConfiguration(progressMonitor);
-		 * OWLReasoner reasoner = reasonerFactory.createReasoner(outputOntology,
-		 * config);
-		 * 
-		 * reasoner.precomputeInferences();
-		 */
-		logger.info(String.valueOf(newIndividuals.size()) + " OWL individuals have been created successfully!");
+		streamObjectDescriptions(rootOWLClass, sink);
 		logger.info("Done!");
 	}
 
 	/**
-	 * This function recursively creates OWL named individuals by navigating through
-	 * the model from the specified OWL class.
+	 * Get comment of the output ontology.
+	 * 
+	 * @return Comment of the output ontology.
+	 */
+	private String getOutputOntologyComment() {
+		return "A sample of " + objNumber + " object " + ((objNumber == 1) ? "description" : "descriptions");
+	}
+
+	/**
+	 * Stream object descriptions to a sink as each of them completes, so that
+	 * the generator never holds them in an output ontology. Sequential generation
+	 * keeps the random generator, individual pools and assertion index across
+	 * object descriptions, and passes only the axioms of each object description
+	 * to the sink; parallel generation generates each of them from fresh
+	 * generation states.
+	 * 
+	 * @param oc
+	 *            Root class, null if not found.
+	 * @param sink
+	 *            Sink that receives object descriptions.
+	 * @throws OWLOntologyStorageException
+	 *             In case object descriptions fail to write.
+	 */
+	private void streamObjectDescriptions(OWLClass oc, AxiomSink sink) throws OWLOntologyStorageException {
+		CountingAxiomSink counter = new CountingAxiomSink();
+		AxiomSink countedSink = new TeeAxiomSink(sink, counter);
+		try {
+			countedSink.writeOntologyHeader(IRI.create(OUTPUT_ONTOLOGY_IRI_IN_STRING),
+					inputOntology.getOntologyID().getDefaultDocumentIRI().get(), getOutputOntologyComment());
+			if (oc != null) {
+				if (threads > 0)
+					generateObjectDescriptionsInParallel(oc, countedSink);
+				else {
+					objectIndividuals = new ArrayList<>();
+					for (int i = 0; i < objNumber; i++) {
+						createResursiveLinkedRDFNode(oc, true);
+						countedSink.writeAxioms(takeObjectDescription());
+						resetClassStatus();
+						releaseDroppedIndividuals();
+						reportProgress(i + 1);
+					}
+					objectIndividuals = null;
+				}
+			}
+		} catch (IOException e) {
+			throw new OWLOntologyStorageException(e);
+		}
+		newIndividualNumber = counter.getIndividualNumber();
+		logger.info(String.valueOf(newIndividualNumber) + " OWL individuals have been created successfully!");
+		logger.info(String.valueOf(counter.getAxiomNumber()) + " axioms have been generated in "
+				+ counter.getObjectDescriptionNumber() + " object descriptions.");
+	}
+
+	/**
+	 * Generate object descriptions in parallel. Each object description is
+	 * generated by one of the worker generators with a random seed derived from
+	 * the base seed and the object index against fresh generation states, so the
+	 * output is identical for any positive number of threads; it differs from
+	 * sequential generation, whose object descriptions share generation states.
+	 * Generated object descriptions are passed to the sink in index order, and
+	 * only a few of them per thread are held in memory at once.
+	 * 
+	 * @param oc
+	 *            Root class.
+	 * @param sink
+	 *            Sink that receives the axioms of each object description.
+	 * @throws IOException
+	 *             In case the sink fails to write object descriptions.
+	 */
+	private void generateObjectDescriptionsInParallel(OWLClass oc, AxiomSink sink) throws IOException {
+		int workerNumber = Math.min(threads, objNumber);
+		if (workerNumber < 1)
+			return;
+		logger.info("Generating " + objNumber + " object descriptions with " + workerNumber + " threads...");
+
+		BlockingQueue<ObjectDescriptionGenerator> idleWorkers = new ArrayBlockingQueue<>(workerNumber);
+		for (int i = 0; i < workerNumber; i++)
+			idleWorkers.add(new ObjectDescriptionGenerator(this));
+
+		ExecutorService executor = Executors.newFixedThreadPool(workerNumber);
+		Queue<Future<List<OWLAxiom>>> results = new ArrayDeque<>();
+		int writtenNumber = 0;
+		try {
+			for (int i = 0; i < objNumber; i++) {
+				int index = i;
+				results.add(executor.submit(() -> {
+					ObjectDescriptionGenerator worker = idleWorkers.take();
+					try {
+						return worker.generateObjectDescription(oc, index);
+					} finally {
+						idleWorkers.add(worker);
+					}
+				}));
+				if (results.size() >= 2 * workerNumber) {
+					sink.writeAxioms(results.poll().get());
+					reportProgress(++writtenNumber);
+				}
+			}
+			while (!results.isEmpty()) {
+				sink.writeAxioms(results.poll().get());
+				reportProgress(++writtenNumber);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Parallel object description generation was interrupted", e);
+		} catch (ExecutionException e) {
+			logger.error("Parallel object description generation failed. Reason: " + e.getCause());
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Notify the progress listener, if any, that object descriptions have been
+	 * generated.
+	 * 
+	 * @param objectDescriptionNumber
+	 *            The number of generated object descriptions.
+	 * @throws IOException
+	 *             If the listener fails to write.
+	 */
+	private void reportProgress(int objectDescriptionNumber) throws IOException {
+		if (progressListener != null)
+			progressListener.objectDescriptionsGenerated(objectDescriptionNumber);
+	}
+
+	/**
+	 * Generate the object description with the given index from fresh generation
+	 * states.
+	 * 
+	 * @param oc
+	 *            Root class.
+	 * @param index
+	 *            Object index.
+	 * @return Sorted axioms of the object description, including declarations of
+	 *         created OWL named individuals.
+	 */
+	private List<OWLAxiom> generateObjectDescription(OWLClass oc, int index) {
+		ran = new Random(MathUtil.deriveSeed(seed, index));
+		shard = runShard + "_s" + index;
+		anonymousIndividualIndex = 0;
+		classStates.clear();
+		assertionIndex.clear();
+		droppedIndividuals.clear();
+		objectIndividuals = new ArrayList<>();
+		createResursiveLinkedRDFNode(oc, true);
+		List<OWLAxiom> axioms = takeObjectDescription();
+		objectIndividuals = null;
+		return axioms;
+	}
+
+	/**
+	 * Take the pending axioms of the object description just generated, together
+	 * with declarations of the OWL named individuals it created.
+	 * 
+	 * @return Sorted distinct axioms of the object description.
+	 */
+	private List<OWLAxiom> takeObjectDescription() {
+		List<OWLAxiom> axioms = new ArrayList<>(pendingAxioms.size() + objectIndividuals.size());
+		axioms.addAll(pendingAxioms);
+		pendingAxioms.clear();
+		for (OWLNamedIndividual ind : objectIndividuals)
+			axioms.add(factory.getOWLDeclarationAxiom(ind));
+		objectIndividuals.clear();
+		return axioms.stream().distinct().sorted().collect(Collectors.toList());
+	}
+
+	/**
+	 * This function creates OWL named individuals by navigating through the model
+	 * from the specified OWL class. Object property constraints are expanded
+	 * depth-first with an explicit work stack rather than by recursion, in the
+	 * same order as the recursive navigation, so deep chains of object property
+	 * constraints don't grow the call stack.
 	 * 
 	 * @param oc
 	 *            OWL class.
@@ -839,63 +1236,95 @@ public class ObjectDescriptionGenerator {
 	 * @return OWL named individual.
 	 */
 	public OWLNamedIndividual createResursiveLinkedRDFNode(OWLClass oc, boolean isFirstRecursion) {
+		// Class expression visitors may re-enter this function, in which case only
+		// the nodes above the current top of the stack are expanded.
+		int base = nodeStack.size();
+		OWLNamedIndividual result = enterRDFNode(oc, isFirstRecursion);
+		while (nodeStack.size() > base) {
+			NodeFrame frame = nodeStack.peek();
+			// Link the node to its child node that has just been expanded.
+			if (frame.pendingObjectProperty != null) {
+				if (result != null)
+					generateObjectPropertyAssertionAxiom(frame.pendingObjectProperty, frame.ind, result);
+				frame.pendingObjectProperty = null;
+			}
+			if (!expandRDFNode(frame)) {
+				nodeStack.pop();
+				result = frame.ind;
+				frame.ind = null;
+				frame.objectPropertyAndRangePairs = null;
+				freeNodeFrames.push(frame);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Enter an RDF node of the specified OWL class: reuse or create an OWL named
+	 * individual, and process the class constraints and data property constraints
+	 * of its class. If object property constraints of the class are selected, the
+	 * node is pushed onto the work stack to expand them.
+	 * 
+	 * @param oc
+	 *            OWL class.
+	 * @param isFirstRecursion
+	 *            True if the node is the root node of an object description, false
+	 *            otherwise.
+	 * @return OWL named individual of the node.
+	 */
+	private OWLNamedIndividual enterRDFNode(OWLClass oc, boolean isFirstRecursion) {
 		if (oc == null || oc.isOWLThing())
 			return null;
 		COWLClassImpl ocImpl1 = classMap.get(oc);
-		Set<COWLClassImpl> ocImplSet = ocImpl1.getSubClassesAndItself();
 
 		// If any of its subclasses and itself are visited, return the latest created
 		// OWL named individuals of the class.
-		for (COWLClassImpl subClass : ocImplSet)
-			if (subClass.isVisited())
-				// return
-				// CollectionUtil.getARandomElementFromList(subClass.getNamedIndividuals(),
-				// ran);
-				return subClass.getNamedIndividuals(true).getLast();
+		COWLClassImpl visitedSubClass = getVisitedSubClass(ocImpl1);
+		if (visitedSubClass != null)
+			return getClassState(visitedSubClass).individuals.getLast();
 
 		// If the class is the root class or its subclasses, and the function is invoked
 		// more than once, it randomly returns an individual of the type of the class if
 		// any.
-		if (rootClass.getSubClassesAndItself().contains(ocImpl1) && isFirstRecursion == false) {
-			for (COWLClassImpl cls : ocImpl1.getSubClassesAndItself())
-				if (!cls.getNamedIndividuals(true).isEmpty())
-					return CollectionUtil.getARandomElementFromList(cls.getNamedIndividuals(true), ran);
+		if (rootClass.containsSubClassOrItself(ocImpl1) && isFirstRecursion == false) {
+			for (COWLClassImpl cls : ocImpl1.getSubClassAndItselfArray()) {
+				IndividualPool individuals = getClassState(cls).individuals;
+				if (!individuals.isEmpty())
+					return individuals.getARandomIndividual(ran);
+			}
 			return null;
 		}
 
-		COWLClassImpl ocImpl2 = CollectionUtil.getARandomElementFromSet(ocImplSet, ran);
+		COWLClassImpl ocImpl2 = CollectionUtil.getARandomElementFromArray(ocImpl1.getSubClassAndItselfArray(), ran);
 		// If there are any individuals of the type of the class, and the function
 		// doesn't create new individuals, it randomly returns an individual of the type
 		// of the class.
-		if (ran.nextDouble() < 1 - newIndividualProbability && !ocImpl2.getNamedIndividuals(true).isEmpty()
-				&& isFirstRecursion == false)
-			return CollectionUtil.getARandomElementFromList(ocImpl2.getNamedIndividuals(true), ran);
+		IndividualPool individuals = getClassState(ocImpl2).individuals;
+		if (ran.nextDouble() < 1 - newIndividualProbability && !individuals.isEmpty() && isFirstRecursion == false)
+			return individuals.getARandomIndividual(ran);
 
 		// Create new individuals if none of the above conditions satisfies.
 		logger.info("Selected OWL class IRI is: " + ocImpl2.getIRI().getIRIString());
-		OWLNamedIndividual ind = IRIGenerator.generateOWLIndividual(OUTPUT_ONTOLOGY_IRI_IN_STRING, factory, ocImpl2);
-		newIndividuals.add(ind);
-		ocImpl2.getNamedIndividuals(true).add(ind);
-		ocImpl2.setVisited(true);
+		OWLNamedIndividual ind = createOWLIndividual(ocImpl2);
 
 		// Create OWL class assertion axiom if the condition satisfies.
 		if (isFirstRecursion == true) {
 			OWLClassAssertionAxiom classAssertion = factory
 					.getOWLClassAssertionAxiom(factory.getOWLClass(ocImpl2.getIRI()), ind);
-			manager.addAxiom(outputOntology, classAssertion);
+			addAxiom(classAssertion);
 
-			Set<COWLClassImpl> superClasses = ocImpl2.getSuperClasses();
-			if (!superClasses.isEmpty() && ran.nextDouble() < superClassSelectionProbability) {
-				OWLClass sup = factory.getOWLClass(CollectionUtil.getARandomElementFromSet(superClasses, ran).getIRI());
+			COWLClassImpl[] superClasses = ocImpl2.getSuperClassArray();
+			if (superClasses.length > 0 && ran.nextDouble() < superClassSelectionProbability) {
+				OWLClass sup = factory.getOWLClass(CollectionUtil.getARandomElementFromArray(superClasses, ran).getIRI());
 				classAssertion = factory.getOWLClassAssertionAxiom(sup, ind);
-				manager.addAxiom(outputOntology, classAssertion);
+				addAxiom(classAssertion);
 			}
 		} else
 			generateClassAssertionAxiom(ind, factory.getOWLClass(ocImpl2.getIRI()));
 
 		// In the case when the class contains equivalent classes.
-		if (!ocImpl2.getEquivalentClasses().isEmpty()) {
-			OWLClassExpression exp = CollectionUtil.getARandomElementFromSet(ocImpl2.getEquivalentClasses(), ran);
+		if (ocImpl2.getEquivalentClassArray().length > 0) {
+			OWLClassExpression exp = CollectionUtil.getARandomElementFromArray(ocImpl2.getEquivalentClassArray(), ran);
 			if (exp.isAnonymous()) {
 				logger.info("\t The selected equivalent class restriction is: " + exp.toString());
 				// Process equivalent anonymous class expression of the class.
@@ -921,33 +1350,11 @@ public class ObjectDescriptionGenerator {
 		}
 		// In the case when the class contains only property constraints
 		else {
-			// Get linked resources for each class. Note that they are dynamically
-			// generated on the fly (at run time).
-			Set<Entry<OWLDataProperty, OWLDataRange>> selectedDataPropertyAndRangePairs = new HashSet<>();
-			Set<Entry<OWLObjectProperty, OWLClassExpression>> selectedObjectPropertyAndRangePairs = new HashSet<>();
-			if (linkedResourcesForEachClass.containsKey(ocImpl2)) {
-				LinkedResource res = linkedResourcesForEachClass.get(ocImpl2);
-				if (res.dataPropertyAndRangePairsList.size() > 0)
-					selectedDataPropertyAndRangePairs = (Set<Entry<OWLDataProperty, OWLDataRange>>) CollectionUtil
-							.getARandomElementFromList(res.dataPropertyAndRangePairsList, ran);
-				if (res.objectPropertyAndRangePairsList.size() > 0)
-					selectedObjectPropertyAndRangePairs = (Set<Entry<OWLObjectProperty, OWLClassExpression>>) CollectionUtil
-							.getARandomElementFromList(res.objectPropertyAndRangePairsList, ran);
-			} else {
-				List<Set<Entry<OWLDataProperty, OWLDataRange>>> listOfDataPropertyAndRangePairs = (List<Set<Entry<OWLDataProperty, OWLDataRange>>>) CollectionUtil
-						.getAllSubSetsOfASet(ocImpl2.getDataPropertyRangesPairs().entrySet());
-				if (listOfDataPropertyAndRangePairs.size() > 0)
-					selectedDataPropertyAndRangePairs = (Set<Entry<OWLDataProperty, OWLDataRange>>) CollectionUtil
-							.getARandomElementFromList(listOfDataPropertyAndRangePairs, ran);
-
-				List<Set<Entry<OWLObjectProperty, OWLClassExpression>>> listOfObjectPropertyAndRangePairs = (List<Set<Entry<OWLObjectProperty, OWLClassExpression>>>) CollectionUtil
-						.getAllSubSetsOfASet(ocImpl2.getObjectPropertyRangesPairs().entrySet());
-				if (listOfObjectPropertyAndRangePairs.size() > 0)
-					selectedObjectPropertyAndRangePairs = (Set<Entry<OWLObjectProperty, OWLClassExpression>>) CollectionUtil
-							.getARandomElementFromList(listOfObjectPropertyAndRangePairs, ran);
-				linkedResourcesForEachClass.put(ocImpl2,
-						new LinkedResource(listOfDataPropertyAndRangePairs, listOfObjectPropertyAndRangePairs));
-			}
+			// Select random subsets of property constraints of the class.
+			Set<Entry<OWLDataProperty, OWLDataRange>> selectedDataPropertyAndRangePairs = CollectionUtil
+					.getARandomSubsetOfASet(ocImpl2.getDataPropertyRangesPairs().entrySet(), ran);
+			Set<Entry<OWLObjectProperty, OWLClassExpression>> selectedObjectPropertyAndRangePairs = CollectionUtil
+					.getARandomSubsetOfASet(ocImpl2.getObjectPropertyRangesPairs().entrySet(), ran);
 			OWLDataProperty dataProperty;
 			OWLDataRange dataRange;
 
@@ -965,57 +1372,55 @@ public class ObjectDescriptionGenerator {
 					dataRange.accept(new COWLDataRangeVisitor(ind, dataProperty, this));
 				}
 
-			OWLObjectProperty objectProperty;
-			OWLClassExpression classExp;
-			OWLNamedIndividual individual;
-			// Process object property constraints.
-			for (Entry<OWLObjectProperty, OWLClassExpression> objectPropertyAndRangePair : selectedObjectPropertyAndRangePairs)
-				if (ran.nextDouble() < objectPropertyAssertionProbability) {
-					objectProperty = objectPropertyAndRangePair.getKey();
-					classExp = objectPropertyAndRangePair.getValue();
-					if (classExp.isAnonymous()) {
-						/*
-						 * boolean flag = false; if (classExp instanceof OWLObjectIntersectionOf) { for
-						 * (OWLClassExpression cls : ((OWLObjectIntersectionOf) classExp).operands()
-						 * .collect(Collectors.toSet())) { if (!cls.isAnonymous()) { COWLClassImpl
-						 * owlClass = classMap.get(cls.asOWLClass()); if
-						 * (rootClass.getSubClassesandItself().contains(owlClass)) { for (COWLClassImpl
-						 * sub : owlClass.getSubClassesandItself()) if
-						 * (!sub.getNamedIndividuals().isEmpty()) { individual = CollectionUtil
-						 * .getARandomElementFromList(sub.getNamedIndividuals(), ran);
-						 * processObjectPropertyAssertionAxiom(objectProperty, ind, individual); //
-						 * OWLObjectPropertyAssertionAxiom propertyAssertion = //
-						 * factory.getOWLObjectPropertyAssertionAxiom(objectProperty, ind, //
-						 * individual); // manager.addAxiom(outputOntology, propertyAssertion); break; }
-						 * flag = true; break; } } } } if (flag) continue;
-						 */
-						/*
-						 * boolean flag = false; for (OWLClass cls :
-						 * classExp.classesInSignature().collect(Collectors.toSet())) { COWLClassImpl
-						 * owlClass = classMap.get(cls); if
-						 * (rootClass.getSubClassesandItself().contains(owlClass)) { for (COWLClassImpl
-						 * sub : owlClass.getSubClassesandItself())
-						 * if(!sub.getNamedIndividuals().isEmpty()) { individual =
-						 * CollectionUtil.getARandomElementFromList(sub.getNamedIndividuals(), ran);
-						 * processObjectPropertyAssertionAxiom(objectProperty, ind, individual); break;
-						 * } flag = true; } } if (flag) continue;
-						 */
-						individual = IRIGenerator.generateOWLIndividual(OUTPUT_ONTOLOGY_IRI_IN_STRING, factory);
-						newIndividuals.add((OWLNamedIndividual) individual);
-						generateObjectPropertyAssertionAxiom(objectProperty, ind, individual);
-						classExp.accept(new COWLClassExpressionVisitor(individual, null, this));
-					} else {
-						individual = createResursiveLinkedRDFNode(classExp.asOWLClass(), false);
-						if (individual != null) {
-							generateObjectPropertyAssertionAxiom(objectProperty, ind, individual);
-						}
-					}
-				}
+			// Push the node to expand its object property constraints.
+			if (!selectedObjectPropertyAndRangePairs.isEmpty()) {
+				NodeFrame frame = freeNodeFrames.isEmpty() ? new NodeFrame() : freeNodeFrames.pop();
+				frame.ind = ind;
+				frame.objectPropertyAndRangePairs = selectedObjectPropertyAndRangePairs.iterator();
+				nodeStack.push(frame);
+			}
 		}
 
 		return ind;
 	}
 
+	/**
+	 * Expand the remaining object property constraints of the RDF node on top of
+	 * the work stack, until a child node is pushed onto the work stack.
+	 * 
+	 * @param frame
+	 *            Node frame on top of the work stack.
+	 * @return True if a child node is pushed and has to be expanded first, false
+	 *         if all object property constraints of the node are expanded.
+	 */
+	private boolean expandRDFNode(NodeFrame frame) {
+		OWLNamedIndividual ind = frame.ind;
+		while (frame.objectPropertyAndRangePairs.hasNext()) {
+			Entry<OWLObjectProperty, OWLClassExpression> objectPropertyAndRangePair = frame.objectPropertyAndRangePairs
+					.next();
+			if (ran.nextDouble() < objectPropertyAssertionProbability) {
+				OWLObjectProperty objectProperty = objectPropertyAndRangePair.getKey();
+				OWLClassExpression classExp = objectPropertyAndRangePair.getValue();
+				OWLNamedIndividual individual;
+				if (classExp.isAnonymous()) {
+					individual = createOWLIndividual();
+					generateObjectPropertyAssertionAxiom(objectProperty, ind, individual);
+					classExp.accept(new COWLClassExpressionVisitor(individual, null, this));
+				} else {
+					int depth = nodeStack.size();
+					individual = enterRDFNode(classExp.asOWLClass(), false);
+					if (nodeStack.size() > depth) {
+						frame.pendingObjectProperty = objectProperty;
+						return true;
+					}
+					if (individual != null)
+						generateObjectPropertyAssertionAxiom(objectProperty, ind, individual);
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * This function generates a class assertion and randomly generates a set of
 	 * inferred class assertions.
@@ -1028,14 +1433,14 @@ public class ObjectDescriptionGenerator {
 	public void generateClassAssertionAxiom(OWLNamedIndividual ind, OWLClass cls) {
 		if (ran.nextDouble() < classAssertionProbability) {
 			OWLClassAssertionAxiom classAssertion = factory.getOWLClassAssertionAxiom(cls, ind);
-			manager.addAxiom(outputOntology, classAssertion);
+			addAxiom(classAssertion);
 
 			COWLClassImpl clsImpl = classMap.get(cls);
-			Set<COWLClassImpl> superClasses = clsImpl.getSuperClasses();
-			if (!superClasses.isEmpty() && ran.nextDouble() < superClassSelectionProbability) {
-				OWLClass sup = factory.getOWLClass(CollectionUtil.getARandomElementFromSet(superClasses, ran).getIRI());
+			COWLClassImpl[] superClasses = clsImpl.getSuperClassArray();
+			if (superClasses.length > 0 && ran.nextDouble() < superClassSelectionProbability) {
+				OWLClass sup = factory.getOWLClass(CollectionUtil.getARandomElementFromArray(superClasses, ran).getIRI());
 				classAssertion = factory.getOWLClassAssertionAxiom(sup, ind);
-				manager.addAxiom(outputOntology, classAssertion);
+				addAxiom(classAssertion);
 			}
 		}
 	}
@@ -1060,8 +1465,7 @@ public class ObjectDescriptionGenerator {
 		OWLNegativeObjectPropertyAssertionAxiom negativePropertyAssertion;
 		COWLObjectPropertyImpl objectPropertyImpl = objectPropertyMap.get(objectProperty);
 
-		if (containsRelevantNegativeObjectPropertyAssertionAxiom(objectPropertyImpl, subject, object,
-				new HashSet<OWLNegativeObjectPropertyAssertionAxiom>()))
+		if (containsRelevantNegativeObjectPropertyAssertionAxiom(objectPropertyImpl, subject, object))
 			return;
 
 		if (subject.equals(object)) {
@@ -1069,76 +1473,60 @@ public class ObjectDescriptionGenerator {
 				if (ran.nextDouble() < irreflexiveObjectPropertySelectionProbability) {
 					negativePropertyAssertion = factory.getOWLNegativeObjectPropertyAssertionAxiom(objectProperty,
 							subject, object);
-					manager.addAxiom(outputOntology, negativePropertyAssertion);
+					addAxiom(negativePropertyAssertion);
 				}
 				return;
 			} else if (objectPropertyImpl.getPropertyAttributes().contains(AxiomType.ASYMMETRIC_OBJECT_PROPERTY)) {
 				if (ran.nextDouble() < asymmetricObjectPropertySelectionProbability) {
 					negativePropertyAssertion = factory.getOWLNegativeObjectPropertyAssertionAxiom(objectProperty,
 							subject, object);
-					manager.addAxiom(outputOntology, negativePropertyAssertion);
+					addAxiom(negativePropertyAssertion);
 				}
 				return;
 			}
 		}
 
-		Set<COWLObjectPropertyImpl> inverseObjectProperties = objectPropertyImpl.getInverseProperties();
-		for (COWLPropertyImpl inverseProp : inverseObjectProperties) {
-			for (COWLPropertyImpl disjointProp : inverseProp.getDisjointProperties()) {
-				if (containsRelevantObjectPropertyAssertionAxiom(disjointProp, object, subject,
-						new HashSet<OWLObjectPropertyAssertionAxiom>()))
-					return;
-			}
-		}
-
-		Set<COWLPropertyImpl> disjointProperties = objectPropertyImpl.getDisjointProperties();
+		if (containsConflictingObjectPropertyAssertionAxiom(objectPropertyImpl, subject, object))
+			return;
 
-		for (COWLPropertyImpl disjointProp : disjointProperties) {
-			if (containsRelevantObjectPropertyAssertionAxiom(disjointProp, subject, object,
-					new HashSet<OWLObjectPropertyAssertionAxiom>()))
-				return;
-			/*
-			 * for (COWLPropertyImpl inverseProp : ((COWLObjectPropertyImpl)
-			 * disjointProp).getInverseProperties()) if (containsAxiom(inverseProp, object,
-			 * subject)) return;
-			 */
-		}
+		COWLObjectPropertyImpl[] inverseObjectProperties = objectPropertyImpl.getInversePropertyArray();
+		COWLPropertyImpl[] disjointProperties = objectPropertyImpl.getDisjointPropertyArray();
 
 		OWLObjectPropertyAssertionAxiom propertyAssertion;
 
 		propertyAssertion = factory.getOWLObjectPropertyAssertionAxiom(objectProperty, subject, object);
-		manager.addAxiom(outputOntology, propertyAssertion);
+		addAxiom(propertyAssertion);
 
-		if (!disjointProperties.isEmpty() && ran.nextDouble() < disjointObjectPropertySelectionProbability) {
+		if (disjointProperties.length > 0 && ran.nextDouble() < disjointObjectPropertySelectionProbability) {
 			negativePropertyAssertion = factory.getOWLNegativeObjectPropertyAssertionAxiom(
 					factory.getOWLObjectProperty(
-							CollectionUtil.getARandomElementFromSet(disjointProperties, ran).getIRI()),
+							CollectionUtil.getARandomElementFromArray(disjointProperties, ran).getIRI()),
 					subject, object);
-			manager.addAxiom(outputOntology, negativePropertyAssertion);
+			addAxiom(negativePropertyAssertion);
 		}
 
-		if (!inverseObjectProperties.isEmpty() && ran.nextDouble() < inverseObjectPropertySelectionProbability) {
+		if (inverseObjectProperties.length > 0 && ran.nextDouble() < inverseObjectPropertySelectionProbability) {
 			OWLObjectProperty inverseProperty = factory.getOWLObjectProperty(
-					CollectionUtil.getARandomElementFromSet(inverseObjectProperties, ran).getIRI());
+					CollectionUtil.getARandomElementFromArray(inverseObjectProperties, ran).getIRI());
 			propertyAssertion = factory.getOWLObjectPropertyAssertionAxiom(inverseProperty, object, subject);
-			manager.addAxiom(outputOntology, propertyAssertion);
+			addAxiom(propertyAssertion);
 		}
 
 		OWLObjectProperty objectProp = objectProperty;
-		Set<COWLPropertyImpl> superProperties = objectPropertyImpl.getSuperOWLProperties();
-		if (!superProperties.isEmpty() && ran.nextDouble() < superObjectPropertySelectionProbability) {
+		COWLPropertyImpl[] superProperties = objectPropertyImpl.getSuperPropertyArray();
+		if (superProperties.length > 0 && ran.nextDouble() < superObjectPropertySelectionProbability) {
 			objectProp = factory
-					.getOWLObjectProperty(CollectionUtil.getARandomElementFromSet(superProperties, ran).getIRI());
+					.getOWLObjectProperty(CollectionUtil.getARandomElementFromArray(superProperties, ran).getIRI());
 			propertyAssertion = factory.getOWLObjectPropertyAssertionAxiom(objectProp, subject, object);
-			manager.addAxiom(outputOntology, propertyAssertion);
+			addAxiom(propertyAssertion);
 		}
 
-		Set<COWLPropertyImpl> equivalentProperties = objectPropertyImpl.getEquivalentProperties();
-		if (!equivalentProperties.isEmpty() && ran.nextDouble() < equivalentObjectPropertySelectionProbability) {
-			objectProp = factory
-					.getOWLObjectProperty(CollectionUtil.getARandomElementFromSet(equivalentProperties, ran).getIRI());
+		COWLPropertyImpl[] equivalentProperties = objectPropertyImpl.getEquivalentPropertyArray();
+		if (equivalentProperties.length > 0 && ran.nextDouble() < equivalentObjectPropertySelectionProbability) {
+			objectProp = factory.getOWLObjectProperty(
+					CollectionUtil.getARandomElementFromArray(equivalentProperties, ran).getIRI());
 			propertyAssertion = factory.getOWLObjectPropertyAssertionAxiom(objectProp, subject, object);
-			manager.addAxiom(outputOntology, propertyAssertion);
+			addAxiom(propertyAssertion);
 		}
 		// outputOntology.containsAxiom(axiom, Imports.INCLUDED,
 		// AxiomAnnotations.IGNORE_AXIOM_ANNOTATIONS);
@@ -1147,19 +1535,19 @@ public class ObjectDescriptionGenerator {
 				&& ran.nextDouble() < asymmetricObjectPropertySelectionProbability) {
 			negativePropertyAssertion = factory.getOWLNegativeObjectPropertyAssertionAxiom(objectProperty, object,
 					subject);
-			manager.addAxiom(outputOntology, negativePropertyAssertion);
+			addAxiom(negativePropertyAssertion);
 		}
 
 		if (objectPropertyImpl.getPropertyAttributes().contains(AxiomType.SYMMETRIC_OBJECT_PROPERTY)
 				&& ran.nextDouble() < symmetricObjectPropertySelectionProbability) {
 			propertyAssertion = factory.getOWLObjectPropertyAssertionAxiom(objectProperty, object, subject);
-			manager.addAxiom(outputOntology, propertyAssertion);
+			addAxiom(propertyAssertion);
 		}
 	}
 
 	/**
-	 * This function detects whether the output ontology contains the specified
-	 * object property assertion and its relevant object property assertions.
+	 * This function detects whether the specified object property assertion or its
+	 * relevant object property assertions have been asserted.
 	 * 
 	 * @param property
 	 *            Customization of OWL object property.
@@ -1167,117 +1555,323 @@ public class ObjectDescriptionGenerator {
 	 *            OWL named individual.
 	 * @param object
 	 *            OWL named individual.
-	 * @param propertyAssertions
-	 *            Verified object property assertions that are not in the output
-	 *            ontology.
 	 * @return true if there exists such object property assertions, false
 	 *         otherwise.
 	 */
 	public boolean containsRelevantObjectPropertyAssertionAxiom(COWLPropertyImpl property, OWLNamedIndividual subject,
-			OWLNamedIndividual object, Set<OWLObjectPropertyAssertionAxiom> propertyAssertions) {
+			OWLNamedIndividual object) {
 		if (property == null || subject == null || object == null)
 			return false;
-
-		OWLObjectPropertyAssertionAxiom propertyAssertion = factory
-				.getOWLObjectPropertyAssertionAxiom(factory.getOWLObjectProperty(property.getIRI()), subject, object);
-
-		if (propertyAssertions.contains(propertyAssertion))
-			return false;
-
-		if (outputOntology.containsAxiom(propertyAssertion, Imports.INCLUDED,
-				AxiomAnnotations.IGNORE_AXIOM_ANNOTATIONS))
-			return true;
-
-		propertyAssertions.add(propertyAssertion);
-
-		for (COWLPropertyImpl eq : ((COWLObjectPropertyImpl) property).getEquivalentProperties()) {
-			if (containsRelevantObjectPropertyAssertionAxiom(eq, subject, object, propertyAssertions))
-				return true;
-		}
-
-		for (COWLPropertyImpl sub : ((COWLObjectPropertyImpl) property).getSubOWLProperties()) {
-			if (containsRelevantObjectPropertyAssertionAxiom(sub, subject, object, propertyAssertions))
-				return true;
-		}
-
-		for (COWLPropertyImpl inv : ((COWLObjectPropertyImpl) property).getInverseProperties()) {
-			if (containsRelevantObjectPropertyAssertionAxiom(inv, object, subject, propertyAssertions))
-				return true;
-		}
-
-		return false;
+		COWLObjectPropertyImpl propertyImpl = (COWLObjectPropertyImpl) property;
+		return containsObjectPropertyAssertion(propertyImpl.getRelevantProperties(),
+				propertyImpl.getRelevantInverseProperties(), subject, object, false);
 	}
 
 	/**
-	 * This function detects whether the output ontology contains the specified
-	 * negative object property assertion and its relevant negative object property
-	 * assertions.
+	 * This function detects whether the specified negative object property
+	 * assertion or its relevant negative object property assertions have been
+	 * asserted.
 	 * 
 	 * @param property
-	 *            OWL object property.
+	 *            Customization of OWL object property.
 	 * @param subject
 	 *            OWL named individual.
 	 * @param object
 	 *            OWL named individual.
-	 * @param propertyAssertions
-	 *            Verified negative object property assertions that are in the
-	 *            output ontology.
-	 * 
 	 * @return true if there exists such negative object property assertions, false
 	 *         otherwise.
 	 */
 	public boolean containsRelevantNegativeObjectPropertyAssertionAxiom(COWLPropertyImpl property,
-			OWLNamedIndividual subject, OWLNamedIndividual object,
-			Set<OWLNegativeObjectPropertyAssertionAxiom> propertyAssertions) {
+			OWLNamedIndividual subject, OWLNamedIndividual object) {
+		if (property == null || subject == null || object == null)
+			return false;
+		COWLObjectPropertyImpl propertyImpl = (COWLObjectPropertyImpl) property;
+		return containsObjectPropertyAssertion(propertyImpl.getRelevantProperties(),
+				propertyImpl.getRelevantInverseProperties(), subject, object, true);
+	}
+
+	/**
+	 * This function detects whether an object property assertion that conflicts
+	 * with the specified object property assertion has been asserted.
+	 * 
+	 * @param property
+	 *            Customization of OWL object property.
+	 * @param subject
+	 *            OWL named individual.
+	 * @param object
+	 *            OWL named individual.
+	 * @return true if there exists such object property assertions, false
+	 *         otherwise.
+	 */
+	public boolean containsConflictingObjectPropertyAssertionAxiom(COWLObjectPropertyImpl property,
+			OWLNamedIndividual subject, OWLNamedIndividual object) {
 		if (property == null || subject == null || object == null)
 			return false;
+		return containsObjectPropertyAssertion(property.getConflictingProperties(),
+				property.getConflictingInverseProperties(), subject, object, false);
+	}
 
-		OWLNegativeObjectPropertyAssertionAxiom propertyAssertion = factory.getOWLNegativeObjectPropertyAssertionAxiom(
-				factory.getOWLObjectProperty(property.getIRI()), subject, object);
+	/**
+	 * Look up the assertion index for (negative) object property assertions of the
+	 * given properties.
+	 * 
+	 * @param properties
+	 *            Property IRIs asserted with the subject and object.
+	 * @param inverseProperties
+	 *            Property IRIs asserted with the swapped subject and object.
+	 * @param subject
+	 *            OWL named individual.
+	 * @param object
+	 *            OWL named individual.
+	 * @param isNegative
+	 *            True to look up negative object property assertions.
+	 * @return true if there exists such assertions, false otherwise.
+	 */
+	private boolean containsObjectPropertyAssertion(IRI[] properties, IRI[] inverseProperties,
+			OWLNamedIndividual subject, OWLNamedIndividual object, boolean isNegative) {
+		for (IRI property : properties)
+			if (isNegative ? assertionIndex.containsNegativeObjectPropertyAssertion(property, subject, object)
+					: assertionIndex.containsObjectPropertyAssertion(property, subject, object))
+				return true;
+		for (IRI property : inverseProperties)
+			if (isNegative ? assertionIndex.containsNegativeObjectPropertyAssertion(property, object, subject)
+					: assertionIndex.containsObjectPropertyAssertion(property, object, subject))
+				return true;
+		return false;
+	}
 
-		if (propertyAssertions.contains(propertyAssertion))
+	/**
+	 * This function detects whether a data property assertion that conflicts with
+	 * the specified data property assertion has been asserted.
+	 * 
+	 * @param property
+	 *            Customization of OWL data property.
+	 * @param ind
+	 *            OWL named individual.
+	 * @param literal
+	 *            OWL literal.
+	 * @return true if there exists such data property assertions, false otherwise.
+	 */
+	public boolean containsConflictingDataPropertyAssertionAxiom(COWLDataPropertyImpl property,
+			OWLNamedIndividual ind, OWLLiteral literal) {
+		if (property == null || ind == null || literal == null)
 			return false;
+		for (IRI prop : property.getConflictingProperties())
+			if (assertionIndex.containsDataPropertyAssertion(prop, ind, literal))
+				return true;
+		return false;
+	}
 
-		if (outputOntology.containsAxiom(propertyAssertion, Imports.INCLUDED,
-				AxiomAnnotations.IGNORE_AXIOM_ANNOTATIONS))
-			return true;
+	/**
+	 * Add an axiom to the object description being generated and record it in
+	 * the assertion index. The axiom is passed to the sink together with the
+	 * other axioms of the object description once it is complete.
+	 * 
+	 * @param axiom
+	 *            OWL axiom.
+	 */
+	public void addAxiom(OWLAxiom axiom) {
+		pendingAxioms.add(axiom);
+		assertionIndex.add(axiom);
+	}
 
-		propertyAssertions.add(propertyAssertion);
+	/**
+	 * Create an OWL named individual of type of an OWL class, add it to the
+	 * individuals of the class and mark the class as visited.
+	 * 
+	 * @param cls
+	 *            Customized OWL class.
+	 * @return OWL named individual.
+	 */
+	public OWLNamedIndividual createOWLIndividual(COWLClassImpl cls) {
+		ClassGenerationState state = getClassState(cls);
+		long id = IRIGenerator.packIndividual(cls, state.nextInstanceIndex++);
+		OWLNamedIndividual ind = materializeIndividual(id);
+		recordNewIndividual(ind);
+		long droppedId = state.individuals.add(id, ran);
+		if (droppedId >= 0)
+			droppedIndividuals.add(materializeIndividual(droppedId));
+		markVisited(cls, state);
+		return ind;
+	}
 
-		for (COWLPropertyImpl eq : ((COWLObjectPropertyImpl) property).getEquivalentProperties()) {
-			if (containsRelevantNegativeObjectPropertyAssertionAxiom(eq, subject, object, propertyAssertions))
-				return true;
-		}
+	/**
+	 * Materialize a packed individual id as an OWL named individual of the
+	 * current shard.
+	 * 
+	 * @param id
+	 *            Packed individual id.
+	 * @return OWL named individual.
+	 */
+	private OWLNamedIndividual materializeIndividual(long id) {
+		return IRIGenerator.generateOWLIndividual(OUTPUT_ONTOLOGY_IRI_IN_STRING, factory,
+				indexedClasses[IRIGenerator.getClassIndex(id)], shard, IRIGenerator.getInstanceIndex(id));
+	}
 
-		for (COWLPropertyImpl sub : ((COWLObjectPropertyImpl) property).getSubOWLProperties()) {
-			if (containsRelevantNegativeObjectPropertyAssertionAxiom(sub, subject, object, propertyAssertions))
-				return true;
-		}
+	/**
+	 * Mark an OWL class as visited in the current epoch, and record it as a visited
+	 * subclass of itself and each of its super classes.
+	 * 
+	 * @param cls
+	 *            Customized OWL class.
+	 * @param state
+	 *            Generation state of the class.
+	 */
+	private void markVisited(COWLClassImpl cls, ClassGenerationState state) {
+		if (state.visitedEpoch == epoch)
+			return;
+		state.visitedEpoch = epoch;
+		recordVisitedSubClass(state, cls);
+		for (COWLClassImpl sup : cls.getSuperClasses())
+			if (sup != null)
+				recordVisitedSubClass(getClassState(sup), cls);
+	}
 
-		for (COWLPropertyImpl inv : ((COWLObjectPropertyImpl) property).getInverseProperties()) {
-			if (containsRelevantNegativeObjectPropertyAssertionAxiom(inv, object, subject, propertyAssertions))
-				return true;
+	/**
+	 * Record a visited subclass in the generation state of its super class (or of
+	 * itself).
+	 * 
+	 * @param state
+	 *            Generation state of the super class.
+	 * @param subClass
+	 *            Visited subclass.
+	 */
+	private void recordVisitedSubClass(ClassGenerationState state, COWLClassImpl subClass) {
+		if (state.subClassVisitedEpoch != epoch) {
+			state.subClassVisitedEpoch = epoch;
+			state.visitedSubClassNumber = 0;
+			state.visitedSubClass = subClass;
 		}
+		state.visitedSubClassNumber++;
+	}
 
-		return false;
+	/**
+	 * Get a subclass of an OWL class (or the class itself) visited in the current
+	 * epoch. If several of them are visited, the first one in the order of
+	 * {@link COWLClassImpl#getSubClassesAndItself()} is returned.
+	 * 
+	 * @param cls
+	 *            Customized OWL class.
+	 * @return Visited subclass, null if none of the subclasses is visited.
+	 */
+	private COWLClassImpl getVisitedSubClass(COWLClassImpl cls) {
+		ClassGenerationState state = getClassState(cls);
+		if (state.subClassVisitedEpoch != epoch)
+			return null;
+		if (state.visitedSubClassNumber == 1)
+			return state.visitedSubClass;
+		for (COWLClassImpl subClass : cls.getSubClassAndItselfArray())
+			if (getClassState(subClass).visitedEpoch == epoch)
+				return subClass;
+		return null;
+	}
+
+	/**
+	 * Create an OWL named individual of type of an OWL anonymous class.
+	 * 
+	 * @return OWL named individual.
+	 */
+	public OWLNamedIndividual createOWLIndividual() {
+		OWLNamedIndividual ind = IRIGenerator.generateOWLIndividual(OUTPUT_ONTOLOGY_IRI_IN_STRING, factory, shard,
+				anonymousIndividualIndex++);
+		recordNewIndividual(ind);
+		if (maxPoolSize > 0)
+			droppedIndividuals.add(ind);
+		return ind;
 	}
 
 	/**
-	 * Reset all classes as not visited.
+	 * Count a created OWL named individual, and collect it if the object
+	 * description being generated declares its individuals.
 	 * 
-	 * @param classes
-	 *            A collection of classes.
+	 * @param ind
+	 *            Created OWL named individual.
 	 */
-	public static void resetClassStatus(Collection<COWLClassImpl> classes) {
-		for (COWLClassImpl tc : classes) {
-			if (tc.isVisited())
-				tc.setVisited(false);
-			// tc.setLastInstanceIndex(0);
-			/*
-			 * for (Individual i : tc.getIndividuals()) { if (i.isVisited())
-			 * i.setIsVisited(true); }
-			 */
+	private void recordNewIndividual(OWLNamedIndividual ind) {
+		newIndividualNumber++;
+		if (objectIndividuals != null)
+			objectIndividuals.add(ind);
+	}
+
+	/**
+	 * Get named individuals of type of an OWL class, including individuals of the
+	 * input ontology and individuals created by this generator.
+	 * 
+	 * @param cls
+	 *            Customized OWL class.
+	 * @param isDirect
+	 *            Specifies if the direct instances should be retrieved (true), or
+	 *            if all instances should be retrieved (false).
+	 * @return Named individuals of type of the class; the individual pool of the
+	 *         class if isDirect is true, a read-only view over the individual pools
+	 *         of its subclasses and itself otherwise.
+	 */
+	public List<OWLNamedIndividual> getNamedIndividuals(COWLClassImpl cls, boolean isDirect) {
+		if (isDirect)
+			return getClassState(cls).individuals;
+		List<IndividualPool> pools = new ArrayList<>();
+		for (COWLClassImpl clsImpl : cls.getSubClassAndItselfArray())
+			pools.add(getClassState(clsImpl).individuals);
+		return new IndividualPool.Union(pools);
+	}
+
+	/**
+	 * Get a random operand of a class expression or data range, e.g. an operand of
+	 * an ObjectUnionOf or an individual of an ObjectOneOf. The operands of each
+	 * expression are collected once and then picked in O(1) time.
+	 * 
+	 * @param <T>
+	 *            The class of the operands.
+	 * @param expression
+	 *            Class expression or data range.
+	 * @param operands
+	 *            Supplier of the operands of the expression.
+	 * @return A random operand.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getARandomOperand(OWLObject expression, Supplier<Stream<? extends T>> operands) {
+		Object[] operandArray = operandArrays.get(expression);
+		if (operandArray == null) {
+			operandArray = operands.get().collect(Collectors.toSet()).toArray();
+			operandArrays.put(expression, operandArray);
+		}
+		return (T) CollectionUtil.getARandomElementFromArray(operandArray, ran);
+	}
+
+	/**
+	 * Get generation state of an OWL class, created on first access.
+	 * 
+	 * @param cls
+	 *            Customized OWL class.
+	 * @return Generation state of the class.
+	 */
+	private ClassGenerationState getClassState(COWLClassImpl cls) {
+		ClassGenerationState state = classStates.get(cls);
+		if (state == null) {
+			state = new ClassGenerationState(cls);
+			classStates.put(cls, state);
 		}
+		return state;
+	}
+
+	/**
+	 * Reset all classes as not visited by advancing the generation epoch.
+	 */
+	public void resetClassStatus() {
+		epoch++;
+	}
+
+	/**
+	 * Remove the assertions of the dropped OWL named individuals from the
+	 * assertion index once an object description completes. No individual pool
+	 * keeps them, so they can't be reused by later object descriptions, and the
+	 * index only holds the assertions of pooled individuals; with bounded
+	 * individual pools, it is thus bounded as well rather than growing with the
+	 * number of object descriptions.
+	 */
+	private void releaseDroppedIndividuals() {
+		assertionIndex.removeIndividuals(droppedIndividuals);
+		droppedIndividuals.clear();
 	}
 
 }
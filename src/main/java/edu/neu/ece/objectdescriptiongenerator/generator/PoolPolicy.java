@@ -0,0 +1,63 @@
+package edu.neu.ece.objectdescriptiongenerator.generator;
+
+/**
+ * Policies that decide which individuals a bounded individual pool keeps for
+ * reuse once it is full.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public enum PoolPolicy {
+
+	/**
+	 * Reservoir sampling, which keeps a uniform random sample of all the
+	 * individuals added to the pool.
+	 */
+	RESERVOIR("reservoir"),
+
+	/**
+	 * Recency window, which keeps the latest individuals added to the pool.
+	 */
+	RECENCY("recency");
+
+	/**
+	 * Policy name on console.
+	 */
+	private final String name;
+
+	/**
+	 * Constructor
+	 *
+	 * @param name
+	 *            Policy name on console.
+	 */
+	private PoolPolicy(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Get policy name on console.
+	 *
+	 * @return Policy name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the policy with the given name on console.
+	 *
+	 * @param name
+	 *            Policy name on console.
+	 * @return Pool policy.
+	 * @throws IllegalArgumentException
+	 *             If no policy has the given name.
+	 */
+	public static PoolPolicy fromName(String name) {
+		for (PoolPolicy policy : values())
+			if (policy.name.equalsIgnoreCase(name))
+				return policy;
+		throw new IllegalArgumentException("Unknown pool policy: " + name);
+	}
+}
@@ -0,0 +1,28 @@
+package edu.neu.ece.objectdescriptiongenerator.generator;
+
+import java.io.IOException;
+
+/**
+ * Listener that is notified by an object description generator each time an
+ * object description completes, e.g. to emit snapshots of the datasets at
+ * checkpoints.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+	/**
+	 * Called once the given number of object descriptions have been generated,
+	 * in index order, and are visible in the output ontology or have been passed
+	 * to the axiom sink.
+	 *
+	 * @param objectDescriptionNumber
+	 *            The number of generated object descriptions.
+	 * @throws IOException
+	 *             If the listener fails to write.
+	 */
+	void objectDescriptionsGenerated(int objectDescriptionNumber) throws IOException;
+}
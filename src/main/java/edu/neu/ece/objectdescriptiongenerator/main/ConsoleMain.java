@@ -1,9 +1,16 @@
 package edu.neu.ece.objectdescriptiongenerator.main;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.cli.CommandLine;
@@ -12,13 +19,18 @@ import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
+import org.apache.log4j.Appender;
+import org.apache.log4j.ConsoleAppender;
 import org.apache.log4j.PropertyConfigurator;
 import org.semanticweb.owlapi.model.IRI;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import edu.neu.ece.objectdescriptiongenerator.controller.ConsistencyCheck;
 import edu.neu.ece.objectdescriptiongenerator.controller.Controller;
-import edu.neu.ece.objectdescriptiongenerator.utility.FileUtil;
+import edu.neu.ece.objectdescriptiongenerator.controller.ReasonerType;
+import edu.neu.ece.objectdescriptiongenerator.generator.PoolPolicy;
+import edu.neu.ece.objectdescriptiongenerator.writer.OutputFormat;
 
 /**
  * Main class, entry to the program.
@@ -59,6 +71,61 @@ public class ConsoleMain {
 	 */
 	private static final String MAPPING = "IRIMapping";
 
+	/**
+	 * Extraction snapshot directory option name on console.
+	 */
+	private static final String SNAPSHOT_DIR = "snapshotDir";
+
+	/**
+	 * The number of loading threads option name on console.
+	 */
+	private static final String LOADING_THREADS = "loadingThreads";
+
+	/**
+	 * The number of extraction threads option name on console.
+	 */
+	private static final String EXTRACTION_THREADS = "extractionThreads";
+
+	/**
+	 * Single-pass extraction option name on console.
+	 */
+	private static final String SINGLE_PASS_EXTRACTION = "singlePassExtraction";
+
+	/**
+	 * Hierarchy closure option name on console.
+	 */
+	private static final String HIERARCHY_CLOSURE = "hierarchyClosure";
+
+	/**
+	 * Module extraction option name on console.
+	 */
+	private static final String MODULE_EXTRACTION = "moduleExtraction";
+
+	/**
+	 * Reasoner option name on console.
+	 */
+	private static final String REASONER = "reasoner";
+
+	/**
+	 * Consistency check option name on console.
+	 */
+	private static final String CONSISTENCY_CHECK = "consistencyCheck";
+
+	/**
+	 * Job file path option name on console.
+	 */
+	private static final String JOB_FILE = "jobFile";
+
+	/**
+	 * The number of job threads option name on console.
+	 */
+	private static final String JOB_THREADS = "jobThreads";
+
+	/**
+	 * Prefix of comment lines in a job file.
+	 */
+	private static final String JOB_COMMENT_PREFIX = "#";
+
 	/**
 	 * The number of object descriptions option name on console.
 	 */
@@ -69,11 +136,56 @@ public class ConsoleMain {
 	 */
 	private static final String RAM_SEED = "ramSeed";
 
+	/**
+	 * The number of generation threads option name on console.
+	 */
+	private static final String THREADS = "threads";
+
+	/**
+	 * Maximum individual pool size option name on console.
+	 */
+	private static final String MAX_POOL_SIZE = "maxPoolSize";
+
+	/**
+	 * Individual pool policy option name on console.
+	 */
+	private static final String POOL_POLICY = "poolPolicy";
+
+	/**
+	 * Run shard tag option name on console.
+	 */
+	private static final String SHARD_TAG = "shardTag";
+
+	/**
+	 * Axiom batch size option name on console.
+	 */
+	private static final String AXIOM_BATCH_SIZE = "axiomBatchSize";
+
+	/**
+	 * Checkpoints option name on console.
+	 */
+	private static final String CHECKPOINTS = "checkpoints";
+
 	/**
 	 * Output file path option name on console.
 	 */
 	private static final String OUTPUT_FILE_PATH = "outputFilePath";
 
+	/**
+	 * Output file path that stands for the standard output.
+	 */
+	private static final String STANDARD_OUTPUT_PATH = "-";
+
+	/**
+	 * Output format option name on console.
+	 */
+	private static final String OUTPUT_FORMAT = "outputFormat";
+
+	/**
+	 * Tee formats option name on console.
+	 */
+	private static final String TEE_FORMATS = "teeFormats";
+
 	/**
 	 * Class constraint selection probability option name on console.
 	 */
@@ -199,6 +311,15 @@ public class ConsoleMain {
 			System.exit(1);
 		}
 
+		// Keep the standard output clean for object descriptions.
+		if (STANDARD_OUTPUT_PATH.equals(line.getOptionValue(OUTPUT_FILE_PATH))) {
+			Appender appender = org.apache.log4j.Logger.getRootLogger().getAppender("ConsoleLog");
+			if (appender instanceof ConsoleAppender) {
+				((ConsoleAppender) appender).setTarget(ConsoleAppender.SYSTEM_ERR);
+				((ConsoleAppender) appender).activateOptions();
+			}
+		}
+
 		String rootIRIString = line.getOptionValue(ROOT_CLASS_IRI);
 		String ontologyURIString = line.getOptionValue(ONTOLOGY_URI);
 
@@ -225,7 +346,177 @@ public class ConsoleMain {
 			logger.info(MAPPING + " = " + mapping);
 			builder.setOntologyIRIMapper(ontologyIRIMapper);
 		}
+		if (line.hasOption(SNAPSHOT_DIR)) {
+			String snapshotDir = line.getOptionValue(SNAPSHOT_DIR);
+			if (new File(snapshotDir).isFile()) {
+				logger.error("Extraction snapshot directory is a file: " + snapshotDir);
+				System.exit(1);
+			}
+			logger.info(SNAPSHOT_DIR + " = " + snapshotDir);
+			builder.setSnapshotDirectory(new File(snapshotDir));
+		}
+		if (line.hasOption(LOADING_THREADS)) {
+			int loadingThreads = Integer.parseInt(line.getOptionValue(LOADING_THREADS));
+			if (loadingThreads < 0) {
+				logger.error("The number of loading threads must be a non-negative number.");
+				System.exit(1);
+			}
+			logger.info(LOADING_THREADS + " = " + loadingThreads);
+			builder.setLoadingThreads(loadingThreads);
+		}
+		if (line.hasOption(EXTRACTION_THREADS)) {
+			int extractionThreads = Integer.parseInt(line.getOptionValue(EXTRACTION_THREADS));
+			if (extractionThreads < 0) {
+				logger.error("The number of extraction threads must be a non-negative number.");
+				System.exit(1);
+			}
+			logger.info(EXTRACTION_THREADS + " = " + extractionThreads);
+			builder.setExtractionThreads(extractionThreads);
+		}
+		if (line.hasOption(SINGLE_PASS_EXTRACTION)) {
+			logger.info(SINGLE_PASS_EXTRACTION + " = true");
+			builder.setSinglePassExtraction(true);
+		}
+		if (line.hasOption(HIERARCHY_CLOSURE)) {
+			logger.info(HIERARCHY_CLOSURE + " = true");
+			builder.setHierarchyClosure(true);
+		}
+		if (line.hasOption(MODULE_EXTRACTION)) {
+			logger.info(MODULE_EXTRACTION + " = true");
+			builder.setModuleExtraction(true);
+		}
+		if (line.hasOption(REASONER)) {
+			ReasonerType reasonerType = null;
+			try {
+				reasonerType = ReasonerType.fromName(line.getOptionValue(REASONER));
+			} catch (IllegalArgumentException e) {
+				logger.error("Reasoner must be one of structural and hermit.");
+				System.exit(1);
+			}
+			if (reasonerType != ReasonerType.STRUCTURAL && line.hasOption(HIERARCHY_CLOSURE)) {
+				logger.error("Hierarchy closure computes the told hierarchies and requires the structural reasoner.");
+				System.exit(1);
+			}
+			logger.info(REASONER + " = " + reasonerType.getName());
+			builder.setReasonerType(reasonerType);
+		}
+		if (line.hasOption(CONSISTENCY_CHECK)) {
+			ConsistencyCheck consistencyCheck = null;
+			try {
+				consistencyCheck = ConsistencyCheck.fromName(line.getOptionValue(CONSISTENCY_CHECK));
+			} catch (IllegalArgumentException e) {
+				logger.error("Consistency check must be one of eager, deferred and skip.");
+				System.exit(1);
+			}
+			logger.info(CONSISTENCY_CHECK + " = " + consistencyCheck.getName());
+			builder.setConsistencyCheck(consistencyCheck);
+		}
+
+		if (line.hasOption(JOB_FILE)) {
+			runJobs(line, ontologyIRI, rootIRIString, builder);
+			return;
+		}
+
+		configureGeneration(line, builder);
+		builder.build().generateObjectDescriptions();
+	}
+
+	/**
+	 * Run the generation jobs listed in a job file against the input ontology,
+	 * which is loaded and extracted only once. Each non-empty line of the job
+	 * file, except comment lines starting with #, holds the generation options of
+	 * one job in console syntax; the root class IRI defaults to the one on
+	 * console.
+	 * 
+	 * @param line
+	 *            Parsed arguments from console.
+	 * @param ontologyIRI
+	 *            Input ontology IRI.
+	 * @param rootIRIString
+	 *            Default root class IRI as string.
+	 * @param builder
+	 *            Builder of the controller that loads and extracts the input
+	 *            ontology.
+	 */
+	private void runJobs(CommandLine line, IRI ontologyIRI, String rootIRIString, Controller.Builder builder) {
+		for (Option option : line.getOptions()) {
+			if (!option.getOpt().equals(ROOT_CLASS_IRI) && !option.getOpt().equals(ONTOLOGY_URI)
+					&& !option.getOpt().equals(MAPPING) && !option.getOpt().equals(SNAPSHOT_DIR)
+					&& !option.getOpt().equals(LOADING_THREADS)
+					&& !option.getOpt().equals(EXTRACTION_THREADS) && !option.getOpt().equals(SINGLE_PASS_EXTRACTION)
+					&& !option.getOpt().equals(HIERARCHY_CLOSURE) && !option.getOpt().equals(MODULE_EXTRACTION)
+					&& !option.getOpt().equals(REASONER) && !option.getOpt().equals(CONSISTENCY_CHECK)
+					&& !option.getOpt().equals(JOB_FILE) && !option.getOpt().equals(JOB_THREADS)) {
+				logger.error("Generation options must be given per job in the job file, not on console: -"
+						+ option.getOpt());
+				System.exit(1);
+			}
+		}
+
+		int jobThreads = 0;
+		if (line.hasOption(JOB_THREADS)) {
+			jobThreads = Integer.parseInt(line.getOptionValue(JOB_THREADS));
+			if (jobThreads < 0) {
+				logger.error("The number of job threads must be a non-negative number.");
+				System.exit(1);
+			}
+			logger.info(JOB_THREADS + " = " + jobThreads);
+		}
+
+		String jobFilePath = line.getOptionValue(JOB_FILE);
+		logger.info(JOB_FILE + " = " + jobFilePath);
+		List<String> jobLines = null;
+		try {
+			jobLines = Files.readAllLines(Paths.get(jobFilePath), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			logger.error("Reading job file failed. Reason: " + e.getMessage());
+			System.exit(1);
+		}
+
+		Options jobOptions = createJobOptions();
+		List<Controller> jobs = new ArrayList<>();
+		for (String jobLine : jobLines) {
+			jobLine = jobLine.trim();
+			if (jobLine.isEmpty() || jobLine.startsWith(JOB_COMMENT_PREFIX))
+				continue;
+			CommandLine job = null;
+			try {
+				job = new DefaultParser().parse(jobOptions, jobLine.split("\\s+"));
+			} catch (ParseException exp) {
+				logger.error("Parsing job " + (jobs.size() + 1) + " failed. Reason:" + exp.getMessage());
+				System.exit(1);
+			}
+			if (STANDARD_OUTPUT_PATH.equals(job.getOptionValue(OUTPUT_FILE_PATH))) {
+				logger.error("Jobs cannot write object descriptions to the standard output.");
+				System.exit(1);
+			}
+			logger.info("Job " + (jobs.size() + 1) + ": " + jobLine);
+			Controller.Builder jobBuilder = new Controller.Builder(ontologyIRI,
+					job.getOptionValue(ROOT_CLASS_IRI, rootIRIString));
+			configureGeneration(job, jobBuilder);
+			jobs.add(jobBuilder.build());
+		}
+		if (jobs.isEmpty()) {
+			logger.error("The job file doesn't contain any job.");
+			System.exit(1);
+		}
 
+		if (!builder.build().generateObjectDescriptions(jobs, jobThreads)) {
+			logger.error("Running jobs of the job file failed.");
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Configure object description generation from parsed arguments, either from
+	 * console or from a line of a job file.
+	 * 
+	 * @param line
+	 *            Parsed arguments.
+	 * @param builder
+	 *            Builder of the controller that generates the object descriptions.
+	 */
+	private void configureGeneration(CommandLine line, Controller.Builder builder) {
 		int objNumber = 1;
 		if (line.hasOption(OBJ_NUMBER)) {
 			objNumber = Integer.parseInt(line.getOptionValue(OBJ_NUMBER));
@@ -243,10 +534,129 @@ public class ConsoleMain {
 			builder.setSeed(baseSeed);
 		}
 
+		if (line.hasOption(THREADS)) {
+			int threads = Integer.parseInt(line.getOptionValue(THREADS));
+			if (threads < 0) {
+				logger.error("The number of threads must be a non-negative number.");
+				System.exit(1);
+			}
+			logger.info(THREADS + " = " + threads);
+			builder.setThreads(threads);
+		}
+
+		if (line.hasOption(MAX_POOL_SIZE)) {
+			int maxPoolSize = Integer.parseInt(line.getOptionValue(MAX_POOL_SIZE));
+			if (maxPoolSize < 0) {
+				logger.error("The maximum pool size must be a non-negative number.");
+				System.exit(1);
+			}
+			logger.info(MAX_POOL_SIZE + " = " + maxPoolSize);
+			builder.setMaxPoolSize(maxPoolSize);
+		}
+
+		if (line.hasOption(POOL_POLICY)) {
+			PoolPolicy poolPolicy = null;
+			try {
+				poolPolicy = PoolPolicy.fromName(line.getOptionValue(POOL_POLICY));
+			} catch (IllegalArgumentException e) {
+				logger.error("Pool policy must be one of reservoir and recency.");
+				System.exit(1);
+			}
+			logger.info(POOL_POLICY + " = " + poolPolicy.getName());
+			builder.setPoolPolicy(poolPolicy);
+		}
+
+		if (line.hasOption(SHARD_TAG)) {
+			String shardTag = line.getOptionValue(SHARD_TAG);
+			if (!shardTag.matches("[A-Za-z0-9]+")) {
+				logger.error("Shard tag must consist of letters and digits only.");
+				System.exit(1);
+			}
+			logger.info(SHARD_TAG + " = " + shardTag);
+			builder.setShardTag(shardTag);
+		}
+
+		if (line.hasOption(AXIOM_BATCH_SIZE)) {
+			int axiomBatchSize = Integer.parseInt(line.getOptionValue(AXIOM_BATCH_SIZE));
+			if (axiomBatchSize < 0) {
+				logger.error("The axiom batch size must be a non-negative number.");
+				System.exit(1);
+			}
+			logger.info(AXIOM_BATCH_SIZE + " = " + axiomBatchSize);
+			builder.setAxiomBatchSize(axiomBatchSize);
+		}
+
+		if (line.hasOption(CHECKPOINTS)) {
+			if (STANDARD_OUTPUT_PATH.equals(line.getOptionValue(OUTPUT_FILE_PATH))) {
+				logger.error("Checkpoints cannot be emitted when writing to the standard output.");
+				System.exit(1);
+			}
+			String[] checkpointStrings = line.getOptionValue(CHECKPOINTS).split(",");
+			int[] checkpoints = new int[checkpointStrings.length];
+			for (int i = 0; i < checkpointStrings.length; i++) {
+				checkpoints[i] = Integer.parseInt(checkpointStrings[i].trim());
+				if (checkpoints[i] <= 0 || checkpoints[i] >= objNumber) {
+					logger.error("Checkpoints must be positive numbers less than the object number.");
+					System.exit(1);
+				}
+			}
+			logger.info(CHECKPOINTS + " = " + line.getOptionValue(CHECKPOINTS));
+			builder.setCheckpoints(checkpoints);
+		}
+
+		if (line.hasOption(OUTPUT_FORMAT)) {
+			OutputFormat outputFormat = null;
+			try {
+				outputFormat = OutputFormat.fromName(line.getOptionValue(OUTPUT_FORMAT));
+			} catch (IllegalArgumentException e) {
+				logger.error("Output format must be one of rdfxml, ntriples, turtle and none.");
+				System.exit(1);
+			}
+			logger.info(OUTPUT_FORMAT + " = " + outputFormat.getName());
+			builder.setOutputFormat(outputFormat);
+		}
+
+		if (line.hasOption(TEE_FORMATS)) {
+			OutputFormat outputFormat = OutputFormat.RDF_XML;
+			if (line.hasOption(OUTPUT_FORMAT))
+				outputFormat = OutputFormat.fromName(line.getOptionValue(OUTPUT_FORMAT));
+			String[] teeFormatNames = line.getOptionValue(TEE_FORMATS).split(",");
+			OutputFormat[] teeFormats = new OutputFormat[teeFormatNames.length];
+			for (int i = 0; i < teeFormatNames.length; i++) {
+				try {
+					teeFormats[i] = OutputFormat.fromName(teeFormatNames[i].trim());
+				} catch (IllegalArgumentException e) {
+					logger.error("Tee formats must be among rdfxml, ntriples, turtle and none.");
+					System.exit(1);
+				}
+				if (teeFormats[i] == outputFormat || Arrays.asList(teeFormats).subList(0, i).contains(teeFormats[i])) {
+					logger.error("Tee formats must differ from each other and from the output format.");
+					System.exit(1);
+				}
+				if (teeFormats[i] != OutputFormat.NONE
+						&& STANDARD_OUTPUT_PATH.equals(line.getOptionValue(OUTPUT_FILE_PATH))) {
+					logger.error("Tee formats other than none cannot be written when writing to the standard output.");
+					System.exit(1);
+				}
+			}
+			logger.info(TEE_FORMATS + " = " + line.getOptionValue(TEE_FORMATS));
+			builder.setTeeFormats(teeFormats);
+		}
+
 		if (line.hasOption(OUTPUT_FILE_PATH)) {
-			File outputFile = FileUtil.createFile(line.getOptionValue(OUTPUT_FILE_PATH));
 			logger.info(OUTPUT_FILE_PATH + " = " + line.getOptionValue(OUTPUT_FILE_PATH));
-			builder.setOutputFile(outputFile);
+			if (STANDARD_OUTPUT_PATH.equals(line.getOptionValue(OUTPUT_FILE_PATH)))
+				builder.setStandardOutput();
+			else {
+				// The output file is truncated once the run writes it, so an existing
+				// file is left alone if the run doesn't write it.
+				File outputFile = new File(line.getOptionValue(OUTPUT_FILE_PATH));
+				if (outputFile.isDirectory()) {
+					logger.error("Output file path must not be a directory.");
+					System.exit(1);
+				}
+				builder.setOutputFile(outputFile);
+			}
 		}
 
 		if (line.hasOption(CLASS_CONSTRAINT_SELECTION_PROBABILITY)) {
@@ -434,8 +844,6 @@ public class ConsoleMain {
 					+ irreflexiveObjectPropertySelectionProbability);
 			builder.setIrreflexiveObjectPropertySelectionProbability(irreflexiveObjectPropertySelectionProbability);
 		}
-
-		builder.build().generateObjectDescriptions();
 	}
 
 	/**
@@ -459,12 +867,91 @@ public class ConsoleMain {
 		options.addOption(Option.builder(MAPPING).argName("IRIMapping1,IRIMapping2,IRIMapping3...").hasArg().desc(
 				"Ontology IRIs to document IRIs mapping. Mappings are splitted by semicolon whereas ontology IRI and document IRI within each mapping are splitted by comma.")
 				.build());
+		options.addOption(Option.builder(SNAPSHOT_DIR).argName("PATH").hasArg().desc(
+				"The local path to a directory of extraction snapshots. The extracted input ontology is saved there, keyed by a hash of the ontology documents, and later runs against unchanged documents restore it instead of reasoning and extracting; none by default")
+				.build());
+		options.addOption(Option.builder(LOADING_THREADS).argName("NUMBER").hasArg().desc(
+				"The number of threads that parse the documents of the imports closure of the input ontology, each as soon as an importing document is parsed; 0 (parsed one after another) by default")
+				.build());
+		options.addOption(Option.builder(EXTRACTION_THREADS).argName("NUMBER").hasArg().desc(
+				"The number of threads that query the input ontology and the reasoner ahead of extraction; the extracted ontology is the same for any number of threads; 0 (queried while extracting) by default")
+				.build());
+		options.addOption(Option.builder(SINGLE_PASS_EXTRACTION).desc(
+				"Index the axioms of the input ontology by entity in one pass instead of querying them entity by entity; the extracted ontology holds the same relations, but datasets may differ from the ones of per-entity extraction for the same seed")
+				.build());
+		options.addOption(Option.builder(HIERARCHY_CLOSURE).desc(
+				"Compute the class and property hierarchies by a bitset transitive closure of the told hierarchy instead of querying the reasoner entity by entity; the extracted ontology holds the same relations, but datasets may differ from the ones of reasoner queries for the same seed")
+				.build());
+		options.addOption(Option.builder(MODULE_EXTRACTION).desc(
+				"Extract only the classes, properties and individuals reachable from the root classes of the run or of all jobs instead of the whole imports closure, and reason over their locality-based module only; datasets are the same as the ones from the whole ontology")
+				.build());
+		options.addOption(Option.builder(REASONER).argName("NAME").hasArg().desc(
+				"The reasoner that reasons over the input ontology, one of structural and hermit; extraction snapshots are keyed by reasoner too; structural by default")
+				.build());
+		options.addOption(Option.builder(CONSISTENCY_CHECK).argName("MODE").hasArg().desc(
+				"When the input ontology is checked for consistency, one of eager (classified and checked before extraction), deferred (checked once object descriptions are generated) and skip (never checked); eager by default")
+				.build());
+		options.addOption(Option.builder(JOB_FILE).argName("PATH").hasArg().desc(
+				"The local path to a job file, each line of which holds the generation options of one job, e.g. -rootIRI <IRI> -objNumber <NUMBER> -ramSeed <SEED> -outputFilePath <PATH>. The input ontology is loaded and extracted once for all jobs, and each job has its own output file and evaluation results; none by default")
+				.build());
+		options.addOption(Option.builder(JOB_THREADS).argName("NUMBER").hasArg().desc(
+				"The number of jobs of the job file run concurrently; 0 (jobs run one after another) by default")
+				.build());
+		addGenerationOptions(options);
+		return options;
+	}
+
+	/**
+	 * Create Option objects of a line of a job file, i.e. the generation options
+	 * with an optional root class IRI.
+	 * 
+	 * @return Option objects.
+	 */
+	private Options createJobOptions() {
+		Options options = new Options();
+		options.addOption(Option.builder(ROOT_CLASS_IRI).argName("IRI").hasArg()
+				.desc("root class IRI as string; the one on console by default").build());
+		addGenerationOptions(options);
+		return options;
+	}
+
+	/**
+	 * Add Option objects of object description generation.
+	 * 
+	 * @param options
+	 *            Option objects to add to.
+	 */
+	private void addGenerationOptions(Options options) {
 		options.addOption(Option.builder(OBJ_NUMBER).argName("NUMBER").hasArg()
 				.desc("The number of object descriptions; 1 by default").build());
 		options.addOption(Option.builder(RAM_SEED).argName("SEED").hasArg()
 				.desc("Random seed used for random object description generation; 0 by default").build());
+		options.addOption(Option.builder(THREADS).argName("NUMBER").hasArg().desc(
+				"The number of threads generating object descriptions in parallel, each object description seeded from the random seed and its index with fresh individual pools, so the output is the same for any positive number but differs from 0 (sequential generation with shared individual pools), the default. Any positive number, 1 included, changes the dataset distribution: object descriptions never reuse each other's OWL named individuals, so they are disconnected from each other and create more individuals")
+				.build());
+		options.addOption(Option.builder(MAX_POOL_SIZE).argName("NUMBER").hasArg().desc(
+				"The maximum number of created OWL named individuals kept for reuse per OWL class, whose assertions the generator also stops keeping once they are dropped; the RDF/XML output ontology and checkpoint evaluation of streamed output still grow with the number of object descriptions; 0 (unbounded) by default")
+				.build());
+		options.addOption(Option.builder(POOL_POLICY).argName("POLICY").hasArg().desc(
+				"The policy that decides which OWL named individuals a full pool keeps, one of reservoir (uniform sample) and recency (latest individuals); reservoir by default")
+				.build());
+		options.addOption(Option.builder(SHARD_TAG).argName("TAG").hasArg().desc(
+				"The shard tag of this run inserted into the IRIs of all created OWL named individuals, so that runs in separate processes or on separate machines produce globally unique IRIs; none by default")
+				.build());
+		options.addOption(Option.builder(AXIOM_BATCH_SIZE).argName("NUMBER").hasArg().desc(
+				"The number of generated axioms added to the RDF/XML output ontology in one bulk change, which holds whole object descriptions; 0 (once per object description) by default")
+				.build());
+		options.addOption(Option.builder(CHECKPOINTS).argName("NUMBER1,NUMBER2,NUMBER3...").hasArg().desc(
+				"The numbers of object descriptions at which a snapshot of the datasets and its evaluation results are emitted next to the output file, e.g. 500,1000,1500 with -objNumber 2000, so that a series of datasets is generated in one run. N-Triples and Turtle snapshots hold the object descriptions since the previous checkpoint, to be concatenated in order; RDF/XML snapshots save the whole output ontology each time, which costs O(checkpoints x output size); none by default")
+				.build());
 		options.addOption(Option.builder(OUTPUT_FILE_PATH).argName("PATH").hasArg().desc(
-				"The local path to the output RDF object descriptions; ./instancedata/ObjectDescription<NUMBER>.rdf by default")
+				"The local path to the output RDF object descriptions, or - for the standard output; it is never touched with -outputFormat none; ./instancedata/ObjectDescription<NUMBER>.<rdf|nt|ttl> by default, without extension for none")
+				.build());
+		options.addOption(Option.builder(OUTPUT_FORMAT).argName("FORMAT").hasArg().desc(
+				"The output format, one of rdfxml, ntriples, turtle and none. N-Triples and Turtle are streamed as each object description completes, none generates object descriptions the same way but only counts them (dry run); rdfxml by default")
+				.build());
+		options.addOption(Option.builder(TEE_FORMATS).argName("FORMAT1,FORMAT2...").hasArg().desc(
+				"Extra formats that object descriptions are written in during the same run, each different from the output format, e.g. ntriples,none with -outputFormat rdfxml. Each format writes next to the output file with its own extension, none logs the counts of object descriptions, axioms and individuals; none by default")
 				.build());
 		options.addOption(Option.builder(CLASS_CONSTRAINT_SELECTION_PROBABILITY).argName("PROBABILITY").hasArg().desc(
 				"The probability of selecting an OWL class constraint (anonymous class expression) of an OWL named class; 0.9 by default")
@@ -515,7 +1002,6 @@ public class ConsoleMain {
 				.hasArg()
 				.desc("The probability of selecting irreflexive characteristic of an object property for negative object property assertion generation; 0.8 by default")
 				.build());
-		return options;
 	}
 
 	/**
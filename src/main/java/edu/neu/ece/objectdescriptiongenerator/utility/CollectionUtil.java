@@ -1,11 +1,20 @@
 package edu.neu.ece.objectdescriptiongenerator.utility;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 /**
  * Collection utility class that contains methods on collection operations.
@@ -57,6 +66,24 @@ public final class CollectionUtil {
 		return t;
 	}
 
+	/**
+	 * Get a random element from an array in O(1) time without allocation. The
+	 * element is the same as the one picked by
+	 * {@link #getARandomElementFromSet(Set, Random)} from a set whose iteration
+	 * order is the array order.
+	 * 
+	 * @param <T>
+	 *            The class of the objects in the array.
+	 * @param typeArray
+	 *            Array of elements of T type.
+	 * @param random
+	 *            Used to generate a stream of pseudorandom numbers.
+	 * @return Element of T type.
+	 */
+	public static <T> T getARandomElementFromArray(T[] typeArray, Random random) {
+		return typeArray[random.nextInt(typeArray.length)];
+	}
+
 	/**
 	 * Generate all subset of a set of entries.
 	 * 
@@ -103,6 +130,39 @@ public final class CollectionUtil {
 
 	}
 
+	/**
+	 * Get a uniformly random subset of a set in O(n) time, without enumerating
+	 * all 2^n subsets. For sets of less than 31 elements, the subset is the same
+	 * as the one picked by index from {@link #getAllSubSetsOfASet(Set)}.
+	 * 
+	 * @param <T>
+	 *            The class of the objects in the set.
+	 * @param set
+	 *            Set of elements of T type.
+	 * @param random
+	 *            Random object.
+	 * @return A random subset of the set, empty if the set is empty.
+	 */
+	public static <T> Set<T> getARandomSubsetOfASet(Set<T> set, Random random) {
+		Set<T> subset = new HashSet<>();
+		int eleNumber = set.size();
+		if (eleNumber == 0)
+			return subset;
+		if (eleNumber < Integer.SIZE - 1) {
+			// The i-th element is selected if the i-th bit of the subset index is set.
+			int index = random.nextInt(1 << eleNumber);
+			for (T t : set) {
+				if ((index & 1) == 1)
+					subset.add(t);
+				index >>>= 1;
+			}
+		} else
+			for (T t : set)
+				if (random.nextBoolean())
+					subset.add(t);
+		return subset;
+	}
+
 	/**
 	 * Generate all subset of a set.
 	 * 
@@ -111,6 +171,8 @@ public final class CollectionUtil {
 	 * @param set
 	 *            Set of elements of T type.
 	 * @return List that contains all subset of the set.
+	 * @deprecated Enumerates all 2^n subsets, use
+	 *             {@link #getARandomSubsetOfASet(Set, Random)} to pick one of them.
 	 */
 	public static <T> ArrayList<Set<T>> getAllSubSetsOfASet(Set<T> set) {
 		int eleNumber = set.size();
@@ -145,4 +207,119 @@ public final class CollectionUtil {
 		return results;
 
 	}
+
+	/**
+	 * Write a collection as its size followed by the indexes of its elements in
+	 * iteration order, so that {@link #readIndexedSet(DataInput, IntFunction)}
+	 * rebuilds it with the same iteration order.
+	 * 
+	 * @param out
+	 *            Data output.
+	 * @param collection
+	 *            Collection to write.
+	 * @param indexOf
+	 *            Index of an element.
+	 * @throws IOException
+	 *             If the collection fails to write.
+	 */
+	public static void writeIndexes(DataOutput out, Collection<?> collection, ToIntFunction<Object> indexOf)
+			throws IOException {
+		out.writeInt(collection.size());
+		for (Object element : collection)
+			out.writeInt(indexOf.applyAsInt(element));
+	}
+
+	/**
+	 * Read a list written by
+	 * {@link #writeIndexes(DataOutput, Collection, ToIntFunction)}.
+	 * 
+	 * @param <T>
+	 *            The class of the objects in the list.
+	 * @param in
+	 *            Data input.
+	 * @param objectAt
+	 *            Element of an index.
+	 * @return Read list.
+	 * @throws IOException
+	 *             If the list fails to read.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> List<T> readIndexedList(DataInput in, IntFunction<Object> objectAt) throws IOException {
+		int size = in.readInt();
+		List<T> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+			list.add((T) objectAt.apply(in.readInt()));
+		return list;
+	}
+
+	/**
+	 * Read a set written by
+	 * {@link #writeIndexes(DataOutput, Collection, ToIntFunction)}. The set is a
+	 * linked hash set, whose iteration order is the written order whatever the
+	 * capacity of the written set was.
+	 * 
+	 * @param <T>
+	 *            The class of the objects in the set.
+	 * @param in
+	 *            Data input.
+	 * @param objectAt
+	 *            Element of an index.
+	 * @return Read set.
+	 * @throws IOException
+	 *             If the set fails to read.
+	 */
+	public static <T> Set<T> readIndexedSet(DataInput in, IntFunction<Object> objectAt) throws IOException {
+		return new LinkedHashSet<>(CollectionUtil.<T>readIndexedList(in, objectAt));
+	}
+
+	/**
+	 * Write a map as its size followed by the indexes of its keys and values in
+	 * iteration order, so that {@link #readIndexedMap(DataInput, IntFunction)}
+	 * rebuilds it with the same iteration order.
+	 * 
+	 * @param out
+	 *            Data output.
+	 * @param map
+	 *            Map to write.
+	 * @param indexOf
+	 *            Index of a key or a value.
+	 * @throws IOException
+	 *             If the map fails to write.
+	 */
+	public static void writeIndexedMap(DataOutput out, Map<?, ?> map, ToIntFunction<Object> indexOf)
+			throws IOException {
+		out.writeInt(map.size());
+		for (Entry<?, ?> entry : map.entrySet()) {
+			out.writeInt(indexOf.applyAsInt(entry.getKey()));
+			out.writeInt(indexOf.applyAsInt(entry.getValue()));
+		}
+	}
+
+	/**
+	 * Read a map written by
+	 * {@link #writeIndexedMap(DataOutput, Map, ToIntFunction)}. The map is a
+	 * linked hash map, whose iteration order is the written order.
+	 * 
+	 * @param <K>
+	 *            The class of the keys of the map.
+	 * @param <V>
+	 *            The class of the values of the map.
+	 * @param in
+	 *            Data input.
+	 * @param objectAt
+	 *            Key or value of an index.
+	 * @return Read map.
+	 * @throws IOException
+	 *             If the map fails to read.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> Map<K, V> readIndexedMap(DataInput in, IntFunction<Object> objectAt) throws IOException {
+		int size = in.readInt();
+		Map<K, V> map = new LinkedHashMap<>();
+		for (int i = 0; i < size; i++) {
+			K key = (K) objectAt.apply(in.readInt());
+			map.put(key, (V) objectAt.apply(in.readInt()));
+		}
+		return map;
+	}
 }
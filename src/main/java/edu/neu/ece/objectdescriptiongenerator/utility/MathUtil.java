@@ -183,6 +183,23 @@ public final class MathUtil {
 		return null;
 	}
 
+	/**
+	 * Derive an independent random seed from a base seed and an index, using the
+	 * SplitMix64 finalizer so that neighbouring indexes yield uncorrelated seeds.
+	 *
+	 * @param baseSeed
+	 *            Base random seed.
+	 * @param index
+	 *            Index (e.g. object description index) the seed is derived for.
+	 * @return Derived random seed.
+	 */
+	public static long deriveSeed(long baseSeed, long index) {
+		long z = baseSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
 	/**
 	 * Calculate standard deviation of normalized distribution of a collection of
 	 * integers.
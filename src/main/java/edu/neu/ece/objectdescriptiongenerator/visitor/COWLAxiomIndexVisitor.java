@@ -0,0 +1,343 @@
+package edu.neu.ece.objectdescriptiongenerator.visitor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.OWLAsymmetricObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomVisitor;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLClassAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyExpression;
+import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLDifferentIndividualsAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointClassesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointUnionAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLFunctionalDataPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLFunctionalObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLIndividualAxiom;
+import org.semanticweb.owlapi.model.OWLInverseFunctionalObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLIrreflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLReflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubDataPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
+
+/**
+ * An instance of this class indexes the axioms of an ontology by the OWL
+ * entities they define, in one pass over the axioms, as an alternative to
+ * querying the axioms of each entity. An axiom is indexed under the same
+ * entities as the OWL API returns it for: class axioms under their named
+ * subclass or named operands, property axioms under their named sub property,
+ * operands or characterized property, and individual axioms under their
+ * subject or operand individuals.
+ *
+ * The indexed axioms of an entity are the same as the OWL API returns, but they
+ * are added to its set in the order they are visited rather than the order of
+ * the OWL API indexes, so the set may have another iteration order.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class COWLAxiomIndexVisitor implements OWLAxiomVisitor {
+
+	/**
+	 * OWL class axioms indexed by OWL class.
+	 */
+	private final Map<OWLClass, Set<OWLClassAxiom>> classAxioms = new HashMap<>();
+
+	/**
+	 * OWL object property axioms indexed by OWL object property.
+	 */
+	private final Map<OWLObjectProperty, Set<OWLObjectPropertyAxiom>> objectPropertyAxioms = new HashMap<>();
+
+	/**
+	 * OWL data property axioms indexed by OWL data property.
+	 */
+	private final Map<OWLDataProperty, Set<OWLDataPropertyAxiom>> dataPropertyAxioms = new HashMap<>();
+
+	/**
+	 * OWL individual axioms indexed by OWL named individual.
+	 */
+	private final Map<OWLNamedIndividual, Set<OWLIndividualAxiom>> individualAxioms = new HashMap<>();
+
+	/**
+	 * Get the indexed axioms of an OWL class.
+	 *
+	 * @param owlClass
+	 *            OWL class.
+	 * @return OWL class axioms.
+	 */
+	public Set<OWLClassAxiom> getClassAxioms(OWLClass owlClass) {
+		return classAxioms.getOrDefault(owlClass, Collections.emptySet());
+	}
+
+	/**
+	 * Get the indexed axioms of an OWL object property.
+	 *
+	 * @param property
+	 *            OWL object property.
+	 * @return OWL object property axioms.
+	 */
+	public Set<OWLObjectPropertyAxiom> getObjectPropertyAxioms(OWLObjectProperty property) {
+		return objectPropertyAxioms.getOrDefault(property, Collections.emptySet());
+	}
+
+	/**
+	 * Get the indexed axioms of an OWL data property.
+	 *
+	 * @param property
+	 *            OWL data property.
+	 * @return OWL data property axioms.
+	 */
+	public Set<OWLDataPropertyAxiom> getDataPropertyAxioms(OWLDataProperty property) {
+		return dataPropertyAxioms.getOrDefault(property, Collections.emptySet());
+	}
+
+	/**
+	 * Get the indexed axioms of an OWL named individual.
+	 *
+	 * @param ind
+	 *            OWL named individual.
+	 * @return OWL individual axioms.
+	 */
+	public Set<OWLIndividualAxiom> getIndividualAxioms(OWLNamedIndividual ind) {
+		return individualAxioms.getOrDefault(ind, Collections.emptySet());
+	}
+
+	/**
+	 * Index a class axiom under a class expression if it is a named class.
+	 *
+	 * @param exp
+	 *            Class expression.
+	 * @param axiom
+	 *            OWL class axiom.
+	 */
+	private void index(OWLClassExpression exp, OWLClassAxiom axiom) {
+		if (!exp.isAnonymous())
+			classAxioms.computeIfAbsent(exp.asOWLClass(), k -> new HashSet<>()).add(axiom);
+	}
+
+	/**
+	 * Index an object property axiom under a property expression if it is a named
+	 * property.
+	 *
+	 * @param property
+	 *            Object property expression.
+	 * @param axiom
+	 *            OWL object property axiom.
+	 */
+	private void index(OWLObjectPropertyExpression property, OWLObjectPropertyAxiom axiom) {
+		if (!property.isAnonymous())
+			objectPropertyAxioms.computeIfAbsent(property.asOWLObjectProperty(), k -> new HashSet<>()).add(axiom);
+	}
+
+	/**
+	 * Index a data property axiom under a data property expression.
+	 *
+	 * @param property
+	 *            Data property expression.
+	 * @param axiom
+	 *            OWL data property axiom.
+	 */
+	private void index(OWLDataPropertyExpression property, OWLDataPropertyAxiom axiom) {
+		dataPropertyAxioms.computeIfAbsent(property.asOWLDataProperty(), k -> new HashSet<>()).add(axiom);
+	}
+
+	/**
+	 * Index an individual axiom under an individual if it is a named individual.
+	 *
+	 * @param individual
+	 *            OWL individual.
+	 * @param axiom
+	 *            OWL individual axiom.
+	 */
+	private void index(OWLIndividual individual, OWLIndividualAxiom axiom) {
+		if (individual.isNamed())
+			individualAxioms.computeIfAbsent(individual.asOWLNamedIndividual(), k -> new HashSet<>()).add(axiom);
+	}
+
+	@Override
+	public void doDefault(Object object) {
+		// Axioms that define no class, property or individual are not indexed.
+	}
+
+	@Override
+	public void visit(OWLSubClassOfAxiom axiom) {
+		index(axiom.getSubClass(), axiom);
+	}
+
+	@Override
+	public void visit(OWLEquivalentClassesAxiom axiom) {
+		axiom.classExpressions().forEach(exp -> index(exp, axiom));
+	}
+
+	@Override
+	public void visit(OWLDisjointClassesAxiom axiom) {
+		axiom.classExpressions().forEach(exp -> index(exp, axiom));
+	}
+
+	@Override
+	public void visit(OWLDisjointUnionAxiom axiom) {
+		index(axiom.getOWLClass(), axiom);
+	}
+
+	@Override
+	public void visit(OWLSubObjectPropertyOfAxiom axiom) {
+		index(axiom.getSubProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLEquivalentObjectPropertiesAxiom axiom) {
+		axiom.properties().forEach(property -> index(property, axiom));
+	}
+
+	@Override
+	public void visit(OWLDisjointObjectPropertiesAxiom axiom) {
+		axiom.properties().forEach(property -> index(property, axiom));
+	}
+
+	@Override
+	public void visit(OWLInverseObjectPropertiesAxiom axiom) {
+		index(axiom.getFirstProperty(), axiom);
+		index(axiom.getSecondProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLObjectPropertyDomainAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLObjectPropertyRangeAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLFunctionalObjectPropertyAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLInverseFunctionalObjectPropertyAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLSymmetricObjectPropertyAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLAsymmetricObjectPropertyAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLReflexiveObjectPropertyAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLIrreflexiveObjectPropertyAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLTransitiveObjectPropertyAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLSubDataPropertyOfAxiom axiom) {
+		index(axiom.getSubProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLEquivalentDataPropertiesAxiom axiom) {
+		axiom.properties().forEach(property -> index(property, axiom));
+	}
+
+	@Override
+	public void visit(OWLDisjointDataPropertiesAxiom axiom) {
+		axiom.properties().forEach(property -> index(property, axiom));
+	}
+
+	@Override
+	public void visit(OWLDataPropertyDomainAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLDataPropertyRangeAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLFunctionalDataPropertyAxiom axiom) {
+		index(axiom.getProperty(), axiom);
+	}
+
+	@Override
+	public void visit(OWLClassAssertionAxiom axiom) {
+		index(axiom.getIndividual(), axiom);
+	}
+
+	@Override
+	public void visit(OWLObjectPropertyAssertionAxiom axiom) {
+		index(axiom.getSubject(), axiom);
+	}
+
+	@Override
+	public void visit(OWLNegativeObjectPropertyAssertionAxiom axiom) {
+		index(axiom.getSubject(), axiom);
+	}
+
+	@Override
+	public void visit(OWLDataPropertyAssertionAxiom axiom) {
+		index(axiom.getSubject(), axiom);
+	}
+
+	@Override
+	public void visit(OWLNegativeDataPropertyAssertionAxiom axiom) {
+		index(axiom.getSubject(), axiom);
+	}
+
+	@Override
+	public void visit(OWLSameIndividualAxiom axiom) {
+		axiom.individuals().forEach(individual -> index(individual, axiom));
+	}
+
+	@Override
+	public void visit(OWLDifferentIndividualsAxiom axiom) {
+		axiom.individuals().forEach(individual -> index(individual, axiom));
+	}
+}
@@ -1,7 +1,8 @@
 package edu.neu.ece.objectdescriptiongenerator.visitor;
 
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -36,12 +37,9 @@ import org.semanticweb.owlapi.model.OWLObjectMaxCardinality;
 import org.semanticweb.owlapi.model.OWLObjectMinCardinality;
 import org.semanticweb.owlapi.model.OWLObjectOneOf;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
-import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
 import org.semanticweb.owlapi.model.OWLObjectUnionOf;
-import org.semanticweb.owlapi.model.OWLOntology;
-import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLQuantifiedDataRestriction;
 import org.semanticweb.owlapi.model.OWLQuantifiedObjectRestriction;
 import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
@@ -50,7 +48,6 @@ import org.slf4j.LoggerFactory;
 
 import edu.neu.ece.objectdescriptiongenerator.entity.classes.COWLClassImpl;
 import edu.neu.ece.objectdescriptiongenerator.generator.ObjectDescriptionGenerator;
-import edu.neu.ece.objectdescriptiongenerator.generator.IRIGenerator;
 import edu.neu.ece.objectdescriptiongenerator.utility.CollectionUtil;
 import edu.neu.ece.objectdescriptiongenerator.utility.MathUtil;
 
@@ -80,11 +77,6 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 	 */
 	private final ObjectDescriptionGenerator generator;
 
-	/**
-	 * Ontology IRI in string of generated RDF object descriptions.
-	 */
-	private final String OUTPUT_ONTOLOGY_IRI_IN_STRING;
-
 	/**
 	 * OWL named individual of type of the specified class expression.
 	 */
@@ -117,33 +109,18 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 	 */
 	private final Random ran;
 
-	/**
-	 * Hold of an ontology manager.
-	 */
-	private final OWLOntologyManager manager;
-
 	/**
 	 * An OWL data factory object used to create entities, class expressions and
 	 * axioms.
 	 */
 	private final OWLDataFactory factory;
 
-	/**
-	 * Output ontology.
-	 */
-	private final OWLOntology outputOntology;
-
 	/**
 	 * Container that stores key-value pairs, where OWL API interface OWLClass is
 	 * the key and the customized class COWLClassImpl is the value.
 	 */
 	private final Map<OWLClass, COWLClassImpl> classMap;
 
-	/**
-	 * Created OWL named individuals.
-	 */
-	private final Set<OWLNamedIndividual> newIndividuals;
-
 	/**
 	 * Constructor
 	 * 
@@ -158,17 +135,13 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 		this.ind = ind;
 		this.owlCls = owlClass;
 		this.generator = generator;
-		OUTPUT_ONTOLOGY_IRI_IN_STRING = generator.getOutputOntologyIRIInString();
 		objectPropertyAssertionProbability = generator.getObjectPropertyAssertionProbability();
 		dataPropertyAssertionProbability = generator.getDataPropertyAssertionProbability();
 		// devNumber = generator.getDevNumber();
 		rootClass = generator.getRootClass();
 		ran = generator.getRan();
-		manager = generator.getManager();
 		factory = generator.getFactory();
-		outputOntology = generator.getOutputOntology();
 		classMap = generator.getClassMap();
-		newIndividuals = generator.getNewIndividuals();
 	}
 
 	@Override
@@ -179,16 +152,14 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 	@Override
 	public void visit(OWLObjectIntersectionOf ce) {
 		Set<OWLClassExpression> operands = ce.operands().collect(Collectors.toSet());
-		Set<OWLClassExpression> selectedOperands = CollectionUtil
-				.getARandomElementFromList(CollectionUtil.getAllSubSetsOfASet(operands), ran);
+		Set<OWLClassExpression> selectedOperands = CollectionUtil.getARandomSubsetOfASet(operands, ran);
 		for (OWLClassExpression exp : selectedOperands)
 			processNaryBooleanClassExpression(exp);
 	}
 
 	@Override
 	public void visit(OWLObjectUnionOf ce) {
-		OWLClassExpression exp = CollectionUtil.getARandomElementFromSet(ce.operands().collect(Collectors.toSet()),
-				ran);
+		OWLClassExpression exp = generator.getARandomOperand(ce, ce::operands);
 		processNaryBooleanClassExpression(exp);
 	}
 
@@ -208,7 +179,7 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 		if (!exp.isAnonymous()) {
 			OWLClass owlClass = exp.asOWLClass();
 			COWLClassImpl owlClassImpl = classMap.get(owlClass);
-			if (rootClass.getSubClassesAndItself().contains(owlClassImpl)) {
+			if (rootClass.containsSubClassOrItself(owlClassImpl)) {
 				/*
 				 * if (owlCls != null) { OWLClassAssertionAxiom classAssertionAxiom =
 				 * factory.getOWLClassAssertionAxiom(exp.asOWLClass(), ind);
@@ -235,12 +206,12 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 	public void visit(OWLObjectComplementOf ce) {
 		OWLClassExpression exp = ce.getOperand();
 		if (!exp.isAnonymous()) {
-			LinkedList<OWLNamedIndividual> individuals = classMap.get(exp.asOWLClass()).getNamedIndividuals(true);
+			List<OWLNamedIndividual> individuals = generator.getNamedIndividuals(classMap.get(exp.asOWLClass()), true);
 			if (!individuals.isEmpty()) {
 				OWLNamedIndividual individual = CollectionUtil.getARandomElementFromList(individuals, ran);
 				OWLDifferentIndividualsAxiom differentIndividualAxiom = factory
 						.getOWLDifferentIndividualsAxiom(individual, ind);
-				manager.addAxiom(outputOntology, differentIndividualAxiom);
+				generator.addAxiom(differentIndividualAxiom);
 			}
 		} else
 			logger.warn("Anonymous class expression from OWLObjectComplementOf " + ce + "will be ignored");
@@ -248,11 +219,10 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 
 	@Override
 	public void visit(OWLObjectOneOf ce) {
-		OWLIndividual individual = CollectionUtil.getARandomElementFromSet(ce.individuals().collect(Collectors.toSet()),
-				ran);
+		OWLIndividual individual = generator.getARandomOperand(ce, ce::individuals);
 		if (!individual.isAnonymous()) {
 			OWLSameIndividualAxiom sameIndividualAxiom = factory.getOWLSameIndividualAxiom(ind, individual);
-			manager.addAxiom(outputOntology, sameIndividualAxiom);
+			generator.addAxiom(sameIndividualAxiom);
 		} else
 			logger.warn("Anonymous individual from OWLObjectOneOf " + ce + "will be ignored");
 	}
@@ -299,10 +269,11 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 				// COWLClassImpl owlClassImpl = generator.getClassMap().get(owlClass);
 
 				COWLClassImpl owlClassImpl = classMap.get(owlClass);
-				if (rootClass.getSubClassesAndItself().contains(owlClassImpl)) {
-					for (COWLClassImpl sub : owlClassImpl.getSubClassesAndItself())
-						if (!sub.getNamedIndividuals(true).isEmpty()) {
-							individual = CollectionUtil.getARandomElementFromList(sub.getNamedIndividuals(true), ran);
+				if (rootClass.containsSubClassOrItself(owlClassImpl)) {
+					for (COWLClassImpl sub : owlClassImpl.getSubClassAndItselfArray())
+						if (!generator.getNamedIndividuals(sub, true).isEmpty()) {
+							individual = CollectionUtil.getARandomElementFromList(generator.getNamedIndividuals(sub, true),
+									ran);
 							generator.generateObjectPropertyAssertionAxiom(objectProperty, ind,
 									(OWLNamedIndividual) individual);
 							return;
@@ -311,7 +282,7 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 				}
 
 				if (owlClassImpl != null) {
-					for (COWLClassImpl clsImpl : owlClassImpl.getSubClassesAndItself()) {
+					for (COWLClassImpl clsImpl : owlClassImpl.getSubClassAndItselfArray()) {
 						for (OWLAnonymousClassExpression anon : clsImpl.getSpecialClassRestrictions()) {
 							if (anon instanceof OWLObjectMaxCardinality) {
 								OWLClassExpression exp = ((OWLObjectMaxCardinality) anon).getFiller();
@@ -331,27 +302,26 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 								if (generator.getObjectPropertyMap().get(objectProp).getInverseProperties()
 										.contains(generator.getObjectPropertyMap().get(objectProperty))
 										&& !exp.isAnonymous() && owlCls != null
-										&& generator.getClassMap().get(exp.asOWLClass()).getSubClassesAndItself()
-												.contains(generator.getClassMap().get(owlCls))) {
-									for (OWLNamedIndividual localInd1 : generator.getReasoner()
-											.getInstances(factory.getOWLClass(clsImpl.getIRI()), false).entities()
-											.collect(Collectors.toSet())) {
+										&& generator.getClassMap().get(exp.asOWLClass())
+												.containsSubClassOrItself(generator.getClassMap().get(owlCls))) {
+									for (OWLNamedIndividual localInd1 : generator
+											.getInstances(factory.getOWLClass(clsImpl.getIRI()))) {
 										int count = 0;
 										/*
 										 * for (OWLNamedIndividual localInd2 : generator.getReasoner()
 										 * .getInstances(exp, false).entities().collect(Collectors.toSet())) {
 										 */
-										LinkedList<OWLNamedIndividual> testIndividuals = classMap.get(exp.asOWLClass())
-												.getNamedIndividuals(false);
-										for (OWLNamedIndividual ind : generator.getReasoner().getInstances(exp, false)
-												.entities().collect(Collectors.toSet()))
-											if (!testIndividuals.contains(ind))
+										List<OWLNamedIndividual> testIndividuals = new ArrayList<>(generator
+												.getNamedIndividuals(classMap.get(exp.asOWLClass()), false));
+										Set<OWLNamedIndividual> generatedIndividuals = new HashSet<>(testIndividuals);
+										for (OWLNamedIndividual ind : generator.getInstances(exp.asOWLClass()))
+											if (!generatedIndividuals.contains(ind))
 												testIndividuals.add(ind);
 										for (OWLNamedIndividual localInd2 : testIndividuals) {
 											boolean flag = false;
 											flag = generator.containsRelevantObjectPropertyAssertionAxiom(
 													generator.getObjectPropertyMap().get(objectProp), localInd1,
-													localInd2, new HashSet<OWLObjectPropertyAssertionAxiom>());
+													localInd2);
 											if (flag == true)
 												count++;
 											if (count == cardinality)
@@ -365,11 +335,7 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 										}
 									}
 									if (individual == null) {
-										individual = IRIGenerator.generateOWLIndividual(OUTPUT_ONTOLOGY_IRI_IN_STRING,
-												factory, clsImpl);
-										newIndividuals.add(individual);
-										clsImpl.getNamedIndividuals(true).add(individual);
-										clsImpl.setVisited(true);
+										individual = generator.createOWLIndividual(clsImpl);
 										// Create OWL class assertion axiom if the condition satisfies.
 										generator.generateClassAssertionAxiom(individual,
 												factory.getOWLClass(clsImpl.getIRI()));
@@ -394,17 +360,13 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 								if (generator.getObjectPropertyMap().get(objectProp).getInverseProperties()
 										.contains(generator.getObjectPropertyMap().get(objectProperty))
 										&& !exp.isAnonymous() && owlCls != null
-										&& generator.getClassMap().get(exp.asOWLClass()).getSubClassesAndItself()
-												.contains(generator.getClassMap().get(owlCls))) {
-									if (!clsImpl.getNamedIndividuals(true).isEmpty()) {
-										individual = CollectionUtil
-												.getARandomElementFromList(clsImpl.getNamedIndividuals(true), ran);
+										&& generator.getClassMap().get(exp.asOWLClass())
+												.containsSubClassOrItself(generator.getClassMap().get(owlCls))) {
+									if (!generator.getNamedIndividuals(clsImpl, true).isEmpty()) {
+										individual = CollectionUtil.getARandomElementFromList(
+												generator.getNamedIndividuals(clsImpl, true), ran);
 									} else {
-										individual = IRIGenerator.generateOWLIndividual(OUTPUT_ONTOLOGY_IRI_IN_STRING,
-												factory, clsImpl);
-										newIndividuals.add(individual);
-										clsImpl.getNamedIndividuals(true).add(individual);
-										clsImpl.setVisited(true);
+										individual = generator.createOWLIndividual(clsImpl);
 										// Create OWL class assertion axiom if the condition satisfies.
 										generator.generateClassAssertionAxiom(individual,
 												factory.getOWLClass(clsImpl.getIRI()));
@@ -446,8 +408,7 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 				 * generator.generateObjectPropertyAssertionAxiom(objectProperty, ind,
 				 * (OWLNamedIndividual) individual); return; } } } } }
 				 */
-				individual = IRIGenerator.generateOWLIndividual(OUTPUT_ONTOLOGY_IRI_IN_STRING, factory);
-				newIndividuals.add((OWLNamedIndividual) individual);
+				individual = generator.createOWLIndividual();
 				// Recursively visit class expressions as filler of the class expression
 				classExp.accept(new COWLClassExpressionVisitor((OWLNamedIndividual) individual, null, generator));
 				generator.generateObjectPropertyAssertionAxiom(objectProperty, ind, (OWLNamedIndividual) individual);
@@ -566,7 +527,7 @@ public class COWLClassExpressionVisitor implements OWLClassExpressionVisitor {
 			OWLLiteral literal = ce.getFiller();
 			OWLDataPropertyAssertionAxiom propertyAssertion;
 			propertyAssertion = factory.getOWLDataPropertyAssertionAxiom(dataProperty, ind, literal);
-			manager.addAxiom(outputOntology, propertyAssertion);
+			generator.addAxiom(propertyAssertion);
 		}
 	}
 
@@ -1,7 +1,6 @@
 package edu.neu.ece.objectdescriptiongenerator.visitor;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -22,10 +21,6 @@ import org.semanticweb.owlapi.model.OWLFacetRestriction;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
-import org.semanticweb.owlapi.model.OWLOntology;
-import org.semanticweb.owlapi.model.OWLOntologyManager;
-import org.semanticweb.owlapi.model.parameters.AxiomAnnotations;
-import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.OWLFacet;
 import org.slf4j.Logger;
@@ -71,9 +66,9 @@ public class COWLDataRangeVisitor implements OWLDataRangeVisitor {
 	private final Random ran;
 
 	/**
-	 * Hold of an ontology manager.
+	 * Object description generator.
 	 */
-	private final OWLOntologyManager manager;
+	private final ObjectDescriptionGenerator generator;
 
 	/**
 	 * An OWL data factory object used to create entities, class expressions and
@@ -81,11 +76,6 @@ public class COWLDataRangeVisitor implements OWLDataRangeVisitor {
 	 */
 	private final OWLDataFactory factory;
 
-	/**
-	 * Output ontology.
-	 */
-	private final OWLOntology outputOntology;
-
 	/**
 	 * Container that stores key-value pairs, where OWL API interface
 	 * OWLDataProperty is the key and the customized class COWLDataPropertyImpl is
@@ -127,9 +117,8 @@ public class COWLDataRangeVisitor implements OWLDataRangeVisitor {
 		this.ind = ind;
 		this.dataProperty = dataProperty;
 		ran = generator.getRan();
-		manager = generator.getManager();
+		this.generator = generator;
 		factory = generator.getFactory();
-		outputOntology = generator.getOutputOntology();
 		dataPropertyMap = generator.getDataPropertyMap();
 		equivalentDataPropertySelectionProbability = generator.getEquivalentDataPropertySelectionProbability();
 		disjointDataPropertySelectionProbability = generator.getDisjointDataPropertySelectionProbability();
@@ -154,7 +143,7 @@ public class COWLDataRangeVisitor implements OWLDataRangeVisitor {
 					if (literal != null) {
 						OWLNegativeDataPropertyAssertionAxiom negativePropertyAssertion = factory
 								.getOWLNegativeDataPropertyAssertionAxiom(dataProperty, ind, literal);
-						manager.addAxiom(outputOntology, negativePropertyAssertion);
+						generator.addAxiom(negativePropertyAssertion);
 					}
 					return;
 				} catch (Exception e) {
@@ -170,7 +159,7 @@ public class COWLDataRangeVisitor implements OWLDataRangeVisitor {
 
 	@Override
 	public void visit(OWLDataOneOf dr) {
-		OWLLiteral literal = CollectionUtil.getARandomElementFromSet(dr.values().collect(Collectors.toSet()), ran);
+		OWLLiteral literal = generator.getARandomOperand(dr, dr::values);
 		generateDataPropertyAssertionAxiom(literal);
 	}
 
@@ -627,8 +616,7 @@ public class COWLDataRangeVisitor implements OWLDataRangeVisitor {
 
 	@Override
 	public void visit(OWLDataUnionOf dr) {
-		OWLDataRange dataRange = CollectionUtil.getARandomElementFromSet(dr.operands().collect(Collectors.toSet()),
-				ran);
+		OWLDataRange dataRange = generator.getARandomOperand(dr, dr::operands);
 		if (dataRange.isOWLDatatype()) {
 			OWLDatatype dt = dataRange.asOWLDatatype();
 			if (dt.isBuiltIn()) {
@@ -659,75 +647,40 @@ public class COWLDataRangeVisitor implements OWLDataRangeVisitor {
 		if (literal == null)
 			return;
 
-		COWLPropertyImpl dataPropertyImpl = dataPropertyMap.get(dataProperty);
-		Set<COWLPropertyImpl> disjointProperties = dataPropertyImpl.getDisjointProperties();
+		COWLDataPropertyImpl dataPropertyImpl = dataPropertyMap.get(dataProperty);
+		COWLPropertyImpl[] disjointProperties = dataPropertyImpl.getDisjointPropertyArray();
 
-		for (COWLPropertyImpl disjointProp : disjointProperties)
-			if (containsAxiom(disjointProp, ind, literal))
-				return;
+		if (generator.containsConflictingDataPropertyAssertionAxiom(dataPropertyImpl, ind, literal))
+			return;
 
 		OWLDataPropertyAssertionAxiom propertyAssertion = factory.getOWLDataPropertyAssertionAxiom(dataProperty, ind,
 				literal);
-		manager.addAxiom(outputOntology, propertyAssertion);
+		generator.addAxiom(propertyAssertion);
 
-		if (!disjointProperties.isEmpty() && ran.nextDouble() < disjointDataPropertySelectionProbability) {
+		if (disjointProperties.length > 0 && ran.nextDouble() < disjointDataPropertySelectionProbability) {
 			OWLNegativeDataPropertyAssertionAxiom negativePropertyAssertion = factory
 					.getOWLNegativeDataPropertyAssertionAxiom(
 							factory.getOWLDataProperty(
-									CollectionUtil.getARandomElementFromSet(disjointProperties, ran).getIRI()),
+									CollectionUtil.getARandomElementFromArray(disjointProperties, ran).getIRI()),
 							ind, literal);
-			manager.addAxiom(outputOntology, negativePropertyAssertion);
+			generator.addAxiom(negativePropertyAssertion);
 		}
 
 		OWLDataProperty dataProp = dataProperty;
-		Set<COWLPropertyImpl> superProperties = dataPropertyImpl.getSuperOWLProperties();
-		if (!superProperties.isEmpty() && ran.nextDouble() < superDataPropertySelectionProbability) {
+		COWLPropertyImpl[] superProperties = dataPropertyImpl.getSuperPropertyArray();
+		if (superProperties.length > 0 && ran.nextDouble() < superDataPropertySelectionProbability) {
 			dataProp = factory
-					.getOWLDataProperty(CollectionUtil.getARandomElementFromSet(superProperties, ran).getIRI());
+					.getOWLDataProperty(CollectionUtil.getARandomElementFromArray(superProperties, ran).getIRI());
 			propertyAssertion = factory.getOWLDataPropertyAssertionAxiom(dataProp, ind, literal);
-			manager.addAxiom(outputOntology, propertyAssertion);
+			generator.addAxiom(propertyAssertion);
 		}
 
-		Set<COWLPropertyImpl> equivalentProperties = dataPropertyImpl.getEquivalentProperties();
-		if (!equivalentProperties.isEmpty() && ran.nextDouble() < equivalentDataPropertySelectionProbability) {
+		COWLPropertyImpl[] equivalentProperties = dataPropertyImpl.getEquivalentPropertyArray();
+		if (equivalentProperties.length > 0 && ran.nextDouble() < equivalentDataPropertySelectionProbability) {
 			dataProp = factory
-					.getOWLDataProperty(CollectionUtil.getARandomElementFromSet(equivalentProperties, ran).getIRI());
+					.getOWLDataProperty(CollectionUtil.getARandomElementFromArray(equivalentProperties, ran).getIRI());
 			propertyAssertion = factory.getOWLDataPropertyAssertionAxiom(dataProp, ind, literal);
-			manager.addAxiom(outputOntology, propertyAssertion);
-		}
-	}
-
-	/**
-	 * This function detects whether the output ontology contains the specified data
-	 * property assertion and its relevant data property assertions.
-	 * 
-	 * @param property
-	 *            Customization of OWL object property.
-	 * @param ind
-	 *            OWL named individual.
-	 * @param literal
-	 *            OWL literal.
-	 * @return true if there exists such data property assertions, false otherwise.
-	 */
-	public boolean containsAxiom(COWLPropertyImpl property, OWLNamedIndividual ind, OWLLiteral literal) {
-		if (property == null || ind == null || literal == null)
-			return false;
-		Set<COWLPropertyImpl> properties = new HashSet<>();
-		properties.add(property);
-		properties.addAll(property.getSubOWLProperties());
-		properties.addAll(property.getEquivalentProperties());
-
-		OWLDataPropertyAssertionAxiom propertyAssertion;
-
-		for (COWLPropertyImpl prop : properties) {
-			propertyAssertion = factory.getOWLDataPropertyAssertionAxiom(factory.getOWLDataProperty(prop.getIRI()), ind,
-					literal);
-			if (outputOntology.containsAxiom(propertyAssertion, Imports.INCLUDED,
-					AxiomAnnotations.IGNORE_AXIOM_ANNOTATIONS)) {
-				return true;
-			}
+			generator.addAxiom(propertyAssertion);
 		}
-
-		return false;
 	}
 }
@@ -62,6 +62,9 @@ public class COWLIndividualAxiomVisitor implements OWLAxiomVisitor {
 			logger.warn("Class assertion axiom for " + ind.getIRI().getShortForm()
 					+ " will be ignored since it contains anonymous class");
 		COWLClassImpl cowlClassImpl = oe.getClassMap().get(exp.asOWLClass());
+		// Classes outside the extracted module are left out.
+		if (cowlClassImpl == null)
+			return;
 		cowlClassImpl.getNamedIndividuals(true).add(ind);
 	}
 }
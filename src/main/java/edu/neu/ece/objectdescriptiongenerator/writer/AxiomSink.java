@@ -0,0 +1,68 @@
+package edu.neu.ece.objectdescriptiongenerator.writer;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Collection;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+/**
+ * Destination of generated object descriptions, which receives the axioms of
+ * each object description as it completes, e.g. to serialize, store or count
+ * them.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public interface AxiomSink extends Closeable, Flushable {
+
+	/**
+	 * Receive the ontology header of generated object descriptions before any
+	 * axioms. Does nothing by default.
+	 *
+	 * @param ontologyIRI
+	 *            Ontology IRI of generated object descriptions.
+	 * @param importIRI
+	 *            IRI of the imported input ontology.
+	 * @param comment
+	 *            Comment of the ontology.
+	 * @throws IOException
+	 *             If the header fails to write.
+	 */
+	default void writeOntologyHeader(IRI ontologyIRI, IRI importIRI, String comment) throws IOException {
+	}
+
+	/**
+	 * Receive the axioms of an object description.
+	 *
+	 * @param axioms
+	 *            Axioms of an object description.
+	 * @throws IOException
+	 *             If the axioms fail to write.
+	 */
+	void writeAxioms(Collection<? extends OWLAxiom> axioms) throws IOException;
+
+	/**
+	 * Write out the axioms received so far, e.g. at a checkpoint of the datasets.
+	 * Does nothing by default.
+	 *
+	 * @throws IOException
+	 *             If pending output fails to write.
+	 */
+	@Override
+	default void flush() throws IOException {
+	}
+
+	/**
+	 * Release resources held by the sink. Does nothing by default.
+	 *
+	 * @throws IOException
+	 *             If pending output fails to write.
+	 */
+	@Override
+	default void close() throws IOException {
+	}
+}
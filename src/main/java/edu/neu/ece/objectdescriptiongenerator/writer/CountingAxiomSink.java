@@ -0,0 +1,72 @@
+package edu.neu.ece.objectdescriptiongenerator.writer;
+
+import java.util.Collection;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+/**
+ * An axiom sink that counts and discards the axioms of object descriptions,
+ * used for dry runs that measure generation without serialization, or to count
+ * what another sink receives.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class CountingAxiomSink implements AxiomSink {
+
+	/**
+	 * The number of received object descriptions.
+	 */
+	private long objectDescriptionNumber = 0;
+
+	/**
+	 * The number of received axioms.
+	 */
+	private long axiomNumber = 0;
+
+	/**
+	 * The number of received declaration axioms, i.e. of created OWL named
+	 * individuals.
+	 */
+	private long individualNumber = 0;
+
+	@Override
+	public void writeAxioms(Collection<? extends OWLAxiom> axioms) {
+		objectDescriptionNumber++;
+		for (OWLAxiom axiom : axioms) {
+			axiomNumber++;
+			if (axiom.isOfType(AxiomType.DECLARATION))
+				individualNumber++;
+		}
+	}
+
+	/**
+	 * Get the number of received object descriptions.
+	 *
+	 * @return The number of object descriptions.
+	 */
+	public long getObjectDescriptionNumber() {
+		return objectDescriptionNumber;
+	}
+
+	/**
+	 * Get the number of received axioms.
+	 *
+	 * @return The number of axioms.
+	 */
+	public long getAxiomNumber() {
+		return axiomNumber;
+	}
+
+	/**
+	 * Get the number of created OWL named individuals, i.e. of received
+	 * declaration axioms.
+	 *
+	 * @return The number of individuals.
+	 */
+	public long getIndividualNumber() {
+		return individualNumber;
+	}
+}
@@ -0,0 +1,155 @@
+package edu.neu.ece.objectdescriptiongenerator.writer;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+/**
+ * An axiom sink that adds the axioms of object descriptions to an OWL ontology
+ * in bulk changes. The ontology is created from the ontology header of object
+ * descriptions, and saved as RDF/XML to a channel once the sink is closed.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class OntologyAxiomSink implements AxiomSink {
+
+	/**
+	 * Ontology manager of the ontology.
+	 */
+	private final OWLOntologyManager manager;
+
+	/**
+	 * OWL ontology that receives the axioms, null until the ontology header is
+	 * received.
+	 */
+	private OWLOntology ontology;
+
+	/**
+	 * Channel that the ontology is saved to as RDF/XML once the sink is closed.
+	 */
+	private final WritableByteChannel channel;
+
+	/**
+	 * The number of received axioms buffered before they are added to the
+	 * ontology in one bulk change; 0 to add them once per object description.
+	 */
+	private final int axiomBatchSize;
+
+	/**
+	 * Received axioms not yet added to the ontology.
+	 */
+	private final List<OWLAxiom> pendingAxioms = new ArrayList<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param manager
+	 *            Ontology manager that creates the ontology.
+	 * @param channel
+	 *            Channel that the ontology is saved to, which is closed together
+	 *            with the sink.
+	 * @param axiomBatchSize
+	 *            The number of received axioms buffered before they are added to
+	 *            the ontology in one bulk change, 0 to add them once per object
+	 *            description.
+	 */
+	public OntologyAxiomSink(OWLOntologyManager manager, WritableByteChannel channel, int axiomBatchSize) {
+		this.manager = manager;
+		this.channel = channel;
+		this.axiomBatchSize = axiomBatchSize;
+	}
+
+	/**
+	 * Create the output ontology, annotated with the comment and importing the
+	 * input ontology.
+	 */
+	@Override
+	public void writeOntologyHeader(IRI ontologyIRI, IRI importIRI, String comment) throws IOException {
+		try {
+			ontology = manager.createOntology(ontologyIRI);
+		} catch (OWLOntologyCreationException e) {
+			throw new IOException(e);
+		}
+		OWLDataFactory factory = manager.getOWLDataFactory();
+		OWLAnnotation commentAnno = factory.getOWLAnnotation(factory.getRDFSComment(),
+				factory.getOWLLiteral(comment));
+		manager.applyChanges(new AddOntologyAnnotation(ontology, commentAnno),
+				new AddImport(ontology, factory.getOWLImportsDeclaration(importIRI)));
+	}
+
+	@Override
+	public void writeAxioms(Collection<? extends OWLAxiom> axioms) {
+		pendingAxioms.addAll(axioms);
+		if (pendingAxioms.size() >= axiomBatchSize)
+			addPendingAxioms();
+	}
+
+	/**
+	 * Add the buffered axioms to the ontology, e.g. at a checkpoint of the
+	 * datasets.
+	 */
+	@Override
+	public void flush() {
+		addPendingAxioms();
+	}
+
+	/**
+	 * Add the buffered axioms to the ontology, save the ontology to the channel
+	 * as RDF/XML and close the channel.
+	 *
+	 * @throws IOException
+	 *             If the ontology fails to save.
+	 */
+	@Override
+	public void close() throws IOException {
+		addPendingAxioms();
+		if (ontology == null) {
+			channel.close();
+			return;
+		}
+		try {
+			manager.saveOntology(ontology, new RDFXMLDocumentFormat(), Channels.newOutputStream(channel));
+		} catch (OWLOntologyStorageException e) {
+			throw new IOException(e);
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Get the ontology that receives the axioms, with the buffered axioms added.
+	 *
+	 * @return OWL ontology, null if no ontology header has been received yet.
+	 */
+	public OWLOntology getOntology() {
+		addPendingAxioms();
+		return ontology;
+	}
+
+	/**
+	 * Add the buffered axioms to the ontology in one bulk change.
+	 */
+	private void addPendingAxioms() {
+		if (pendingAxioms.isEmpty() || ontology == null)
+			return;
+		manager.addAxioms(ontology, pendingAxioms.stream());
+		pendingAxioms.clear();
+	}
+}
@@ -0,0 +1,107 @@
+package edu.neu.ece.objectdescriptiongenerator.writer;
+
+/**
+ * Serialization formats of generated object descriptions.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public enum OutputFormat {
+
+	/**
+	 * RDF/XML, written by the OWL API once all object descriptions are generated.
+	 */
+	RDF_XML("rdfxml", "rdf", false),
+
+	/**
+	 * N-Triples, streamed as each object description completes.
+	 */
+	N_TRIPLES("ntriples", "nt", true),
+
+	/**
+	 * Turtle, streamed as each object description completes.
+	 */
+	TURTLE("turtle", "ttl", true),
+
+	/**
+	 * No serialization: object descriptions are generated as if streamed, then
+	 * counted and discarded, e.g. for benchmarks and capacity estimates.
+	 */
+	NONE("none", "", true);
+
+	/**
+	 * Format name on console.
+	 */
+	private final String name;
+
+	/**
+	 * Default file extension of the format.
+	 */
+	private final String fileExtension;
+
+	/**
+	 * True if object descriptions are streamed in the format, false if they are
+	 * kept in the output ontology until generation ends.
+	 */
+	private final boolean isStreaming;
+
+	/**
+	 * Constructor
+	 *
+	 * @param name
+	 *            Format name on console.
+	 * @param fileExtension
+	 *            Default file extension of the format.
+	 * @param isStreaming
+	 *            True if object descriptions are streamed in the format.
+	 */
+	private OutputFormat(String name, String fileExtension, boolean isStreaming) {
+		this.name = name;
+		this.fileExtension = fileExtension;
+		this.isStreaming = isStreaming;
+	}
+
+	/**
+	 * Get format name on console.
+	 *
+	 * @return Format name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get default file extension of the format.
+	 *
+	 * @return File extension without the leading dot.
+	 */
+	public String getFileExtension() {
+		return fileExtension;
+	}
+
+	/**
+	 * Check if object descriptions are streamed in the format.
+	 *
+	 * @return True if object descriptions are streamed, false otherwise.
+	 */
+	public boolean isStreaming() {
+		return isStreaming;
+	}
+
+	/**
+	 * Get the format with the given name on console.
+	 *
+	 * @param name
+	 *            Format name on console.
+	 * @return Output format.
+	 * @throws IllegalArgumentException
+	 *             If no format has the given name.
+	 */
+	public static OutputFormat fromName(String name) {
+		for (OutputFormat format : values())
+			if (format.name.equalsIgnoreCase(name))
+				return format;
+		throw new IllegalArgumentException("Unknown output format: " + name);
+	}
+}
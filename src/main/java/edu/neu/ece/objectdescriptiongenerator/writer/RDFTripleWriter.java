@@ -0,0 +1,523 @@
+package edu.neu.ece.objectdescriptiongenerator.writer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationObject;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomVisitor;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLDifferentIndividualsAxiom;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
+import org.semanticweb.owlapi.vocab.Namespaces;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An instance of this class incrementally writes assertion axioms of object
+ * descriptions as N-Triples or Turtle to a channel. Triples are buffered and
+ * encoded in chunks, so that object descriptions never have to be held in an
+ * OWL ontology.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class RDFTripleWriter implements OWLAxiomVisitor, AxiomSink {
+
+	/**
+	 * Logger class, used for generating log file and debugging info on console.
+	 */
+	private final Logger logger = LoggerFactory.getLogger(getClass().getName());
+
+	/**
+	 * Size in bytes of the buffer written to the channel at once.
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Pattern of local names that can be written as Turtle prefixed names.
+	 */
+	private static final Pattern PREFIXED_LOCAL_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_\\-]*");
+
+	/**
+	 * Channel that triples are written to.
+	 */
+	private final WritableByteChannel channel;
+
+	/**
+	 * Serialization format of triples.
+	 */
+	private final OutputFormat format;
+
+	/**
+	 * Mapping namespaces to Turtle prefix names.
+	 */
+	private final Map<String, String> prefixes = new LinkedHashMap<>();
+
+	/**
+	 * Triples not yet encoded.
+	 */
+	private final StringBuilder text = new StringBuilder();
+
+	/**
+	 * Encoded triples not yet written to the channel.
+	 */
+	private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+	/**
+	 * UTF-8 encoder of triples.
+	 */
+	private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+	/**
+	 * Subject of the last Turtle statement, null if no statement is open.
+	 */
+	private String lastSubject = null;
+
+	/**
+	 * Index of the next blank node.
+	 */
+	private long blankNodeIndex = 0;
+
+	/**
+	 * The number of written triples.
+	 */
+	private long tripleNumber = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param channel
+	 *            Channel that triples are written to.
+	 * @param format
+	 *            Serialization format of triples, either N-Triples or Turtle.
+	 * @param ontologyIRIInString
+	 *            Ontology IRI in string of generated object descriptions, used as
+	 *            the default Turtle prefix.
+	 */
+	public RDFTripleWriter(WritableByteChannel channel, OutputFormat format, String ontologyIRIInString) {
+		if (!format.isStreaming() || format == OutputFormat.NONE)
+			throw new IllegalArgumentException("Triples cannot be streamed as " + format.getName());
+		this.channel = channel;
+		this.format = format;
+		prefixes.put(ontologyIRIInString + "#", "");
+		prefixes.put(Namespaces.RDF.toString(), "rdf");
+		prefixes.put(Namespaces.RDFS.toString(), "rdfs");
+		prefixes.put(Namespaces.OWL.toString(), "owl");
+		prefixes.put(Namespaces.XSD.toString(), "xsd");
+	}
+
+	/**
+	 * Get the number of written triples.
+	 *
+	 * @return The number of triples.
+	 */
+	public long getTripleNumber() {
+		return tripleNumber;
+	}
+
+	/**
+	 * Get the serialization format of triples.
+	 *
+	 * @return Output format.
+	 */
+	public OutputFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * Write prefixes (Turtle only) and the ontology header, which declares the
+	 * ontology, its imported ontology and its comment.
+	 *
+	 * @param ontologyIRI
+	 *            Ontology IRI of generated object descriptions.
+	 * @param importIRI
+	 *            IRI of the imported input ontology.
+	 * @param comment
+	 *            Comment of the ontology.
+	 * @throws IOException
+	 *             If triples fail to write.
+	 */
+	@Override
+	public void writeOntologyHeader(IRI ontologyIRI, IRI importIRI, String comment) throws IOException {
+		if (format == OutputFormat.TURTLE) {
+			for (Entry<String, String> entry : prefixes.entrySet())
+				text.append("@prefix ").append(entry.getValue()).append(": <").append(entry.getKey()).append("> .\n");
+			text.append('\n');
+		}
+		String subject = toTerm(ontologyIRI);
+		writeTriple(subject, OWLRDFVocabulary.RDF_TYPE.getIRI(), toTerm(OWLRDFVocabulary.OWL_ONTOLOGY.getIRI()));
+		writeTriple(subject, OWLRDFVocabulary.OWL_IMPORTS.getIRI(), toTerm(importIRI));
+		writeTriple(subject, OWLRDFVocabulary.RDFS_COMMENT.getIRI(), toStringLiteral(comment));
+		encode();
+	}
+
+	/**
+	 * Write assertion axioms of an object description. Axioms are written in the
+	 * iteration order of the collection.
+	 *
+	 * @param axioms
+	 *            Assertion axioms of an object description.
+	 * @throws IOException
+	 *             If triples fail to write.
+	 */
+	@Override
+	public void writeAxioms(Collection<? extends OWLAxiom> axioms) throws IOException {
+		for (OWLAxiom axiom : axioms)
+			axiom.accept(this);
+		if (text.length() >= BUFFER_SIZE)
+			encode();
+	}
+
+	/**
+	 * Write all buffered triples to the channel, ending the open Turtle statement
+	 * if any, so that the channel holds well-formed triples of all object
+	 * descriptions written so far.
+	 *
+	 * @throws IOException
+	 *             If triples fail to write.
+	 */
+	@Override
+	public void flush() throws IOException {
+		endStatement();
+		encode();
+		drain();
+	}
+
+	/**
+	 * Write all buffered triples to the channel and close the channel.
+	 *
+	 * @throws IOException
+	 *             If triples fail to write.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			endStatement();
+			encode();
+			drain();
+		} finally {
+			channel.close();
+		}
+	}
+
+	@Override
+	public void doDefault(Object object) {
+		logger.warn("Unsupported axiom " + object + " will not be written");
+	}
+
+	@Override
+	public void visit(OWLDeclarationAxiom axiom) {
+		writeTriple(toTerm(axiom.getEntity().getIRI()), OWLRDFVocabulary.RDF_TYPE.getIRI(),
+				toTerm(axiom.getEntity().getEntityType().getIRI()));
+	}
+
+	@Override
+	public void visit(OWLClassAssertionAxiom axiom) {
+		if (axiom.getClassExpression().isAnonymous()) {
+			logger.warn("Class assertion axiom " + axiom + " will not be written since it contains anonymous class");
+			return;
+		}
+		writeTriple(toTerm(axiom.getIndividual()), OWLRDFVocabulary.RDF_TYPE.getIRI(),
+				toTerm(axiom.getClassExpression().asOWLClass().getIRI()));
+	}
+
+	@Override
+	public void visit(OWLObjectPropertyAssertionAxiom axiom) {
+		OWLObjectPropertyAssertionAxiom simplified = axiom.getSimplified();
+		writeTriple(toTerm(simplified.getSubject()), simplified.getProperty().asOWLObjectProperty().getIRI(),
+				toTerm(simplified.getObject()));
+	}
+
+	@Override
+	public void visit(OWLDataPropertyAssertionAxiom axiom) {
+		writeTriple(toTerm(axiom.getSubject()), axiom.getProperty().asOWLDataProperty().getIRI(),
+				toTerm(axiom.getObject()));
+	}
+
+	@Override
+	public void visit(OWLNegativeObjectPropertyAssertionAxiom axiom) {
+		OWLObjectPropertyExpression property = axiom.getProperty();
+		OWLIndividual source = axiom.getSubject();
+		OWLIndividual target = axiom.getObject();
+		// An inverse property is written as its named property with swapped
+		// individuals.
+		if (property.isAnonymous()) {
+			property = property.getInverseProperty();
+			source = axiom.getObject();
+			target = axiom.getSubject();
+		}
+		String node = writeNegativePropertyAssertion(source, property.asOWLObjectProperty().getIRI());
+		writeTriple(node, OWLRDFVocabulary.OWL_TARGET_INDIVIDUAL.getIRI(), toTerm(target));
+	}
+
+	@Override
+	public void visit(OWLNegativeDataPropertyAssertionAxiom axiom) {
+		String node = writeNegativePropertyAssertion(axiom.getSubject(),
+				axiom.getProperty().asOWLDataProperty().getIRI());
+		writeTriple(node, OWLRDFVocabulary.OWL_TARGET_VALUE.getIRI(), toTerm(axiom.getObject()));
+	}
+
+	@Override
+	public void visit(OWLSameIndividualAxiom axiom) {
+		List<OWLIndividual> individuals = axiom.getIndividualsAsList();
+		for (int i = 0; i + 1 < individuals.size(); i++)
+			writeTriple(toTerm(individuals.get(i)), OWLRDFVocabulary.OWL_SAME_AS.getIRI(),
+					toTerm(individuals.get(i + 1)));
+	}
+
+	@Override
+	public void visit(OWLDifferentIndividualsAxiom axiom) {
+		List<OWLIndividual> individuals = axiom.getIndividualsAsList();
+		if (individuals.size() == 2) {
+			writeTriple(toTerm(individuals.get(0)), OWLRDFVocabulary.OWL_DIFFERENT_FROM.getIRI(),
+					toTerm(individuals.get(1)));
+			return;
+		}
+		String node = nextBlankNode();
+		writeTriple(node, OWLRDFVocabulary.RDF_TYPE.getIRI(), toTerm(OWLRDFVocabulary.OWL_ALL_DIFFERENT.getIRI()));
+		writeTriple(node, OWLRDFVocabulary.OWL_MEMBERS.getIRI(),
+				writeList(individuals.stream().map(this::toTerm).collect(Collectors.toList())));
+	}
+
+	@Override
+	public void visit(OWLAnnotationAssertionAxiom axiom) {
+		writeTriple(toTerm(axiom.getSubject()), axiom.getProperty().getIRI(), toTerm(axiom.getValue()));
+	}
+
+	/**
+	 * Write the triples shared by negative object and data property assertions.
+	 *
+	 * @param source
+	 *            Source individual.
+	 * @param property
+	 *            Property IRI.
+	 * @return Blank node of the negative property assertion.
+	 */
+	private String writeNegativePropertyAssertion(OWLIndividual source, IRI property) {
+		String node = nextBlankNode();
+		writeTriple(node, OWLRDFVocabulary.RDF_TYPE.getIRI(),
+				toTerm(OWLRDFVocabulary.OWL_NEGATIVE_PROPERTY_ASSERTION.getIRI()));
+		writeTriple(node, OWLRDFVocabulary.OWL_SOURCE_INDIVIDUAL.getIRI(), toTerm(source));
+		writeTriple(node, OWLRDFVocabulary.OWL_ASSERTION_PROPERTY.getIRI(), toTerm(property));
+		return node;
+	}
+
+	/**
+	 * Write an RDF list.
+	 *
+	 * @param members
+	 *            Members of the list as terms.
+	 * @return Head of the list.
+	 */
+	private String writeList(List<String> members) {
+		String rest = toTerm(OWLRDFVocabulary.RDF_NIL.getIRI());
+		for (int i = members.size() - 1; i >= 0; i--) {
+			String node = nextBlankNode();
+			writeTriple(node, OWLRDFVocabulary.RDF_FIRST.getIRI(), members.get(i));
+			writeTriple(node, OWLRDFVocabulary.RDF_REST.getIRI(), rest);
+			rest = node;
+		}
+		return rest;
+	}
+
+	/**
+	 * Write a triple. In Turtle, consecutive triples of the same subject are
+	 * grouped into one statement.
+	 *
+	 * @param subject
+	 *            Subject term.
+	 * @param predicate
+	 *            Predicate IRI.
+	 * @param object
+	 *            Object term.
+	 */
+	private void writeTriple(String subject, IRI predicate, String object) {
+		if (format == OutputFormat.TURTLE) {
+			String predicateTerm = predicate.equals(OWLRDFVocabulary.RDF_TYPE.getIRI()) ? "a" : toTerm(predicate);
+			if (subject.equals(lastSubject))
+				text.append(" ;\n\t").append(predicateTerm).append(' ').append(object);
+			else {
+				endStatement();
+				text.append(subject).append(' ').append(predicateTerm).append(' ').append(object);
+				lastSubject = subject;
+			}
+		} else
+			text.append(subject).append(' ').append(toTerm(predicate)).append(' ').append(object).append(" .\n");
+		tripleNumber++;
+	}
+
+	/**
+	 * End the open Turtle statement if any.
+	 */
+	private void endStatement() {
+		if (lastSubject != null) {
+			text.append(" .\n");
+			lastSubject = null;
+		}
+	}
+
+	/**
+	 * Create a fresh blank node.
+	 *
+	 * @return Blank node term.
+	 */
+	private String nextBlankNode() {
+		return "_:b" + blankNodeIndex++;
+	}
+
+	/**
+	 * Get the term of an IRI. In Turtle, IRIs of known namespaces are written as
+	 * prefixed names.
+	 *
+	 * @param iri
+	 *            IRI.
+	 * @return IRI term.
+	 */
+	private String toTerm(IRI iri) {
+		if (format == OutputFormat.TURTLE) {
+			String prefix = prefixes.get(iri.getNamespace());
+			Optional<String> remainder = iri.getRemainder();
+			if (prefix != null && remainder.isPresent() && PREFIXED_LOCAL_NAME.matcher(remainder.get()).matches())
+				return prefix + ":" + remainder.get();
+		}
+		return "<" + iri.toString() + ">";
+	}
+
+	/**
+	 * Get the term of an individual.
+	 *
+	 * @param individual
+	 *            Named or anonymous individual.
+	 * @return Individual term.
+	 */
+	private String toTerm(OWLIndividual individual) {
+		if (individual.isNamed())
+			return toTerm(individual.asOWLNamedIndividual().getIRI());
+		return "_:" + individual.asOWLAnonymousIndividual().getID().getID().replaceAll("[^A-Za-z0-9]", "");
+	}
+
+	/**
+	 * Get the term of an annotation subject or value.
+	 *
+	 * @param object
+	 *            IRI, anonymous individual or literal.
+	 * @return Annotation object term.
+	 */
+	private String toTerm(OWLAnnotationObject object) {
+		if (object instanceof IRI)
+			return toTerm((IRI) object);
+		if (object instanceof OWLLiteral)
+			return toTerm((OWLLiteral) object);
+		return toTerm((OWLIndividual) object);
+	}
+
+	/**
+	 * Get the term of a literal. Language tags are kept, and string literals are
+	 * written without datatype.
+	 *
+	 * @param literal
+	 *            Literal.
+	 * @return Literal term.
+	 */
+	private String toTerm(OWLLiteral literal) {
+		String term = toStringLiteral(literal.getLiteral());
+		if (literal.hasLang())
+			return term + "@" + literal.getLang();
+		if (literal.isRDFPlainLiteral() || literal.getDatatype().isString())
+			return term;
+		return term + "^^" + toTerm(literal.getDatatype().getIRI());
+	}
+
+	/**
+	 * Quote and escape a string as literal.
+	 *
+	 * @param value
+	 *            String value.
+	 * @return Quoted string.
+	 */
+	private static String toStringLiteral(String value) {
+		StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '\\':
+				sb.append("\\\\");
+				break;
+			case '"':
+				sb.append("\\\"");
+				break;
+			case '\n':
+				sb.append("\\n");
+				break;
+			case '\r':
+				sb.append("\\r");
+				break;
+			case '\t':
+				sb.append("\\t");
+				break;
+			default:
+				sb.append(c);
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+	/**
+	 * Encode buffered triples and write them to the channel whenever the byte
+	 * buffer is full.
+	 *
+	 * @throws IOException
+	 *             If triples fail to encode or write.
+	 */
+	private void encode() throws IOException {
+		CharBuffer chars = CharBuffer.wrap(text);
+		CoderResult result;
+		while ((result = encoder.encode(chars, bytes, true)).isOverflow())
+			drain();
+		if (result.isError())
+			result.throwException();
+		while (encoder.flush(bytes).isOverflow())
+			drain();
+		encoder.reset();
+		text.setLength(0);
+	}
+
+	/**
+	 * Write encoded triples to the channel.
+	 *
+	 * @throws IOException
+	 *             If triples fail to write.
+	 */
+	private void drain() throws IOException {
+		bytes.flip();
+		while (bytes.hasRemaining())
+			channel.write(bytes);
+		bytes.clear();
+	}
+}
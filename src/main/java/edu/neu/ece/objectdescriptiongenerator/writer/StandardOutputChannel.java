@@ -0,0 +1,70 @@
+package edu.neu.ece.objectdescriptiongenerator.writer;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A channel to a print stream such as the standard output, whose close only
+ * flushes the stream and leaves it open, so that a writer owning the channel
+ * can be closed without closing the standard output of the process.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class StandardOutputChannel implements WritableByteChannel {
+
+	/**
+	 * Print stream written to.
+	 */
+	private final PrintStream out;
+
+	/**
+	 * Channel over the print stream.
+	 */
+	private final WritableByteChannel channel;
+
+	/**
+	 * True until this channel is closed.
+	 */
+	private boolean isOpen = true;
+
+	/**
+	 * Constructor
+	 *
+	 * @param out
+	 *            Print stream written to, e.g. System.out.
+	 */
+	public StandardOutputChannel(PrintStream out) {
+		this.out = out;
+		channel = Channels.newChannel(out);
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		if (!isOpen)
+			throw new ClosedChannelException();
+		return channel.write(src);
+	}
+
+	@Override
+	public boolean isOpen() {
+		return isOpen;
+	}
+
+	/**
+	 * Flush the print stream and close this channel, leaving the print stream
+	 * open.
+	 */
+	@Override
+	public void close() {
+		if (!isOpen)
+			return;
+		isOpen = false;
+		out.flush();
+	}
+}
@@ -0,0 +1,72 @@
+package edu.neu.ece.objectdescriptiongenerator.writer;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+/**
+ * An axiom sink that feeds several sinks in one pass, in the given order.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class TeeAxiomSink implements AxiomSink {
+
+	/**
+	 * Sinks fed by this sink.
+	 */
+	private final AxiomSink[] sinks;
+
+	/**
+	 * Constructor
+	 *
+	 * @param sinks
+	 *            Sinks fed by this sink.
+	 */
+	public TeeAxiomSink(AxiomSink... sinks) {
+		this.sinks = sinks;
+	}
+
+	@Override
+	public void writeOntologyHeader(IRI ontologyIRI, IRI importIRI, String comment) throws IOException {
+		for (AxiomSink sink : sinks)
+			sink.writeOntologyHeader(ontologyIRI, importIRI, comment);
+	}
+
+	@Override
+	public void writeAxioms(Collection<? extends OWLAxiom> axioms) throws IOException {
+		for (AxiomSink sink : sinks)
+			sink.writeAxioms(axioms);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		for (AxiomSink sink : sinks)
+			sink.flush();
+	}
+
+	/**
+	 * Close all sinks, even if some of them fail to close.
+	 *
+	 * @throws IOException
+	 *             The first failure, with later ones suppressed.
+	 */
+	@Override
+	public void close() throws IOException {
+		IOException failure = null;
+		for (AxiomSink sink : sinks)
+			try {
+				sink.close();
+			} catch (IOException e) {
+				if (failure == null)
+					failure = e;
+				else
+					failure.addSuppressed(e);
+			}
+		if (failure != null)
+			throw failure;
+	}
+}
@@ -0,0 +1,261 @@
+package edu.neu.ece.objectdescriptiongenerator.controller;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FilenameUtils;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.semanticweb.owlapi.model.IRI;
+
+/**
+ * Regression tests of object description generation on the UnivBench and IoT
+ * ontologies. The sequential output of each ontology is checked against a
+ * recorded digest, and the options that speed up loading, extraction and
+ * generation are checked to leave the output byte-identical to the one of the
+ * default configuration.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class GenerationRegressionTest {
+
+	/**
+	 * The number of object descriptions generated by each run.
+	 */
+	private static final int OBJ_NUMBER = 20;
+
+	/**
+	 * SHA-256 digests of the sequential outputs of the default configuration,
+	 * keyed by fixture name, which any change of the generation order alters.
+	 */
+	private static final Map<String, String> RECORDED_DIGESTS = new HashMap<>();
+
+	static {
+		RECORDED_DIGESTS.put("univbench", "a4db889449b2c056bf1cc31f108c60846a127bb300eb825c8b2d3ff2f2b9d70b");
+		RECORDED_DIGESTS.put("iot", "2a40337ba8d845e21ad2b41645d1363c0d98f63cbe803776e7285a41f3743115");
+	}
+
+	/**
+	 * Outputs of the default configuration, keyed by fixture name and thread
+	 * number, generated once for all tests.
+	 */
+	private static final Map<String, byte[]> defaultOutputs = new HashMap<>();
+
+	/**
+	 * Temporary folder of output files and extraction snapshots.
+	 */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Output files generated by the current test, whose evaluation results are
+	 * deleted once it ends.
+	 */
+	private final List<File> outputFiles = new ArrayList<>();
+
+	/**
+	 * Delete the evaluation results of the output files of the current test.
+	 */
+	@After
+	public void deleteEvaluationResults() {
+		for (File outputFile : outputFiles)
+			new File("evaluationresults" + File.separator + "SpaceCoverageEvaluationResults_"
+					+ FilenameUtils.getBaseName(outputFile.getName()) + ".txt").delete();
+	}
+
+	/**
+	 * The sequential output of each fixture is the recorded one, and it is the
+	 * same from run to run.
+	 */
+	@Test
+	public void sequentialOutputMatchesRecordedDigest() throws Exception {
+		for (String fixture : RECORDED_DIGESTS.keySet()) {
+			assertEquals(fixture, RECORDED_DIGESTS.get(fixture), sha256(defaultOutput(fixture, 0)));
+			assertArrayEquals(fixture, defaultOutput(fixture, 0), generate(fixture(fixture), fixture + "-repeat"));
+		}
+	}
+
+	/**
+	 * Object descriptions seeded by their indexes are the same whatever the
+	 * number of generation threads.
+	 */
+	@Test
+	public void threadedOutputIsIndependentOfThreadNumber() throws Exception {
+		for (String fixture : RECORDED_DIGESTS.keySet())
+			for (int threads : new int[] { 2, 4 })
+				assertArrayEquals(fixture + " with " + threads + " threads", defaultOutput(fixture, 1),
+						generate(fixture(fixture).setThreads(threads), fixture + "-threads" + threads));
+	}
+
+	/**
+	 * A restored extraction snapshot generates the output of a fresh extraction,
+	 * both sequentially and with several threads.
+	 */
+	@Test
+	public void snapshotRestoreMatchesExtraction() throws Exception {
+		for (String fixture : RECORDED_DIGESTS.keySet()) {
+			File snapshotDirectory = folder.newFolder(fixture + "-snapshots");
+			assertArrayEquals(fixture + " saving a snapshot", defaultOutput(fixture, 0), generate(
+					fixture(fixture).setSnapshotDirectory(snapshotDirectory), fixture + "-snapshot-save"));
+			File[] snapshots = snapshotDirectory.listFiles((dir, name) -> name.endsWith(".snapshot"));
+			assertEquals(fixture, 1, snapshots.length);
+			long savedAt = snapshots[0].lastModified();
+			assertArrayEquals(fixture + " restoring a snapshot", defaultOutput(fixture, 0), generate(
+					fixture(fixture).setSnapshotDirectory(snapshotDirectory), fixture + "-snapshot-restore"));
+			assertArrayEquals(fixture + " restoring a snapshot with threads", defaultOutput(fixture, 1),
+					generate(fixture(fixture).setSnapshotDirectory(snapshotDirectory).setThreads(3),
+							fixture + "-snapshot-restore-threads"));
+			// A restored snapshot is not saved again.
+			assertEquals(fixture, savedAt, snapshots[0].lastModified());
+		}
+	}
+
+	/**
+	 * Querying the input ontology with several extraction threads extracts the
+	 * same ontology model as querying it serially.
+	 */
+	@Test
+	public void extractionThreadsMatchSerialExtraction() throws Exception {
+		for (String fixture : RECORDED_DIGESTS.keySet())
+			assertArrayEquals(fixture, defaultOutput(fixture, 0),
+					generate(fixture(fixture).setExtractionThreads(3), fixture + "-extraction-threads"));
+	}
+
+	/**
+	 * Dispatching the axioms of the input ontology in a single pass extracts the
+	 * same ontology model as per-entity axiom queries, serially or not.
+	 */
+	@Test
+	public void singlePassExtractionMatchesEntityQueries() throws Exception {
+		for (String fixture : RECORDED_DIGESTS.keySet()) {
+			assertArrayEquals(fixture, defaultOutput(fixture, 0),
+					generate(fixture(fixture).setSinglePassExtraction(true), fixture + "-single-pass"));
+			assertArrayEquals(fixture + " with extraction threads", defaultOutput(fixture, 0),
+					generate(fixture(fixture).setSinglePassExtraction(true).setExtractionThreads(2),
+							fixture + "-single-pass-threads"));
+		}
+	}
+
+	/**
+	 * Parsing the ontology documents of the imports closure concurrently loads the
+	 * same imports closure as a serial load.
+	 */
+	@Test
+	public void loadingThreadsMatchSerialLoading() throws Exception {
+		for (String fixture : RECORDED_DIGESTS.keySet())
+			assertArrayEquals(fixture, defaultOutput(fixture, 0),
+					generate(fixture(fixture).setLoadingThreads(2), fixture + "-loading-threads"));
+	}
+
+	/**
+	 * Extracting and reasoning over the module of the root class only generates
+	 * the output of the whole ontology.
+	 */
+	@Test
+	public void moduleExtractionMatchesWholeOntology() throws Exception {
+		for (String fixture : RECORDED_DIGESTS.keySet()) {
+			assertArrayEquals(fixture, defaultOutput(fixture, 0),
+					generate(fixture(fixture).setModuleExtraction(true), fixture + "-module"));
+			assertArrayEquals(fixture + " with threads", defaultOutput(fixture, 1),
+					generate(fixture(fixture).setModuleExtraction(true).setThreads(2), fixture + "-module-threads"));
+		}
+	}
+
+	/**
+	 * Get a builder of a controller over a fixture ontology and its root class.
+	 *
+	 * @param fixture
+	 *            Fixture name.
+	 * @return Builder of a controller.
+	 * @throws URISyntaxException
+	 *             If an IRI mapping is malformed.
+	 */
+	private static Controller.Builder fixture(String fixture) throws URISyntaxException {
+		switch (fixture) {
+		case "univbench":
+			return new Controller.Builder(IRI.create("file:ontologies/UnivBenchOntology/UnivBench.owl"),
+					"http://swat.cse.lehigh.edu/onto/univ-bench.owl#Organization");
+		case "iot":
+			return new Controller.Builder(IRI.create("file:ontologies/IoTOntology/IoT.owl"),
+					"http://kotis.epizy.com/Ontologies/IoT/IoT-ontology.owl#SmartEntity")
+							.setOntologyIRIMapper(Collections.singletonMap("http://purl.oclc.org/NET/ssnx/ssn",
+									"file:ontologies/IoTOntology/SSN.owl"));
+		default:
+			throw new IllegalArgumentException("Unknown fixture: " + fixture);
+		}
+	}
+
+	/**
+	 * Get the output of the default configuration of a fixture, generated on
+	 * first use.
+	 *
+	 * @param fixture
+	 *            Fixture name.
+	 * @param threads
+	 *            The number of generation threads, 0 for sequential generation.
+	 * @return Output bytes.
+	 * @throws Exception
+	 *             If generation fails.
+	 */
+	private byte[] defaultOutput(String fixture, int threads) throws Exception {
+		String key = fixture + "-default" + threads;
+		byte[] output = defaultOutputs.get(key);
+		if (output == null) {
+			output = generate(fixture(fixture).setThreads(threads), key);
+			defaultOutputs.put(key, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Generate object descriptions in RDF/XML into a temporary file.
+	 *
+	 * @param builder
+	 *            Builder of the controller.
+	 * @param name
+	 *            Base name of the output file, unique among the runs of all tests.
+	 * @return Output bytes.
+	 * @throws IOException
+	 *             If the output file fails to read.
+	 */
+	private byte[] generate(Controller.Builder builder, String name) throws IOException {
+		File outputFile = new File(folder.getRoot(), "GenerationRegressionTest-" + name + ".owl");
+		outputFiles.add(outputFile);
+		builder.setObjNumber(OBJ_NUMBER).setOutputFile(outputFile).build().generateObjectDescriptions();
+		assertTrue(name + " generated no output", outputFile.isFile());
+		return Files.readAllBytes(outputFile.toPath());
+	}
+
+	/**
+	 * Compute the SHA-256 digest of bytes.
+	 *
+	 * @param bytes
+	 *            Bytes to digest.
+	 * @return Digest as hexadecimal string.
+	 * @throws NoSuchAlgorithmException
+	 *             If SHA-256 is not supported.
+	 */
+	private static String sha256(byte[] bytes) throws NoSuchAlgorithmException {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes))
+			sb.append(String.format("%02x", b));
+		return sb.toString();
+	}
+}
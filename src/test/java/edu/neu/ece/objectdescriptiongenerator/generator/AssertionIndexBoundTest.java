@@ -0,0 +1,94 @@
+package edu.neu.ece.objectdescriptiongenerator.generator;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
+
+import edu.neu.ece.objectdescriptiongenerator.extractor.OntologyExtractor;
+import edu.neu.ece.objectdescriptiongenerator.writer.CountingAxiomSink;
+import edu.neu.ece.objectdescriptiongenerator.writer.OutputFormat;
+
+/**
+ * Tests that the assertion index of sequential generation is bounded together
+ * with the individual pools, rather than growing with the number of object
+ * descriptions.
+ *
+ * @author Yanji Chen
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class AssertionIndexBoundTest {
+
+	/**
+	 * The number of object descriptions generated by each run.
+	 */
+	private static final int OBJ_NUMBER = 2000;
+
+	/**
+	 * With bounded individual pools, the assertion index grows while the pools
+	 * fill up and then levels off, holding hardly more assertions over the second
+	 * half of the run than over the first half; with unbounded individual pools,
+	 * it keeps growing with the number of object descriptions.
+	 */
+	@Test
+	public void indexStaysFlatWithBoundedPools() throws Exception {
+		List<Integer> boundedSizes = generate(2);
+		assertTrue("Bounded index grew: " + max(boundedSizes, 0) + " -> " + max(boundedSizes, 1),
+				max(boundedSizes, 1) <= 1.1 * max(boundedSizes, 0));
+		List<Integer> unboundedSizes = generate(0);
+		assertTrue("Unbounded index didn't grow: " + max(unboundedSizes, 0) + " -> " + max(unboundedSizes, 1),
+				max(unboundedSizes, 1) > 1.5 * max(unboundedSizes, 0));
+	}
+
+	/**
+	 * Stream object descriptions of the UnivBench ontology sequentially, and
+	 * record the size of the assertion index after each of them.
+	 *
+	 * @param maxPoolSize
+	 *            The maximum number of created OWL named individuals kept for
+	 *            reuse per OWL class, 0 for unbounded individual pools.
+	 * @return Sizes of the assertion index in the order of object descriptions.
+	 * @throws Exception
+	 *             If the ontology fails to load or object descriptions fail to
+	 *             generate.
+	 */
+	private static List<Integer> generate(int maxPoolSize) throws Exception {
+		OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+		OWLOntology ont = manager
+				.loadOntologyFromOntologyDocument(IRI.create("file:ontologies/UnivBenchOntology/UnivBench.owl"));
+		OntologyExtractor extractor = new OntologyExtractor(ont, new StructuralReasonerFactory().createReasoner(ont));
+		extractor.extract();
+		ObjectDescriptionGenerator generator = new ObjectDescriptionGenerator(
+				"http://swat.cse.lehigh.edu/onto/univ-bench.owl#Organization", OBJ_NUMBER, 0, 0, maxPoolSize,
+				PoolPolicy.RESERVOIR, "", null, OutputFormat.NONE, 0.9, 0.5, 0.5, 0.5, 0.5, 0.5, 0.5, 0.5, 0.5,
+				0.5, 0.5, 0.5, 0.5, 0.5, 0.5, 0.5, manager, ont, extractor, AssertionIndex.of(ont));
+		List<Integer> sizes = new ArrayList<>();
+		generator.setProgressListener(number -> sizes.add(generator.getAssertionIndex().size()));
+		generator.generateRandomRDFObjectDescriptionInstances(new CountingAxiomSink());
+		return sizes;
+	}
+
+	/**
+	 * Get the largest size over a half of the run.
+	 *
+	 * @param sizes
+	 *            Sizes of the assertion index in the order of object descriptions.
+	 * @param half
+	 *            0 for the first half, 1 for the second half.
+	 * @return The largest size.
+	 */
+	private static int max(List<Integer> sizes, int half) {
+		int max = 0;
+		for (int size : sizes.subList(half * sizes.size() / 2, (half + 1) * sizes.size() / 2))
+			max = Math.max(max, size);
+		return max;
+	}
+}